@@ -0,0 +1,167 @@
+package Funding.Startreum;
+
+import Funding.Startreum.domain.project.ProjectCursorPage;
+import Funding.Startreum.domain.project.ProjectDetailDto;
+import Funding.Startreum.domain.project.ProjectDetailService;
+import Funding.Startreum.domain.project.ProjectSearchDto;
+import Funding.Startreum.domain.project.ProjectSearchIndex;
+import Funding.Startreum.domain.project.ProjectSearchService;
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.dto.request.AccountPaymentRequest;
+import Funding.Startreum.domain.virtualaccount.dto.response.AccountPaymentResponse;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import Funding.Startreum.domain.virtualaccount.service.AccountPaymentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 벤치마크 (프로세스 내 H2, test 프로필)
+ * <p>
+ * 애플리케이션 컨텍스트를 한 번 띄우고 사용자/계좌/프로젝트를 미리 넣어 둔 뒤
+ * 검색, 상세 조회, 결제를 실제 트랜잭션으로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int PROJECT_COUNT = 1_000;
+    private static final int SPONSOR_COUNT = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final BigDecimal SPONSOR_BALANCE = BigDecimal.valueOf(1_000_000_000_000L);
+    private static final BigDecimal PAYMENT_AMOUNT = BigDecimal.valueOf(1_000);
+
+    private ConfigurableApplicationContext context;
+    private ProjectSearchService projectSearchService;
+    private ProjectDetailService projectDetailService;
+    private AccountPaymentService accountPaymentService;
+
+    private final List<Integer> projectIds = new ArrayList<>();
+    private final List<String> sponsorNames = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StartreumApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.springframework.web=WARN")
+                .run();
+
+        projectSearchService = context.getBean(ProjectSearchService.class);
+        projectDetailService = context.getBean(ProjectDetailService.class);
+        accountPaymentService = context.getBean(AccountPaymentService.class);
+
+        seed();
+        // 색인은 시작 시점(빈 DB)에 구축되므로 데이터를 넣은 뒤 다시 구축
+        context.getBean(ProjectSearchIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProjectCursorPage searchFirstPage() {
+        return projectSearchService.searchProjectsByCursor(null, null, "newest", null, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public List<ProjectSearchDto> searchByKeyword() {
+        return projectSearchService.searchProjects("프로젝트 " + ThreadLocalRandom.current().nextInt(PROJECT_COUNT),
+                null, 0, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public ProjectDetailDto projectDetail() {
+        return projectDetailService.getProjectDetail(randomOf(projectIds));
+    }
+
+    @Benchmark
+    public AccountPaymentResponse payment() {
+        AccountPaymentRequest request = new AccountPaymentRequest(randomOf(projectIds), PAYMENT_AMOUNT);
+        return accountPaymentService.paymentByUsername(request, randomOf(sponsorNames));
+    }
+
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        VirtualAccountRepository virtualAccountRepository = context.getBean(VirtualAccountRepository.class);
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        LocalDateTime now = LocalDateTime.now();
+
+        User creator = userRepository.save(user("creator", User.Role.BENEFICIARY, now));
+        virtualAccountRepository.save(account(creator, BigDecimal.ZERO, now));
+
+        List<Project> projects = new ArrayList<>(PROJECT_COUNT);
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = new Project();
+            project.setCreator(creator);
+            project.setTitle("프로젝트 " + i);
+            project.setSimpleDescription("간단한 설명 " + i);
+            project.setBannerUrl("https://example.com/banner/" + i + ".png");
+            project.setDescription(("벤치마크용 프로젝트 설명 " + i + " ").repeat(20));
+            project.setFundingGoal(BigDecimal.valueOf(100_000_000));
+            project.setCurrentFunding(BigDecimal.ZERO);
+            project.setStartDate(now.minusDays(i % 30));
+            project.setEndDate(now.plusDays(30 + i % 60));
+            project.setStatus(Project.Status.ONGOING);
+            project.setIsApproved(Project.ApprovalStatus.APPROVE);
+            project.setIsDeleted(false);
+            project.setCreatedAt(now.minusMinutes(i));
+            projects.add(project);
+        }
+        projectRepository.saveAll(projects).forEach(project -> projectIds.add(project.getProjectId()));
+
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            User sponsor = userRepository.save(user("sponsor" + i, User.Role.SPONSOR, now));
+            virtualAccountRepository.save(account(sponsor, SPONSOR_BALANCE, now));
+            sponsorNames.add(sponsor.getName());
+        }
+    }
+
+    private static User user(String name, User.Role role, LocalDateTime now) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        return user;
+    }
+
+    private static VirtualAccount account(User user, BigDecimal balance, LocalDateTime now) {
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(balance);
+        account.setFundingBlock(false);
+        account.setCreatedAt(now);
+        account.setUpdatedAt(now);
+        return account;
+    }
+
+    private static <T> T randomOf(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,57 @@
+package Funding.Startreum.common.util;
+
+import Funding.Startreum.domain.project.ProjectSearchDto;
+import Funding.Startreum.domain.project.entity.Project;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ApiResponse} JSON 직렬화 벤치마크 (Spring MVC와 같은 기본 설정의 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ApiResponse<Void> error;
+    private ApiResponse<Map<String, Object>> searchPage;
+
+    @Setup
+    public void setUp() {
+        error = ApiResponse.error("잔액이 부족합니다. 현재 잔액:0");
+
+        // 검색 목록 한 페이지 (20건)
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectSearchDto> projects = IntStream.range(0, 20)
+                .mapToObj(i -> new ProjectSearchDto(i, "프로젝트 " + i, "간단한 설명 " + i,
+                        "https://example.com/banner/" + i + ".png", null,
+                        BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(i * 100_000L),
+                        now.minusDays(10), now.plusDays(20), Project.Status.ONGOING, 20L))
+                .toList();
+        searchPage = ApiResponse.success("프로젝트 검색 성공", Map.of("projects", projects, "nextCursor", "cursor"));
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] serializeSearchPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(searchPage);
+    }
+}
@@ -0,0 +1,54 @@
+package Funding.Startreum.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtUtil} 토큰 발급/검증 벤치마크
+ * <p>
+ * 검증은 Claims 캐시에 있는 토큰(같은 토큰 반복 사용)과 없는 토큰(서명 재계산)을 나누어 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = jwtUtil.generateAccessToken(1, "tester", "tester@test.com", "SPONSOR");
+        jwtUtil.validateToken(token); // 캐시에 적재
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(1, "tester", "tester@test.com", "SPONSOR");
+    }
+
+    @Benchmark
+    public boolean validateCachedToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateUncachedToken(ColdCache cold) {
+        return cold.jwtUtil.validateToken(token);
+    }
+
+    // 호출마다 빈 캐시의 JwtUtil 사용 (생성 비용은 측정에서 제외)
+    @State(Scope.Thread)
+    public static class ColdCache {
+        JwtUtil jwtUtil;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            jwtUtil = new JwtUtil();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.users.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록/상세 DTO 변환 벤치마크 ({@link ProjectSearchDto#from}, {@link ProjectDetailDto#from})
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectDtoBenchmark {
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final BigDecimal currentFunding = BigDecimal.valueOf(3_450_000);
+
+    private ProjectSearchRow row;
+    private ProjectSearchRow rowWithSnippet;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        row = row(null);
+        // 미리보기 길이보다 한 글자 더 읽어 온 경우 (말줄임표 처리 포함)
+        rowWithSnippet = row("가".repeat(ProjectSearchQueryRepository.SNIPPET_LENGTH + 1));
+
+        User creator = new User();
+        creator.setUserId(1);
+        creator.setName("creator");
+
+        project = new Project();
+        project.setProjectId(1);
+        project.setCreator(creator);
+        project.setTitle("벤치마크 프로젝트");
+        project.setSimpleDescription("간단한 설명");
+        project.setBannerUrl("https://example.com/banner.png");
+        project.setDescription("프로젝트 설명 ".repeat(200));
+        project.setFundingGoal(BigDecimal.valueOf(10_000_000));
+        project.setCurrentFunding(BigDecimal.valueOf(3_000_000));
+        project.setStartDate(now.minusDays(10));
+        project.setEndDate(now.plusDays(20));
+        project.setStatus(Project.Status.ONGOING);
+    }
+
+    @Benchmark
+    public ProjectSearchDto searchDtoFrom() {
+        return ProjectSearchDto.from(row, currentFunding, now);
+    }
+
+    @Benchmark
+    public ProjectSearchDto searchDtoFromWithSnippet() {
+        return ProjectSearchDto.from(rowWithSnippet, currentFunding, now);
+    }
+
+    @Benchmark
+    public ProjectDetailDto detailDtoFrom() {
+        return ProjectDetailDto.from(project, currentFunding);
+    }
+
+    private ProjectSearchRow row(String descriptionSnippet) {
+        return new ProjectSearchRow(1, "벤치마크 프로젝트", "간단한 설명", "https://example.com/banner.png",
+                descriptionSnippet, BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(3_000_000),
+                now.minusDays(10), now.plusDays(20), Project.Status.ONGOING, now.minusDays(11));
+    }
+}
@@ -0,0 +1,96 @@
+package Funding.Startreum.domain.virtualaccount.entity;
+
+import Funding.Startreum.common.util.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VirtualAccount#transferTo} 벤치마크.
+ * <p>
+ * Money는 계좌 잔액에만 쓰이므로, 비교 기준은 잔액을 BigDecimal로 들고 있던 이전 이체 연산(transferBigDecimalBalance)입니다.
+ * <ul>
+ *     <li>transferMoney: Money 금액으로 이체 (잔액 비교/차감/입금이 long 연산)</li>
+ *     <li>transferBigDecimal: 호출부가 BigDecimal 금액을 넘기는 경우 (Money 변환 비용 포함, 현재 결제/환불 경로)</li>
+ *     <li>transferBigDecimalBalance: 이전 구현 (BigDecimal 잔액에 compareTo/subtract/add)</li>
+ * </ul>
+ * 연산당 할당량은 gc 프로파일러의 gc.alloc.rate.norm으로 비교합니다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=VirtualAccountBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualAccountBenchmark {
+
+    private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+    private final Money moneyAmount = Money.of(12_345);
+    private final BigDecimal decimalAmount = BigDecimal.valueOf(12_345);
+
+    private VirtualAccount from;
+    private VirtualAccount to;
+
+    // 이전 구현의 잔액 (BigDecimal)
+    private BigDecimal fromBalance;
+    private BigDecimal toBalance;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        from = account(INITIAL_BALANCE);
+        to = account(0);
+        fromBalance = BigDecimal.valueOf(INITIAL_BALANCE);
+        toBalance = BigDecimal.ZERO;
+    }
+
+    @Benchmark
+    public VirtualAccount transferMoney() {
+        return transfer(moneyAmount);
+    }
+
+    // 기존 호출부처럼 BigDecimal 금액을 넘기는 경우 (Money 변환 포함)
+    @Benchmark
+    public VirtualAccount transferBigDecimal() {
+        swapIfDrained();
+        from.transferTo(decimalAmount, to);
+        return to;
+    }
+
+    // 잔액이 BigDecimal이던 이전 transferTo와 같은 연산
+    @Benchmark
+    public BigDecimal transferBigDecimalBalance() {
+        if (fromBalance.compareTo(decimalAmount) < 0) {
+            BigDecimal swap = fromBalance;
+            fromBalance = toBalance;
+            toBalance = swap;
+        }
+        fromBalance = fromBalance.subtract(decimalAmount);
+        toBalance = toBalance.add(decimalAmount);
+        return toBalance;
+    }
+
+    private VirtualAccount transfer(Money amount) {
+        swapIfDrained();
+        from.transferTo(amount, to);
+        return to;
+    }
+
+    // 잔액이 바닥나면 방향을 바꿔 계속 이체
+    private void swapIfDrained() {
+        if (from.getBalanceMoney().isLessThan(moneyAmount)) {
+            VirtualAccount swap = from;
+            from = to;
+            to = swap;
+        }
+    }
+
+    private static VirtualAccount account(long balance) {
+        VirtualAccount account = new VirtualAccount();
+        account.setBalance(BigDecimal.valueOf(balance));
+        return account;
+    }
+}
@@ -0,0 +1,17 @@
+package Funding.Startreum.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 프록시가 전달한 클라이언트 IP(X-Forwarded-For) 해석 기본 설정을 로드합니다.
+ * <p>
+ * 로드밸런서 뒤에서는 모든 요청의 원격 주소가 로드밸런서 IP이므로, 로그인 시도 제한처럼 IP별로 처리하는 기능이
+ * 전체 사용자를 하나로 묶지 않도록 신뢰하는 프록시가 보낸 헤더로 {@code request.getRemoteAddr()}를 실제 클라이언트 IP로 바꿉니다.
+ * 신뢰하지 않는 주소에서 온 헤더는 무시되므로 클라이언트가 임의로 IP를 위조할 수 없습니다.
+ * 우선순위가 가장 낮은 기본값이므로 application.properties 등에서 재정의할 수 있습니다.
+ */
+@Configuration
+@PropertySource("classpath:forwarded-headers.properties")
+public class ForwardedHeadersConfig {
+}
@@ -0,0 +1,70 @@
+package Funding.Startreum.common.config;
+
+import Funding.Startreum.domain.users.User;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * URL 경로의 사용자 이름과 로그인한 사용자를 비교하는 권한 규칙.
+ * <p>
+ * 요청 매처가 이미 추출한 경로 변수만 사용하므로 요청마다 URI 문자열을 분리하지 않으며, DB도 조회하지 않습니다.
+ * 이름은 대소문자를 구분하지 않고 비교합니다. ({@link User#normalizeName})
+ */
+public final class PathOwnerAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private final String variable;
+    private final boolean allowAdmin;
+
+    private PathOwnerAuthorizationManager(String variable, boolean allowAdmin) {
+        this.variable = variable;
+        this.allowAdmin = allowAdmin;
+    }
+
+    /**
+     * 본인만 허용
+     * @param variable 사용자 이름 경로 변수 (예: "name")
+     */
+    public static PathOwnerAuthorizationManager self(String variable) {
+        return new PathOwnerAuthorizationManager(variable, false);
+    }
+
+    /**
+     * 본인 또는 관리자 허용
+     * @param variable 사용자 이름 경로 변수 (예: "name")
+     */
+    public static PathOwnerAuthorizationManager selfOrAdmin(String variable) {
+        return new PathOwnerAuthorizationManager(variable, true);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authenticationSupplier, RequestAuthorizationContext context) {
+        Authentication authentication = authenticationSupplier.get();
+        if (authentication == null || !authentication.isAuthenticated() || TRUST_RESOLVER.isAnonymous(authentication)) {
+            return new AuthorizationDecision(false);
+        }
+
+        String pathUsername = context.getVariables().get(variable);
+        boolean isOwner = pathUsername != null
+                && User.normalizeName(pathUsername).equals(User.normalizeName(authentication.getName()));
+        if (isOwner || !allowAdmin) {
+            return new AuthorizationDecision(isOwner);
+        }
+
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ROLE_ADMIN.equals(authority.getAuthority())) {
+                return new AuthorizationDecision(true);
+            }
+        }
+        return new AuthorizationDecision(false);
+    }
+}
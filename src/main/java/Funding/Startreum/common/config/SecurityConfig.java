@@ -7,12 +7,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -82,32 +80,14 @@ public class SecurityConfig {
 
                         .requestMatchers("/profile/{name}").permitAll()  // ✅ 프로필 뷰는 인증 없이 접근 가능
                         .requestMatchers("/profile/modify/{name}").permitAll() // ✅ 프로필 수정 뷰도 인증 없이 접근 가능
-                        .requestMatchers("/api/users/profile/{name}").authenticated()  // ✅ 프로필 API는 인증 필요
+                        .requestMatchers("/api/users/profile/{name}").access(PathOwnerAuthorizationManager.self("name"))  // ✅ 프로필 API는 본인만 조회 가능
                         .requestMatchers("/api/users/profile/modify/{name}")
-                        .access((authenticationSupplier, context) -> {
-                            Authentication authentication = authenticationSupplier.get();
-                            String pathUsername = context.getVariables().get("name");
-
-                            boolean isOwner = authentication.getName().equals(pathUsername);
-                            boolean isAdmin = authentication.getAuthorities().stream()
-                                    .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
-
-                            return new AuthorizationDecision(isOwner || isAdmin);  // ✅ 본인 또는 관리자만 수정 가능
-                        })
+                        .access(PathOwnerAuthorizationManager.selfOrAdmin("name"))  // ✅ 본인 또는 관리자만 수정 가능
 
                         .requestMatchers("/profile/account/{name}").permitAll()  // ✅ HTML 페이지는 인증 없이 접근 가능
                         .requestMatchers(HttpMethod.GET, "/api/account/user/{name}").authenticated()  // ✅ 계좌 조회는 로그인 필요
                         .requestMatchers(HttpMethod.POST, "/api/account/user/{name}/create")
-                        .access((authenticationSupplier, context) -> {
-                            Authentication authentication = authenticationSupplier.get();
-                            String requestURI = context.getRequest().getRequestURI();
-
-                            // 호출된 사용자 이름 추출
-                            String[] parts = requestURI.split("/"); // /api/account/user/{name}/create 형태
-                            String pathUsername = parts[parts.length - 2]; // {name} 위치
-
-                            return new AuthorizationDecision(authentication.getName().equals(pathUsername));  // ✅ 본인만 계좌 생성 가능
-                        })
+                        .access(PathOwnerAuthorizationManager.self("name"))  // ✅ 본인만 계좌 생성 가능
 
                         // ✅ 모든 API 요청에 대해 JWT 인증 필터 적용
                         .anyRequest().authenticated()
@@ -0,0 +1,27 @@
+package Funding.Startreum.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰, 멱등 키 등 원문을 보관하지 않아야 하는 값의 해시 유틸리티.
+ */
+public final class HashUtil {
+
+    private HashUtil() {
+    }
+
+    /**
+     * UTF-8 문자열의 SHA-256 해시 (16진수 소문자 64자)
+     */
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
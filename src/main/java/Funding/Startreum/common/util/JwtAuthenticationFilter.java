@@ -1,11 +1,16 @@
 package Funding.Startreum.common.util;
 
+import Funding.Startreum.domain.users.AuthenticatedUser;
+import Funding.Startreum.domain.users.TokenRevocationRegistry;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,10 +23,20 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final boolean statelessPrincipal;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    /**
+     * @param statelessPrincipal true면 DB 조회 없이 검증된 Claims(subject, role)로 UserDetails를 만들고
+     *                           무효화 목록으로만 확인합니다. false면 요청마다 DB에서 사용자를 조회합니다.
+     */
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   TokenRevocationRegistry tokenRevocationRegistry,
+                                   @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -39,11 +54,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = header.replace("Bearer ", "");
+        String token = header.substring(7); // "Bearer " 이후
         String username = null;
+        Claims claims;
 
         try {
-            username = jwtUtil.getNameFromToken(token).trim();
+            // ✅ 요청당 한 번만 파싱/검증하고, 이후 단계에서는 요청 속성의 Claims를 사용
+            claims = jwtUtil.parseClaims(token);
+            username = claims.getSubject().toLowerCase().trim();
+            request.setAttribute(JwtUtil.CLAIMS_ATTRIBUTE, claims);
           //  System.out.println("✅ JWT에서 추출된 사용자명: " + username);
         } catch (Exception e) {
            // System.out.println("❌ JWT에서 사용자명 추출 실패: " + e.getMessage());
@@ -51,21 +70,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // ✅ URL에서 사용자 이름 추출
-        String requestURI = request.getRequestURI();
-        if (requestURI.startsWith("/api/users/profile/")) {
-            String requestedName = requestURI.replace("/api/users/profile/", "");
-           // System.out.println("📌 요청된 프로필 사용자명: " + requestedName);
+        if (username != null && statelessPrincipal && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // ✅ Claims 기반 인증 (DB 조회 없음)
+            if (!tokenRevocationRegistry.isRevoked(claims.getSubject(), claims.getIssuedAt())) {
+                UserDetails userDetails = toUserDetails(claims);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            // ✅ 요청한 사용자명과 JWT 사용자명이 다르면 403 Forbidden
-            if (!requestedName.equals(username)) {
-             //   System.out.println("❌ 프로필 접근 권한 없음! (본인만 접근 가능)");
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "자신의 프로필만 볼 수 있습니다.");
-                return;
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails;
             try {
                 userDetails = userDetailsService.loadUserByUsername(username);
@@ -75,7 +90,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (jwtUtil.validateToken(token, userDetails)) {
+            if (jwtUtil.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -87,4 +102,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 검증된 Claims로 UserDetails 생성 (CustomUserDetailsService와 같은 형태, 비밀번호 없음)
+     */
+    private UserDetails toUserDetails(Claims claims) {
+        String role = claims.get("role", String.class);
+        String authority = (role != null && role.startsWith("ROLE_")) ? role : "ROLE_" + role;
+
+        return new AuthenticatedUser(claims.get(JwtUtil.USER_ID_CLAIM, Integer.class), claims.getSubject(), "",
+                AuthorityUtils.createAuthorityList(authority));
+    }
 }
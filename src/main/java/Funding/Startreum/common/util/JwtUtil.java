@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -16,8 +17,31 @@ public class JwtUtil {
     private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 30; // 30분
     private static final long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7; // 7일
 
+    private static final int CLAIMS_CACHE_SIZE = 10_000;
+
+    /**
+     * JwtAuthenticationFilter가 검증한 Claims를 저장하는 요청 속성 이름
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".CLAIMS";
+
+    /**
+     * 사용자 ID 클레임 이름 (권한 검사 시 DB 조회 없이 본인 여부 확인)
+     */
+    public static final String USER_ID_CLAIM = "userId";
+
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
 
+    // ✅ 파서는 스레드 안전하므로 한 번만 생성하여 재사용
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // ✅ 검증된 토큰은 만료 시각까지 서명 재검증 없이 사용
+    private final VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(CLAIMS_CACHE_SIZE);
+
+
+    // ✅ Access Token 만료 시간 Getter
+    public long getAccessTokenExpiration() {
+        return ACCESS_TOKEN_EXPIRATION;
+    }
 
     // ✅ Refresh Token 만료 시간 Getter 추가
     public long getRefreshTokenExpiration() {
@@ -27,9 +51,15 @@ public class JwtUtil {
 
     // ✅ Access Token 생성 (role 값을 "ROLE_" 접두어 유지)
     public String generateAccessToken(String name, String email, String role) {
+        return generateAccessToken(null, name, email, role);
+    }
+
+    // ✅ Access Token 생성 (사용자 ID 포함)
+    public String generateAccessToken(Integer userId, String name, String email, String role) {
         String formattedRole = role.startsWith("ROLE_") ? role : "ROLE_" + role; // ✅ ROLE_ 접두어 유지
         return Jwts.builder()
                 .setSubject(name) // ✅ subject에 name(ID) 저장
+                .claim(USER_ID_CLAIM, userId) // ✅ 사용자 ID (null이면 생략)
                 .claim("email", email) // ✅ email을 claim으로 추가
                 .claim("role", formattedRole) // ✅ ROLE_ 접두어 유지
                 .setIssuedAt(new Date())
@@ -42,20 +72,39 @@ public class JwtUtil {
     public String generateRefreshToken(String name) {
         return Jwts.builder()
                 .setSubject(name) // ✅ subject에 name(ID) 저장
+                .setId(UUID.randomUUID().toString()) // ✅ 같은 초에 재발급해도 토큰이 달라지도록 jti 추가
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰의 서명과 만료를 검증하고 Claims를 반환합니다.
+     * 이미 검증된 토큰은 만료 시각까지 캐시에서 반환하므로 서명을 다시 계산하지 않습니다.
+     *
+     * @throws JwtException 잘못되었거나 만료된 토큰
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims);
+        return claims;
+    }
+
+    // ✅ 이미 검증된 Claims와 UserDetails의 사용자명 일치 여부 확인
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return claims != null && claims.getSubject() != null && claims.getSubject().equals(userDetails.getUsername());
+    }
+
     // ✅ Access Token 검증 (UserDetails 포함)
     public boolean validateToken(String token, UserDetails userDetails) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parseClaims(token);
 
             String tokenUsername = claims.getSubject();
             //System.out.println("📌 토큰에서 추출한 사용자명: " + tokenUsername);
@@ -83,10 +132,7 @@ public class JwtUtil {
     // ✅ Refresh Token 검증 (UserDetails 필요 없음)
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             System.out.println("❌ Token expired: " + e.getMessage());
@@ -103,11 +149,7 @@ public class JwtUtil {
     // ✅ 토큰에서 사용자 이름(name) 추출
     public String getNameFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
+            return parseClaims(token)
                     .getSubject() // ✅ subject에서 name(ID) 추출
                     .toLowerCase(); // ✅ 항상 소문자로 변환
         } catch (Exception e) {
@@ -119,11 +161,7 @@ public class JwtUtil {
     // ✅ 토큰에서 email 추출
     public String getEmailFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
+            return parseClaims(token)
                     .get("email", String.class); // ✅ claim에서 email 추출
         } catch (Exception e) {
             System.out.println("❌ Token parsing error: " + e.getMessage());
@@ -134,12 +172,7 @@ public class JwtUtil {
     // ✅ 토큰에서 role(권한) 추출 (ROLE_ 접두어 유지)
     public String getRoleFromToken(String token) {
         try {
-            String role = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("role", String.class);
+            String role = parseClaims(token).get("role", String.class);
 
             System.out.println("📌 JWT에서 추출된 역할: " + role);
 
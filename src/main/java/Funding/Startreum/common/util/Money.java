@@ -0,0 +1,76 @@
+package Funding.Startreum.common.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+/**
+ * 원 단위 금액 (소수점 없는 정수, long).
+ * <p>
+ * 계좌 잔액({@code VirtualAccount.balance})에만 사용합니다. 결제/환불마다 반복되는 잔액 비교와 차감/입금이
+ * BigDecimal 객체 생성 없이 long 연산으로 처리되며, 범위를 넘으면 값이 잘못 돌아가는 대신 {@link ArithmeticException}을 던집니다.
+ * 거래/후원 금액과 프로젝트 펀딩 금액, 요청/응답 DTO는 BigDecimal 그대로이며 잔액과 만나는 지점에서만 변환합니다.
+ * (효과는 VirtualAccountBenchmark에서 이전 BigDecimal 잔액 연산과 비교)
+ * JSON에서는 숫자 하나로 주고받습니다.
+ */
+public record Money(long amount) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(long amount) {
+        return amount == 0 ? ZERO : new Money(amount);
+    }
+
+    /**
+     * @throws ArithmeticException 소수점 이하 값이 있거나 long 범위를 넘는 경우
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount.longValueExact());
+    }
+
+    @JsonValue
+    @Override
+    public long amount() {
+        return amount;
+    }
+
+    public Money add(Money other) {
+        return of(Math.addExact(amount, other.amount));
+    }
+
+    public Money subtract(Money other) {
+        return of(Math.subtractExact(amount, other.amount));
+    }
+
+    public Money negate() {
+        return of(Math.negateExact(amount));
+    }
+
+    public boolean isLessThan(Money other) {
+        return amount < other.amount;
+    }
+
+    public boolean isNegative() {
+        return amount < 0;
+    }
+
+    public boolean isZero() {
+        return amount == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(amount);
+    }
+}
@@ -0,0 +1,21 @@
+package Funding.Startreum.common.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link Money} ↔ 정수 컬럼(BIGINT) 변환
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.amount();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
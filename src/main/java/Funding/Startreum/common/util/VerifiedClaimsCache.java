@@ -0,0 +1,55 @@
+package Funding.Startreum.common.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 통과한 JWT의 Claims 캐시.
+ * <p>
+ * 원본 토큰 대신 SHA-256 해시를 키로 사용하며, 항목은 토큰의 만료 시각(exp)까지만 유효합니다.
+ * 크기가 한도를 넘으면 만료된 항목을 먼저 정리하고, 그래도 넘으면 전체를 비웁니다.
+ */
+class VerifiedClaimsCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return 캐시된 Claims, 없거나 만료되었으면 null
+     */
+    Claims get(String token) {
+        String key = HashUtil.sha256(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return; // 만료 시각이 없는 토큰은 캐싱하지 않음
+        }
+        if (entries.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(HashUtil.sha256(token), new Entry(claims, claims.getExpiration().getTime()));
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
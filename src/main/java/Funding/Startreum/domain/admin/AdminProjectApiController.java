@@ -79,4 +79,42 @@ public class AdminProjectApiController {
 
         return ResponseEntity.ok("✅ 프로젝트 상태가 변경되었습니다.");
     }
-}
\ No newline at end of file
+
+    /**
+     * 🔹 프로젝트 일괄 환불 진행 상황 조회 API
+     */
+    @GetMapping("/{projectId}/refunds")
+    public ResponseEntity<RefundProgressDto> getRefundProgress(
+            @PathVariable Integer projectId,
+            Authentication authentication
+    ) {
+        if (authentication == null || authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .noneMatch(role -> role.equals("ROLE_ADMIN"))) {
+            return ResponseEntity.status(403).body(null);
+        }
+
+        return ResponseEntity.ok(projectAdminService.getRefundProgress(projectId));
+    }
+
+    /**
+     * 🔹 프로젝트 정산 작업 진행 상황 조회 API
+     */
+    @GetMapping("/{projectId}/settlement")
+    public ResponseEntity<SettlementProgressDto> getSettlementProgress(
+            @PathVariable Integer projectId,
+            Authentication authentication
+    ) {
+        if (authentication == null || authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .noneMatch(role -> role.equals("ROLE_ADMIN"))) {
+            return ResponseEntity.status(403).body(null);
+        }
+
+        try {
+            return ResponseEntity.ok(projectAdminService.getSettlementProgress(projectId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
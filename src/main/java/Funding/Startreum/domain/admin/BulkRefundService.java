@@ -0,0 +1,242 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.ledger.entity.LedgerEntry;
+import Funding.Startreum.domain.transaction.entity.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 실패한 프로젝트의 후원금을 청크 단위로 일괄 환불하는 서비스.
+ * <p>
+ * 청크마다
+ * 1) 펀딩/후원자 계좌/원 결제 트랜잭션을 조인 쿼리 한 번으로 조회하고,
+ * 2) 계좌별 증감액을 합산한 뒤 계좌 ID 오름차순으로 set-based UPDATE를 JDBC 배치로 실행하고,
+ * 3) 환불 트랜잭션과 원장 차변/대변 항목을 JDBC 배치 INSERT로 기록하고,
+ * 4) 펀딩 삭제 처리와 체크포인트 갱신을 같은 트랜잭션으로 커밋합니다.
+ * <p>
+ * 중단되더라도 체크포인트의 마지막 펀딩 ID 이후부터 다시 실행하면 됩니다.
+ */
+@Slf4j
+@Service
+public class BulkRefundService {
+
+    // 잔액이 음수가 되는 경우 0건이 갱신되어 청크 전체가 롤백됩니다.
+    private static final String APPLY_BALANCE_DELTA_SQL =
+            "UPDATE virtual_accounts SET balance = balance + ?, updated_at = ? " +
+                    "WHERE account_id = ? AND balance + ? >= 0";
+
+    private static final String INSERT_REFUND_TRANSACTION_SQL =
+            "INSERT INTO transaction " +
+                    "(funding_id, admin_id, sender_account_id, receiver_account_id, amount, type, transaction_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] INSERT_REFUND_TRANSACTION_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.DECIMAL, Types.VARCHAR, Types.TIMESTAMP
+    };
+
+    // 방금 기록한 환불 트랜잭션(펀딩당 1건)의 원장 항목 (LedgerService.post와 같은 방향: 송신 계좌 차변, 수신 계좌 대변)
+    private static final String INSERT_REFUND_LEDGER_ENTRY_SQL =
+            "INSERT INTO ledger_entry (transaction_id, account_id, direction, amount, created_at) " +
+                    "SELECT t.transaction_id, ?, ?, t.amount, t.transaction_date FROM transaction t " +
+                    "WHERE t.funding_id = ? AND t.type = ?";
+
+    private static final int[] INSERT_REFUND_LEDGER_ENTRY_TYPES = {
+            Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.VARCHAR
+    };
+
+    private final FundingFindRepository fundingFindRepository;
+    private final RefundCheckpointRepository refundCheckpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+
+    public BulkRefundService(FundingFindRepository fundingFindRepository,
+                             RefundCheckpointRepository refundCheckpointRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${refund.chunk-size:500}") int chunkSize) {
+        this.fundingFindRepository = fundingFindRepository;
+        this.refundCheckpointRepository = refundCheckpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 프로젝트의 환불되지 않은 후원 내역을 모두 환불합니다.
+     * 청크마다 별도 트랜잭션으로 커밋되므로, 실패 시 이미 커밋된 청크는 유지되고 다음 실행에서 이어서 처리합니다.
+     *
+     * @param projectId 환불할 프로젝트 ID
+     * @return 환불 완료 후 진행 상황
+     */
+    public RefundProgressDto refundAll(Integer projectId) {
+        return refundAll(projectId, () -> { });
+    }
+
+    /**
+     * 프로젝트의 환불되지 않은 후원 내역을 모두 환불합니다.
+     *
+     * @param projectId       환불할 프로젝트 ID
+     * @param afterEachChunk  청크가 커밋될 때마다 호출 (정산 워커의 heartbeat 갱신 등, 예외를 던지면 중단)
+     * @return 환불 완료 후 진행 상황
+     */
+    public RefundProgressDto refundAll(Integer projectId, Runnable afterEachChunk) {
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = Boolean.TRUE.equals(chunkTransactionTemplate.execute(status -> processChunk(projectId)));
+            if (hasMore) {
+                afterEachChunk.run();
+            }
+        }
+        return getProgress(projectId);
+    }
+
+    /**
+     * 환불 진행 상황을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public RefundProgressDto getProgress(Integer projectId) {
+        RefundCheckpoint checkpoint = refundCheckpointRepository.findById(projectId).orElse(null);
+        long remainingCount = fundingFindRepository.countActiveFundingsByProjectId(projectId);
+        return RefundProgressDto.of(projectId, checkpoint, remainingCount);
+    }
+
+    /**
+     * 환불 청크 하나를 처리합니다.
+     *
+     * @return 처리한 행이 있으면 true (다음 청크가 남아 있을 수 있음)
+     */
+    private boolean processChunk(Integer projectId) {
+        RefundCheckpoint checkpoint = refundCheckpointRepository.findByIdForUpdate(projectId)
+                .orElseGet(() -> new RefundCheckpoint(projectId));
+
+        int afterFundingId = checkpoint.getLastFundingId() == null ? 0 : checkpoint.getLastFundingId();
+        List<RefundTarget> targets = fundingFindRepository.findRefundTargets(projectId, afterFundingId, PageRequest.of(0, chunkSize));
+
+        if (targets.isEmpty()) {
+            checkpoint.setStatus(RefundCheckpoint.Status.COMPLETED);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            refundCheckpointRepository.save(checkpoint);
+            return false;
+        }
+
+        validate(targets);
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+
+        // 1) 계좌별 증감액 합산 (후원자 +, 수혜자 -)
+        Map<Integer, BigDecimal> balanceDeltas = new TreeMap<>();
+        List<Object[]> refundTransactions = new ArrayList<>(targets.size());
+        List<Object[]> ledgerEntries = new ArrayList<>(targets.size() * 2);
+        List<Integer> fundingIds = new ArrayList<>(targets.size());
+        BigDecimal chunkAmount = BigDecimal.ZERO;
+
+        for (RefundTarget target : targets) {
+            balanceDeltas.merge(target.sponsorAccountId(), target.amount(), BigDecimal::add);
+            balanceDeltas.merge(target.beneficiaryAccountId(), target.amount().negate(), BigDecimal::add);
+
+            refundTransactions.add(new Object[]{
+                    target.fundingId(),
+                    target.adminId(),             // 결제 당시 관리자
+                    target.beneficiaryAccountId(), // 수혜자 계좌(송신자)
+                    target.sponsorAccountId(),     // 후원자 계좌(수신자)
+                    target.amount(),
+                    Transaction.TransactionType.REFUND.name(),
+                    nowTimestamp
+            });
+            ledgerEntries.add(new Object[]{
+                    target.beneficiaryAccountId(), LedgerEntry.Direction.DEBIT.name(),
+                    target.fundingId(), Transaction.TransactionType.REFUND.name()
+            });
+            ledgerEntries.add(new Object[]{
+                    target.sponsorAccountId(), LedgerEntry.Direction.CREDIT.name(),
+                    target.fundingId(), Transaction.TransactionType.REFUND.name()
+            });
+            fundingIds.add(target.fundingId());
+            chunkAmount = chunkAmount.add(target.amount());
+        }
+
+        // 2) 계좌 잔액 반영 (계좌 ID 오름차순 → 결제와 같은 락 순서)
+        applyBalanceDeltas(balanceDeltas, nowTimestamp);
+
+        // 3) 환불 트랜잭션 및 원장 항목 일괄 기록 (잔액 변경과 함께 커밋되어야 대사에서 불일치가 나지 않음)
+        jdbcTemplate.batchUpdate(INSERT_REFUND_TRANSACTION_SQL, refundTransactions, INSERT_REFUND_TRANSACTION_TYPES);
+        insertLedgerEntries(ledgerEntries);
+
+        // 4) 펀딩 삭제 처리 및 체크포인트 갱신
+        int markedRows = fundingFindRepository.markRefundedByIds(fundingIds);
+        if (markedRows != fundingIds.size()) {
+            throw new IllegalStateException("❌ 다른 작업에서 이미 환불된 후원 내역이 있습니다. projectId: " + projectId);
+        }
+
+        checkpoint.setLastFundingId(targets.get(targets.size() - 1).fundingId());
+        checkpoint.setRefundedCount(checkpoint.getRefundedCount() + targets.size());
+        checkpoint.setRefundedAmount(checkpoint.getRefundedAmount().add(chunkAmount));
+        checkpoint.setStatus(RefundCheckpoint.Status.RUNNING);
+        checkpoint.setUpdatedAt(now);
+        refundCheckpointRepository.save(checkpoint);
+
+        log.info("환불 청크 완료 - projectId: {}, 건수: {}, 금액: {}", projectId, targets.size(), chunkAmount);
+        return true;
+    }
+
+    private void validate(List<RefundTarget> targets) {
+        Set<Integer> seenFundingIds = new HashSet<>();
+        for (RefundTarget target : targets) {
+            if (target.sponsorAccountId() == null) {
+                throw new IllegalArgumentException("❌ 후원자의 가상 계좌를 찾을 수 없습니다. sponsorId: " + target.sponsorId());
+            }
+            if (target.originalTransactionId() == null) {
+                throw new IllegalArgumentException("❌ 해당 펀딩의 결제 트랜잭션을 찾을 수 없습니다. fundingId: " + target.fundingId());
+            }
+            if (!seenFundingIds.add(target.fundingId())) {
+                throw new IllegalStateException("❌ 결제 트랜잭션이 여러 건인 펀딩은 일괄 환불할 수 없습니다. fundingId: " + target.fundingId());
+            }
+        }
+    }
+
+    private void applyBalanceDeltas(Map<Integer, BigDecimal> balanceDeltas, Timestamp now) {
+        List<Object[]> updates = new ArrayList<>(balanceDeltas.size());
+        balanceDeltas.forEach((accountId, delta) -> updates.add(new Object[]{delta, now, accountId, delta}));
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(APPLY_BALANCE_DELTA_SQL, updates,
+                new int[]{Types.DECIMAL, Types.TIMESTAMP, Types.INTEGER, Types.DECIMAL});
+
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                throw new IllegalStateException("❌ 수혜자 계좌의 잔액이 부족하여 환불할 수 없습니다. accountId: " + updates.get(i)[2]);
+            }
+        }
+    }
+
+    private void insertLedgerEntries(List<Object[]> ledgerEntries) {
+        int[] insertedRows = jdbcTemplate.batchUpdate(INSERT_REFUND_LEDGER_ENTRY_SQL, ledgerEntries,
+                INSERT_REFUND_LEDGER_ENTRY_TYPES);
+
+        for (int i = 0; i < insertedRows.length; i++) {
+            if (insertedRows[i] == 0) {
+                throw new IllegalStateException("❌ 환불 트랜잭션의 원장 항목을 기록할 수 없습니다. fundingId: " + ledgerEntries.get(i)[2]);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package Funding.Startreum.domain.admin;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 종료일이 지나 마감 대상인 프로젝트
+public record ExpiredProject(
+        Integer projectId,          // 프로젝트 ID
+        BigDecimal fundingGoal,     // 펀딩 목표 금액
+        BigDecimal currentFunding,  // DB에 반영된 펀딩 금액
+        LocalDateTime endDate       // 펀딩 종료일
+) {
+}
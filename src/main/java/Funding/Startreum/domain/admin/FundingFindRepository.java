@@ -1,9 +1,11 @@
 package Funding.Startreum.domain.admin;
 
 import Funding.Startreum.domain.funding.entity.Funding;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -26,4 +28,33 @@ public interface FundingFindRepository extends JpaRepository<Funding, Integer> {
     @Transactional
     @Query("UPDATE Funding f SET f.isDeleted = true WHERE f.project.projectId = :projectId")
     void markFundingsAsRefunded(Integer projectId);
-}
\ No newline at end of file
+
+    // 특정 프로젝트의 환불되지 않은 후원 건수
+    @Query("SELECT COUNT(f) FROM Funding f WHERE f.project.projectId = :projectId AND f.isDeleted = false")
+    long countActiveFundingsByProjectId(@Param("projectId") Integer projectId);
+
+    /**
+     * 환불 대상 청크 조회 (펀딩 ID 기준 keyset)
+     * 펀딩, 후원자 계좌, 원 결제 트랜잭션을 한 번의 조인 쿼리로 가져옵니다.
+     * 후원자 계좌나 원 트랜잭션이 없으면 해당 ID 값이 null로 반환됩니다.
+     */
+    @Query("SELECT new Funding.Startreum.domain.admin.RefundTarget(" +
+            "f.fundingId, f.amount, s.userId, sa.accountId, t.transactionId, ra.accountId, a.userId) " +
+            "FROM Funding f " +
+            "JOIN f.sponsor s " +
+            "LEFT JOIN VirtualAccount sa ON sa.user = s " +
+            "LEFT JOIN Transaction t ON t.funding = f " +
+            "AND t.type = Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REMITTANCE " +
+            "LEFT JOIN t.receiverAccount ra " +
+            "LEFT JOIN t.admin a " +
+            "WHERE f.project.projectId = :projectId AND f.isDeleted = false AND f.fundingId > :afterFundingId " +
+            "ORDER BY f.fundingId")
+    List<RefundTarget> findRefundTargets(@Param("projectId") Integer projectId,
+                                         @Param("afterFundingId") Integer afterFundingId,
+                                         Pageable pageable);
+
+    // 환불 완료된 후원 내역을 ID 목록으로 일괄 삭제 처리
+    @Modifying
+    @Query("UPDATE Funding f SET f.isDeleted = true WHERE f.fundingId IN :fundingIds AND f.isDeleted = false")
+    int markRefundedByIds(@Param("fundingIds") List<Integer> fundingIds);
+}
@@ -5,12 +5,14 @@ import Funding.Startreum.domain.project.entity.Project.ApprovalStatus;
 
 import Funding.Startreum.domain.project.entity.Project;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProjectAdminRepository extends JpaRepository<Project, Integer> {
@@ -45,4 +47,42 @@ public interface ProjectAdminRepository extends JpaRepository<Project, Integer>
      * 🔹 승인 상태(isApproved)로 프로젝트 목록 조회 (관리자용)
      */
     List<Project> findByIsApproved(ApprovalStatus approvalStatus);
-}
\ No newline at end of file
+
+    // 자동 마감 대상: 승인되었고 삭제되지 않은 프로젝트 (승인 대기/거절 프로젝트는 정산·환불하지 않음)
+    String CLOSABLE = "p.isApproved = Funding.Startreum.domain.project.entity.Project.ApprovalStatus.APPROVE " +
+            "AND p.isDeleted = false ";
+
+    /**
+     * 🔹 종료일이 지난 진행 중 프로젝트를 (endDate, projectId) 순서의 키셋으로 조회
+     * (status, end_date) 인덱스의 범위 조회로 처리됩니다.
+     */
+    @Query("SELECT new Funding.Startreum.domain.admin.ExpiredProject(p.projectId, p.fundingGoal, p.currentFunding, p.endDate) " +
+            "FROM Project p " +
+            "WHERE p.status = Funding.Startreum.domain.project.entity.Project.Status.ONGOING " +
+            "AND " + CLOSABLE +
+            "AND p.endDate <= :now " +
+            "AND (p.endDate > :afterEndDate OR (p.endDate = :afterEndDate AND p.projectId > :afterProjectId)) " +
+            "ORDER BY p.endDate, p.projectId")
+    List<ExpiredProject> findExpiredOngoing(@Param("now") LocalDateTime now,
+                                            @Param("afterEndDate") LocalDateTime afterEndDate,
+                                            @Param("afterProjectId") Integer afterProjectId,
+                                            Pageable pageable);
+
+    /**
+     * 🔹 아직 닫히지 않은 프로젝트 중 가장 오래된 종료일 조회 (마감 지연 측정용)
+     */
+    @Query("SELECT MIN(p.endDate) FROM Project p " +
+            "WHERE p.status = Funding.Startreum.domain.project.entity.Project.Status.ONGOING " +
+            "AND " + CLOSABLE + "AND p.endDate <= :now")
+    LocalDateTime findOldestExpiredEndDate(@Param("now") LocalDateTime now);
+
+    /**
+     * 🔹 진행 중인 승인 프로젝트만 마감 상태로 변경 (관리자가 먼저 상태/승인을 변경한 경우 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :status, p.updatedAt = :now " +
+            "WHERE p.projectId = :projectId AND p.status = Funding.Startreum.domain.project.entity.Project.Status.ONGOING " +
+            "AND " + CLOSABLE)
+    int closeIfOngoing(@Param("projectId") Integer projectId, @Param("status") Project.Status status,
+                       @Param("now") LocalDateTime now);
+}
@@ -1,38 +1,32 @@
 package Funding.Startreum.domain.admin;
 
-import Funding.Startreum.domain.funding.entity.Funding;
 import Funding.Startreum.domain.project.entity.Project;
-import Funding.Startreum.domain.transaction.entity.Transaction;
-import Funding.Startreum.domain.transaction.repository.TransactionRepository;
-import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.project.entity.ProjectChangedEvent;
 import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.List;
-
+@Slf4j
 @Service
 public class ProjectAdminService {
 
     private final ProjectAdminRepository projectAdminRepository;
     private final EntityManager entityManager;
-    private final FundingFindRepository fundingFindRepository;
-    private final TransactionRepository transactionRepository;
-    private final VirtualAccountFindRepository vrtualAccountFindRepository;
-    private final TransactionFindRepository transactionFindRepository;
+    private final BulkRefundService bulkRefundService;
+    private final SettlementJobService settlementJobService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProjectAdminService(ProjectAdminRepository projectAdminRepository, EntityManager entityManager,
-                               FundingFindRepository fundingFindRepository, TransactionRepository transactionRepository,
-                               VirtualAccountFindRepository vrtualAccountFindRepository, TransactionFindRepository transactionFindRepository) {
+                               BulkRefundService bulkRefundService, SettlementJobService settlementJobService,
+                               ApplicationEventPublisher eventPublisher) {
         this.projectAdminRepository = projectAdminRepository;
         this.entityManager = entityManager;
-        this.fundingFindRepository = fundingFindRepository;
-        this.transactionRepository = transactionRepository;
-        this.vrtualAccountFindRepository = vrtualAccountFindRepository;
-        this.transactionFindRepository = transactionFindRepository;
+        this.bulkRefundService = bulkRefundService;
+        this.settlementJobService = settlementJobService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -46,6 +40,7 @@ public class ProjectAdminService {
         if (updatedRows == 0) {
             throw new IllegalArgumentException("❌ 해당 프로젝트가 존재하지 않습니다.");
         }
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId)); // 벌크 UPDATE는 엔티티 리스너를 거치지 않음
 
         entityManager.flush(); // 변경 사항 즉시 적용
 
@@ -69,23 +64,23 @@ public class ProjectAdminService {
         if (updatedRows == 0) {
             throw new IllegalArgumentException("❌ 해당 프로젝트가 존재하지 않습니다.");
         }
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId)); // 벌크 UPDATE는 엔티티 리스너를 거치지 않음
 
         entityManager.flush(); // 변경 사항 즉시 적용
 
         Project project = projectAdminRepository.findById(projectId).orElseThrow();
         System.out.println("🟠 DB 저장 후 status 값: " + project.getStatus());
 
-        // 프로젝트 상태에 따른 추가 처리
+        // 프로젝트 상태에 따른 추가 처리 (정산 작업으로 등록 후 즉시 반환)
         switch (status) {
             case SUCCESS:
-                System.out.println("✅ 프로젝트 성공 - 후원 차단 및 삭제 처리");
-                updateIsDeletedTransaction(projectId, true);  // 성공 시에도 isDeleted = true로 설정하여 후원 차단
+                log.info("프로젝트 성공 - 후원 차단 정산 작업 등록: projectId={}", projectId);
+                settlementJobService.enqueue(projectId, status);  // 성공 시에도 isDeleted = true로 설정하여 후원 차단
                 break;
 
             case FAILED:
-                System.out.println("🔢 프로젝트 실패 -> 후원자 환불 처리 및 삭제 처리 실행");
-                updateIsDeletedTransaction(projectId, true);  // 실패 시에도 isDeleted = true
-                processRefunds(project);  // 환불 처리
+                log.info("프로젝트 실패 - 후원 차단 및 환불 정산 작업 등록: projectId={}", projectId);
+                settlementJobService.enqueue(projectId, status);  // isDeleted = true 후 환불 처리
                 break;
 
             default:
@@ -107,53 +102,19 @@ public class ProjectAdminService {
     }
 
     /**
-     * 환불 처리 메서드
+     * 환불 진행 상황 조회
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processRefunds(Project project) {
-        List<Funding> fundings = fundingFindRepository.findActiveFundingsByProjectId(project.getProjectId());
-
-        for (Funding funding : fundings) {
-            VirtualAccount sponsorAccount = vrtualAccountFindRepository.findByUser_UserId(funding.getSponsor().getUserId())
-                    .orElseThrow(() -> new IllegalArgumentException("❌ 후원자의 가상 계좌를 찾을 수 없습니다."));
-
-            Transaction originalTransaction = transactionFindRepository.findByFunding_FundingId(funding.getFundingId())
-                    .orElseThrow(() -> new IllegalArgumentException("❌ 해당 펀딩의 결제 트랜잭션을 찾을 수 없습니다."));
-
-            VirtualAccount beneficiaryAccount = originalTransaction.getReceiverAccount();  // 수혜자 계좌
-
-            BigDecimal refundAmount = funding.getAmount();
-
-            // 후원자 계좌에 환불 금액 추가
-            sponsorAccount.setBalance(sponsorAccount.getBalance().add(refundAmount));
-            vrtualAccountFindRepository.save(sponsorAccount);
-
-            // 수혜자 계좌에서 환불 금액 차감
-            if (beneficiaryAccount.getBalance().compareTo(refundAmount) < 0) {
-                throw new IllegalStateException("❌ 수혜자 계좌의 잔액이 부족하여 환불할 수 없습니다.");
-            }
-            beneficiaryAccount.setBalance(beneficiaryAccount.getBalance().subtract(refundAmount));
-            vrtualAccountFindRepository.save(beneficiaryAccount);
-
-            // 환불 트랜잭션 생성
-            Transaction refundTransaction = new Transaction();
-            refundTransaction.setFunding(funding);
-            refundTransaction.setAdmin(originalTransaction.getAdmin());  // 결제 당시 관리자
-            refundTransaction.setSenderAccount(beneficiaryAccount);      // 수혜자 계좌(송신자)
-            refundTransaction.setReceiverAccount(sponsorAccount);       // 후원자 계좌(수신자)
-            refundTransaction.setAmount(refundAmount);
-            refundTransaction.setType(Transaction.TransactionType.REFUND);  // 환불 기록
-            refundTransaction.setTransactionDate(LocalDateTime.now());
-
-            transactionRepository.save(refundTransaction);  // 트랜잭션 저장
-
-            // 펀딩 기록 삭제 처리
-            funding.setDeleted(true);
-            fundingFindRepository.save(funding);
+    public RefundProgressDto getRefundProgress(Integer projectId) {
+        return bulkRefundService.getProgress(projectId);
+    }
 
-            System.out.println("🔢 환불 완료 - 후원자 ID: " + funding.getSponsor().getUserId() + ", 환불 금액: " + refundAmount);
-        }
+    /**
+     * 정산 작업 진행 상황 조회
+     */
+    public SettlementProgressDto getSettlementProgress(Integer projectId) {
+        return settlementJobService.getProgress(projectId);
     }
+
     /**
      * 관리자용 상태 변경 (승인 및 진행 상태 모든 변경 가능)
      */
@@ -0,0 +1,142 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.entity.ProjectChangedEvent;
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종료일이 지난 진행 중 프로젝트를 자동으로 마감하는 스케줄러.
+ * <p>
+ * (status, end_date) 인덱스를 키셋 순서로 페이지 단위 조회하고, 한 번의 실행에서 처리하는 건수를 제한합니다.
+ * 남은 프로젝트는 다음 실행에서 이어서 처리되며, 처리되지 못한 가장 오래된 종료일과 현재 시각의 차이를
+ * {@code project.closer.lag} 지표로 노출합니다.
+ */
+@Slf4j
+@Service
+public class ProjectCloseService {
+
+    private final ProjectAdminRepository projectAdminRepository;
+    private final SettlementJobService settlementJobService;
+    private final ProjectFundingCounter projectFundingCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final int maxPerRun;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter successCounter;
+    private final Counter failedCounter;
+
+    public ProjectCloseService(ProjectAdminRepository projectAdminRepository,
+                               SettlementJobService settlementJobService,
+                               ProjectFundingCounter projectFundingCounter,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${project.closer.page-size:100}") int pageSize,
+                               @Value("${project.closer.max-per-run:1000}") int maxPerRun) {
+        this.projectAdminRepository = projectAdminRepository;
+        this.settlementJobService = settlementJobService;
+        this.projectFundingCounter = projectFundingCounter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pageSize = pageSize;
+        this.maxPerRun = maxPerRun;
+
+        Gauge.builder("project.closer.lag", lagSeconds, AtomicLong::get)
+                .description("마감되지 않은 가장 오래된 종료 프로젝트의 지연 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.successCounter = Counter.builder("project.closer.closed").tag("result", "success").register(meterRegistry);
+        this.failedCounter = Counter.builder("project.closer.closed").tag("result", "failed").register(meterRegistry);
+    }
+
+    // ✅ 기본 1분마다 실행
+    @Scheduled(cron = "${project.closer.cron:0 * * * * ?}")
+    public void closeExpiredProjects() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime afterEndDate = LocalDateTime.of(1970, 1, 1, 0, 0);
+        Integer afterProjectId = 0;
+        int processed = 0;
+
+        while (processed < maxPerRun) {
+            int limit = Math.min(pageSize, maxPerRun - processed);
+            List<ExpiredProject> page = projectAdminRepository.findExpiredOngoing(
+                    now, afterEndDate, afterProjectId, PageRequest.of(0, limit));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            for (ExpiredProject project : page) {
+                close(project, now);
+            }
+
+            ExpiredProject last = page.get(page.size() - 1);
+            afterEndDate = last.endDate();
+            afterProjectId = last.projectId();
+            processed += page.size();
+
+            if (page.size() < limit) {
+                break;
+            }
+        }
+
+        updateLag(now);
+        if (processed > 0) {
+            log.info("종료일이 지난 프로젝트 {}건을 마감 처리했습니다.", processed);
+        }
+    }
+
+    /**
+     * 프로젝트 하나를 마감하고 정산 작업을 등록합니다.
+     * 실패해도 다른 프로젝트 처리는 계속되며, 해당 프로젝트는 다음 실행에서 다시 조회됩니다.
+     */
+    private void close(ExpiredProject project, LocalDateTime now) {
+        Project.Status status = isGoalReached(project) ? Project.Status.SUCCESS : Project.Status.FAILED;
+        try {
+            Boolean closed = transactionTemplate.execute(tx -> {
+                if (projectAdminRepository.closeIfOngoing(project.projectId(), status, now) == 0) {
+                    return false; // 관리자가 먼저 상태를 변경함
+                }
+                settlementJobService.enqueue(project.projectId(), status);
+                eventPublisher.publishEvent(new ProjectChangedEvent(project.projectId()));
+                return true;
+            });
+            if (Boolean.TRUE.equals(closed)) {
+                (status == Project.Status.SUCCESS ? successCounter : failedCounter).increment();
+            }
+        } catch (RuntimeException e) {
+            log.error("프로젝트 ID {}의 자동 마감에 실패했습니다.", project.projectId(), e);
+        }
+    }
+
+    private boolean isGoalReached(ExpiredProject project) {
+        BigDecimal persisted = project.currentFunding() == null ? BigDecimal.ZERO : project.currentFunding();
+        BigDecimal current = persisted.add(projectFundingCounter.pending(project.projectId()));
+        return project.fundingGoal() != null && current.compareTo(project.fundingGoal()) >= 0;
+    }
+
+    private void updateLag(LocalDateTime now) {
+        LocalDateTime oldest = projectAdminRepository.findOldestExpiredEndDate(now);
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, now).getSeconds());
+    }
+}
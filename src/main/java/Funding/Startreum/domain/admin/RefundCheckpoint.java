@@ -0,0 +1,57 @@
+package Funding.Startreum.domain.admin;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 일괄 환불 진행 상황 체크포인트.
+ * 청크가 커밋될 때마다 함께 갱신되므로, 중단된 환불은 마지막 펀딩 ID 이후부터 재개됩니다.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "refund_checkpoint")
+public class RefundCheckpoint {
+
+    @Id
+    private Integer projectId; // 프로젝트 ID
+
+    private Integer lastFundingId; // 마지막으로 환불 완료된 펀딩 ID
+
+    @Column(nullable = false)
+    private long refundedCount; // 환불 완료 건수
+
+    @Column(nullable = false, precision = 18, scale = 0)
+    private BigDecimal refundedAmount; // 환불 완료 금액
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status; // 진행 상태
+
+    private LocalDateTime startedAt; // 시작 일자
+
+    private LocalDateTime updatedAt; // 마지막 체크포인트 일자
+
+    public RefundCheckpoint(Integer projectId) {
+        this.projectId = projectId;
+        this.lastFundingId = 0;
+        this.refundedCount = 0;
+        this.refundedAmount = BigDecimal.ZERO;
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public enum Status {
+        RUNNING,   // 진행중
+        COMPLETED  // 완료
+    }
+}
@@ -0,0 +1,17 @@
+package Funding.Startreum.domain.admin;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RefundCheckpointRepository extends JpaRepository<RefundCheckpoint, Integer> {
+
+    // 같은 프로젝트의 환불 청크가 동시에 실행되지 않도록 체크포인트 행에 락을 걸어 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM RefundCheckpoint c WHERE c.projectId = :projectId")
+    Optional<RefundCheckpoint> findByIdForUpdate(@Param("projectId") Integer projectId);
+}
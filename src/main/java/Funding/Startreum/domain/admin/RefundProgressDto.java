@@ -0,0 +1,30 @@
+package Funding.Startreum.domain.admin;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 일괄 환불 진행 상황 DTO
+public record RefundProgressDto(
+        Integer projectId,               // 프로젝트 ID
+        RefundCheckpoint.Status status,  // 진행 상태 (체크포인트가 없으면 null)
+        long refundedCount,              // 환불 완료 건수
+        BigDecimal refundedAmount,       // 환불 완료 금액
+        long remainingCount,             // 남은 환불 대상 건수
+        LocalDateTime startedAt,         // 시작 일자
+        LocalDateTime updatedAt          // 마지막 체크포인트 일자
+) {
+    public static RefundProgressDto of(Integer projectId, RefundCheckpoint checkpoint, long remainingCount) {
+        if (checkpoint == null) {
+            return new RefundProgressDto(projectId, null, 0, BigDecimal.ZERO, remainingCount, null, null);
+        }
+        return new RefundProgressDto(
+                projectId,
+                checkpoint.getStatus(),
+                checkpoint.getRefundedCount(),
+                checkpoint.getRefundedAmount(),
+                remainingCount,
+                checkpoint.getStartedAt(),
+                checkpoint.getUpdatedAt()
+        );
+    }
+}
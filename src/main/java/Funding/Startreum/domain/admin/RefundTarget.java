@@ -0,0 +1,17 @@
+package Funding.Startreum.domain.admin;
+
+import java.math.BigDecimal;
+
+/**
+ * 환불 파이프라인이 청크 단위로 조회하는 환불 대상 행.
+ * 펀딩, 후원자 계좌, 원 결제 트랜잭션을 한 번의 조인 쿼리로 가져옵니다.
+ */
+public record RefundTarget(
+        Integer fundingId,            // 환불할 펀딩 ID
+        BigDecimal amount,            // 환불 금액
+        Integer sponsorId,            // 후원자 ID
+        Integer sponsorAccountId,     // 후원자 계좌 ID (없으면 null)
+        Integer originalTransactionId, // 원 결제 트랜잭션 ID (없으면 null)
+        Integer beneficiaryAccountId, // 수혜자 계좌 ID (원 트랜잭션의 수신 계좌)
+        Integer adminId               // 결제 당시 관리자 ID
+) {}
@@ -0,0 +1,90 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 정산(성공/실패 처리) 작업.
+ * 관리자 요청에서는 작업만 등록하고, 실제 처리는 워커가 단계별로 진행합니다.
+ * 각 단계는 여러 번 실행되어도 결과가 같으므로, 재시작 후에는 현재 단계부터 다시 실행합니다.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "settlement_job", indexes = {
+        @Index(name = "idx_settlement_job_status", columnList = "status, heartbeatAt"),
+        @Index(name = "idx_settlement_job_project", columnList = "projectId")
+})
+public class SettlementJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId; // 작업 ID
+
+    @Column(nullable = false)
+    private Integer projectId; // 프로젝트 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Project.Status targetStatus; // 정산 대상 상태 (SUCCESS, FAILED)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status; // 작업 상태
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Step step; // 현재 단계
+
+    @Column(nullable = false)
+    private int attempts; // 실행 시도 횟수
+
+    @Column(length = 1000)
+    private String lastError; // 마지막 오류 메시지
+
+    private LocalDateTime createdAt; // 등록 일자
+
+    private LocalDateTime heartbeatAt; // 워커가 마지막으로 진행을 기록한 일자
+
+    private LocalDateTime finishedAt; // 완료 일자
+
+    public SettlementJob(Integer projectId, Project.Status targetStatus) {
+        this.projectId = projectId;
+        this.targetStatus = targetStatus;
+        this.status = Status.PENDING;
+        this.step = Step.MARK_DELETED;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 현재 단계 다음에 실행할 단계
+     */
+    public Step nextStep() {
+        return switch (step) {
+            case MARK_DELETED -> targetStatus == Project.Status.FAILED ? Step.REFUND : Step.DONE;
+            case REFUND, DONE -> Step.DONE;
+        };
+    }
+
+    public enum Status {
+        PENDING,   // 대기
+        RUNNING,   // 실행중
+        COMPLETED, // 완료
+        FAILED     // 재시도 횟수 초과로 실패
+    }
+
+    public enum Step {
+        MARK_DELETED, // 후원 차단 (isDeleted = true)
+        REFUND,       // 후원자 환불 (실패 시)
+        DONE          // 완료
+    }
+}
@@ -0,0 +1,49 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementJobRepository extends JpaRepository<SettlementJob, Long> {
+
+    // 프로젝트의 가장 최근 정산 작업 조회
+    Optional<SettlementJob> findTopByProjectIdOrderByJobIdDesc(Integer projectId);
+
+    // 프로젝트에 아직 끝나지 않은 같은 대상 상태의 정산 작업 조회
+    Optional<SettlementJob> findTopByProjectIdAndTargetStatusAndStatusInOrderByJobIdDesc(
+            Integer projectId, Project.Status targetStatus, List<SettlementJob.Status> statuses);
+
+    // 실행 가능한 작업 조회 (대기 중이거나, 실행 중이지만 워커가 멈춘 작업)
+    @Query("SELECT j.jobId FROM SettlementJob j " +
+            "WHERE j.status = Funding.Startreum.domain.admin.SettlementJob.Status.PENDING " +
+            "OR (j.status = Funding.Startreum.domain.admin.SettlementJob.Status.RUNNING AND j.heartbeatAt < :staleBefore) " +
+            "ORDER BY j.jobId")
+    List<Long> findRunnableJobIds(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * 작업 선점. 다른 워커(또는 다른 인스턴스)가 이미 가져간 작업이면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE SettlementJob j SET j.status = Funding.Startreum.domain.admin.SettlementJob.Status.RUNNING, " +
+            "j.heartbeatAt = :now, j.attempts = j.attempts + 1 " +
+            "WHERE j.jobId = :jobId AND (j.status = Funding.Startreum.domain.admin.SettlementJob.Status.PENDING " +
+            "OR (j.status = Funding.Startreum.domain.admin.SettlementJob.Status.RUNNING AND j.heartbeatAt < :staleBefore))")
+    int claim(@Param("jobId") Long jobId, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 선점을 유지하고 있는 워커만 heartbeat를 갱신합니다. (선점 시점의 attempts 값으로 확인)
+     * 다른 워커가 다시 선점했으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE SettlementJob j SET j.heartbeatAt = :now " +
+            "WHERE j.jobId = :jobId AND j.attempts = :attempt " +
+            "AND j.status = Funding.Startreum.domain.admin.SettlementJob.Status.RUNNING")
+    int renewHeartbeat(@Param("jobId") Long jobId, @Param("attempt") int attempt, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,62 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 프로젝트 정산 작업 등록 및 진행 상황 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class SettlementJobService {
+
+    private static final List<SettlementJob.Status> ACTIVE_STATUSES =
+            List.of(SettlementJob.Status.PENDING, SettlementJob.Status.RUNNING);
+
+    private final SettlementJobRepository settlementJobRepository;
+    private final SettlementWorker settlementWorker;
+    private final BulkRefundService bulkRefundService;
+
+    /**
+     * 정산 작업을 등록합니다.
+     * 같은 프로젝트에 대상 상태가 같은 끝나지 않은 작업이 있으면 새로 만들지 않고 기존 작업을 반환합니다.
+     * 대상 상태가 다르면(예: SUCCESS 처리 중 FAILED로 변경) 새 작업을 등록하므로 환불이 누락되지 않습니다.
+     * 작업은 호출한 트랜잭션이 커밋된 뒤에 워커에 전달되며, 전달에 실패해도 주기적 조회로 다시 실행됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public SettlementJob enqueue(Integer projectId, Project.Status targetStatus) {
+        SettlementJob job = settlementJobRepository
+                .findTopByProjectIdAndTargetStatusAndStatusInOrderByJobIdDesc(projectId, targetStatus, ACTIVE_STATUSES)
+                .orElseGet(() -> settlementJobRepository.save(new SettlementJob(projectId, targetStatus)));
+
+        Long jobId = job.getJobId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                settlementWorker.submit(jobId);
+            }
+        });
+        return job;
+    }
+
+    /**
+     * 프로젝트의 가장 최근 정산 작업 진행 상황 조회
+     */
+    @Transactional(readOnly = true)
+    public SettlementProgressDto getProgress(Integer projectId) {
+        SettlementJob job = settlementJobRepository.findTopByProjectIdOrderByJobIdDesc(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("❌ 해당 프로젝트의 정산 작업이 존재하지 않습니다."));
+
+        RefundProgressDto refund = job.getTargetStatus() == Project.Status.FAILED
+                ? bulkRefundService.getProgress(projectId)
+                : null;
+        return SettlementProgressDto.of(job, refund);
+    }
+}
@@ -0,0 +1,36 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+
+import java.time.LocalDateTime;
+
+// 프로젝트 정산 진행 상황 DTO
+public record SettlementProgressDto(
+        Long jobId,                      // 작업 ID
+        Integer projectId,               // 프로젝트 ID
+        Project.Status targetStatus,     // 정산 대상 상태
+        SettlementJob.Status status,     // 작업 상태
+        SettlementJob.Step step,         // 현재 단계
+        int attempts,                    // 실행 시도 횟수
+        String lastError,                // 마지막 오류 메시지
+        LocalDateTime createdAt,         // 등록 일자
+        LocalDateTime heartbeatAt,       // 마지막 진행 기록 일자
+        LocalDateTime finishedAt,        // 완료 일자
+        RefundProgressDto refund         // 환불 진행 상황
+) {
+    public static SettlementProgressDto of(SettlementJob job, RefundProgressDto refund) {
+        return new SettlementProgressDto(
+                job.getJobId(),
+                job.getProjectId(),
+                job.getTargetStatus(),
+                job.getStatus(),
+                job.getStep(),
+                job.getAttempts(),
+                job.getLastError(),
+                job.getCreatedAt(),
+                job.getHeartbeatAt(),
+                job.getFinishedAt(),
+                refund
+        );
+    }
+}
@@ -0,0 +1,219 @@
+package Funding.Startreum.domain.admin;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정산 작업 워커.
+ * <p>
+ * 크기가 고정된 스레드 풀에서 작업을 단계별로 실행합니다.
+ * 단계가 끝날 때마다(환불 단계는 청크마다) 다음 단계와 heartbeat를 기록하므로, 서버가 재시작되거나 워커가 멈춰도
+ * 주기적 조회가 대기 중인 작업과 heartbeat가 오래된 작업을 다시 선점해 남은 단계부터 이어서 실행합니다.
+ * <p>
+ * 선점할 때 증가한 attempts 값이 선점 토큰입니다. 다른 워커가 다시 선점하면 기존 워커는 heartbeat 갱신에 실패하고
+ * 상태를 기록하지 않은 채 중단합니다.
+ */
+@Slf4j
+@Component
+public class SettlementWorker {
+
+    private final SettlementJobRepository settlementJobRepository;
+    private final ProjectAdminRepository projectAdminRepository;
+    private final BulkRefundService bulkRefundService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Duration staleAfter;
+    private final int maxAttempts;
+    private final int pollBatchSize;
+
+    public SettlementWorker(SettlementJobRepository settlementJobRepository,
+                            ProjectAdminRepository projectAdminRepository,
+                            BulkRefundService bulkRefundService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${settlement.worker.threads:2}") int threads,
+                            @Value("${settlement.worker.queue-capacity:100}") int queueCapacity,
+                            @Value("${settlement.worker.stale-after-seconds:600}") long staleAfterSeconds,
+                            @Value("${settlement.worker.max-attempts:5}") int maxAttempts,
+                            @Value("${settlement.worker.poll-batch-size:50}") int pollBatchSize) {
+        this.settlementJobRepository = settlementJobRepository;
+        this.projectAdminRepository = projectAdminRepository;
+        this.bulkRefundService = bulkRefundService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("settlement-worker-"));
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.maxAttempts = maxAttempts;
+        this.pollBatchSize = pollBatchSize;
+    }
+
+    /**
+     * 작업을 워커 풀에 전달합니다.
+     * 대기열이 가득 차면 작업은 PENDING으로 남아 다음 주기적 조회에서 다시 전달됩니다.
+     */
+    public void submit(Long jobId) {
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            log.warn("정산 작업 대기열이 가득 차 작업 {}을 다음 조회 주기로 미룹니다.", jobId);
+        }
+    }
+
+    /**
+     * 서버 시작 시 끝나지 않은 작업을 이어서 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        poll();
+    }
+
+    /**
+     * 실행 가능한 작업을 조회해 워커 풀에 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${settlement.worker.poll-interval-ms:5000}")
+    public void poll() {
+        int capacity = Math.min(pollBatchSize, executor.getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Long> jobIds = settlementJobRepository.findRunnableJobIds(
+                LocalDateTime.now().minus(staleAfter), PageRequest.of(0, capacity));
+        jobIds.forEach(this::submit);
+    }
+
+    /**
+     * 작업을 선점한 뒤 남은 단계를 순서대로 실행합니다.
+     * 각 단계는 여러 번 실행되어도 결과가 같습니다.
+     */
+    void run(Long jobId) {
+        Integer attempt = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (settlementJobRepository.claim(jobId, now, now.minus(staleAfter)) == 0) {
+                return null;
+            }
+            return settlementJobRepository.findById(jobId).orElseThrow().getAttempts();
+        });
+        if (attempt == null) {
+            return; // 다른 워커가 이미 실행 중이거나 끝난 작업
+        }
+
+        try {
+            SettlementJob.Step step = currentStep(jobId);
+            while (step != SettlementJob.Step.DONE) {
+                SettlementJob job = settlementJobRepository.findById(jobId).orElseThrow();
+                log.info("정산 작업 {} (프로젝트 {}) - {} 단계 실행", jobId, job.getProjectId(), step);
+                execute(job, step, attempt);
+                step = advance(jobId, attempt);
+            }
+            complete(jobId, attempt);
+        } catch (LeaseLostException e) {
+            log.warn("정산 작업 {}을 다른 워커가 다시 선점하여 실행을 중단합니다.", jobId);
+        } catch (RuntimeException e) {
+            log.error("정산 작업 {} 실행 중 오류가 발생했습니다.", jobId, e);
+            fail(jobId, attempt, e);
+        }
+    }
+
+    private void execute(SettlementJob job, SettlementJob.Step step, int attempt) {
+        switch (step) {
+            case MARK_DELETED -> projectAdminRepository.updateIsDeleted(job.getProjectId(), true); // 후원 차단
+            // 환불 체크포인트부터 이어서 실행, 청크마다 heartbeat 갱신 (긴 환불 중 다른 워커가 선점하지 않도록)
+            case REFUND -> bulkRefundService.refundAll(job.getProjectId(), () -> renewHeartbeat(job.getJobId(), attempt));
+            case DONE -> { }
+        }
+    }
+
+    private void renewHeartbeat(Long jobId, int attempt) {
+        Integer updatedRows = transactionTemplate.execute(status ->
+                settlementJobRepository.renewHeartbeat(jobId, attempt, LocalDateTime.now()));
+        if (updatedRows == null || updatedRows == 0) {
+            throw new LeaseLostException();
+        }
+    }
+
+    private SettlementJob.Step currentStep(Long jobId) {
+        return settlementJobRepository.findById(jobId).orElseThrow().getStep();
+    }
+
+    private SettlementJob.Step advance(Long jobId, int attempt) {
+        return transactionTemplate.execute(status -> {
+            SettlementJob job = findOwned(jobId, attempt);
+            job.setStep(job.nextStep());
+            job.setHeartbeatAt(LocalDateTime.now());
+            return job.getStep();
+        });
+    }
+
+    private void complete(Long jobId, int attempt) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SettlementJob job = findOwned(jobId, attempt);
+            job.setStatus(SettlementJob.Status.COMPLETED);
+            job.setLastError(null);
+            job.setFinishedAt(LocalDateTime.now());
+        });
+    }
+
+    // 아직 이 워커가 선점하고 있는 작업 (다른 워커가 다시 선점했으면 LeaseLostException)
+    private SettlementJob findOwned(Long jobId, int attempt) {
+        SettlementJob job = settlementJobRepository.findById(jobId).orElseThrow();
+        if (job.getAttempts() != attempt || job.getStatus() != SettlementJob.Status.RUNNING) {
+            throw new LeaseLostException();
+        }
+        return job;
+    }
+
+    private void fail(Long jobId, int attempt, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                SettlementJob job = findOwned(jobId, attempt);
+                job.setLastError(abbreviate(String.valueOf(cause.getMessage())));
+                if (job.getAttempts() >= maxAttempts) {
+                    job.setStatus(SettlementJob.Status.FAILED);
+                    job.setFinishedAt(LocalDateTime.now());
+                } else {
+                    job.setStatus(SettlementJob.Status.PENDING); // 다음 조회 주기에 재시도
+                }
+            });
+        } catch (LeaseLostException e) {
+            log.warn("정산 작업 {}을 다른 워커가 다시 선점하여 실패 상태를 기록하지 않습니다.", jobId);
+        } catch (RuntimeException e) {
+            // 상태 기록에 실패해도 heartbeat가 오래되면 다시 선점됩니다.
+            log.error("정산 작업 {}의 실패 상태 기록에 실패했습니다.", jobId, e);
+        }
+    }
+
+    private String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 다른 워커가 작업을 다시 선점함
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
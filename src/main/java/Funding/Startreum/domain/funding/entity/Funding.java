@@ -18,7 +18,9 @@ import java.util.List;
 @Setter
 @ToString(exclude = {"project", "sponsor"}) // 순환 참조 방지
 @Entity
-@Table(name = "funding")
+@Table(name = "funding", indexes = {
+        @Index(name = "idx_funding_sponsor_deleted_funded_at", columnList = "sponsor_id, isDeleted, fundedAt") // 후원 내역 최신순 조회
+})
 public class Funding {
 
     @Id
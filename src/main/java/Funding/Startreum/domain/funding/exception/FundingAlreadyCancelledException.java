@@ -0,0 +1,9 @@
+package Funding.Startreum.domain.funding.exception;
+
+public class FundingAlreadyCancelledException extends RuntimeException {
+
+    public FundingAlreadyCancelledException(int fundingId) {
+        super("이미 취소(환불)된 펀딩입니다. 펀딩 ID: " + fundingId);
+    }
+
+}
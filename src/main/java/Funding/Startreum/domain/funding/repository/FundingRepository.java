@@ -2,9 +2,12 @@ package Funding.Startreum.domain.funding.repository;
 
 
 import Funding.Startreum.domain.funding.entity.Funding;
+import Funding.Startreum.domain.sponsor.SponsorFundingRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,13 +15,42 @@ import java.util.Optional;
 
 
 public interface FundingRepository extends JpaRepository<Funding, Integer> {
+    /**
+     * 후원자 이메일로 후원 목록 조회 (한 번의 쿼리로 리워드 ID까지 조회, 별도 COUNT 쿼리 포함)
+     */
+    @Query(value = """
+        SELECT new Funding.Startreum.domain.sponsor.SponsorFundingRow(
+            f.fundingId, p.projectId, p.title, r.rewardId, f.amount, f.fundedAt)
+        FROM Funding f
+        JOIN f.project p
+        LEFT JOIN f.reward r
+        WHERE f.sponsor.email = :email
+        ORDER BY f.fundedAt DESC, f.fundingId DESC
+        """,
+            countQuery = "SELECT COUNT(f) FROM Funding f WHERE f.sponsor.email = :email")
+    Page<SponsorFundingRow> findSponsorFundingPage(@Param("email") String email, Pageable pageable);
+
+    /**
+     * 후원자 이메일로 후원 목록 조회 (COUNT 쿼리 없이 다음 페이지 존재 여부만 확인)
+     */
     @Query("""
-        SELECT f FROM Funding f
-        JOIN FETCH f.project p
+        SELECT new Funding.Startreum.domain.sponsor.SponsorFundingRow(
+            f.fundingId, p.projectId, p.title, r.rewardId, f.amount, f.fundedAt)
+        FROM Funding f
+        JOIN f.project p
+        LEFT JOIN f.reward r
         WHERE f.sponsor.email = :email
-        ORDER BY f.fundedAt DESC
+        ORDER BY f.fundedAt DESC, f.fundingId DESC
         """)
-    Page<Funding> findBySponsorEmail(@Param("email") String email, Pageable pageable);
+    Slice<SponsorFundingRow> findSponsorFundingSlice(@Param("email") String email, Pageable pageable);
 
     Optional<Funding> findByFundingId(Integer fundingId);
+
+    /**
+     * 아직 취소되지 않은 펀딩만 취소 처리합니다. (같은 펀딩을 동시에 환불해도 한 번만 성공)
+     * @return 1이면 취소 성공, 0이면 이미 취소되었거나 없는 펀딩
+     */
+    @Modifying
+    @Query("UPDATE Funding f SET f.isDeleted = true WHERE f.fundingId = :fundingId AND f.isDeleted = false")
+    int markCancelled(@Param("fundingId") Integer fundingId);
 }
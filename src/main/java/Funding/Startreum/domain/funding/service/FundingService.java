@@ -6,6 +6,7 @@ import Funding.Startreum.domain.project.entity.Project;
 import Funding.Startreum.domain.reward.repository.RewardRepository;
 import Funding.Startreum.domain.users.User;
 import Funding.Startreum.domain.users.UserService;
+import Funding.Startreum.domain.funding.exception.FundingAlreadyCancelledException;
 import Funding.Startreum.domain.funding.exception.FundingNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -51,13 +52,17 @@ public class FundingService {
      *
      * @param fundingId 취소할 펀딩 ID
      * @return 취소된 Funding 객체
+     * @throws FundingAlreadyCancelledException 이미 취소된 펀딩인 경우
      */
     public Funding cancelFunding(Integer fundingId) {
         Funding funding = fundingRepository.findByFundingId(fundingId)
                 .orElseThrow(() -> new FundingNotFoundException(fundingId));
 
+        // ✅ 조건부 UPDATE로 취소 (동시에 같은 펀딩을 환불해도 한 요청만 성공)
+        if (fundingRepository.markCancelled(fundingId) == 0) {
+            throw new FundingAlreadyCancelledException(fundingId);
+        }
         funding.setDeleted(true);
-        fundingRepository.save(funding);
 
         return funding;
     }
@@ -0,0 +1,9 @@
+package Funding.Startreum.domain.ledger.dto;
+
+import Funding.Startreum.common.util.Money;
+
+/**
+ * 계좌 테이블(virtual_accounts)에 저장된 잔액
+ */
+public record AccountBalance(Integer accountId, Money balance) {
+}
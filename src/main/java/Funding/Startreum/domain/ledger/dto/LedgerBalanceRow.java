@@ -0,0 +1,13 @@
+package Funding.Startreum.domain.ledger.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌별 원장 합계 (스냅샷 이후 항목 합산 결과)
+ *
+ * @param accountId   계좌 ID
+ * @param amount      대변 합계 - 차변 합계
+ * @param lastEntryId 합산에 포함된 마지막 원장 항목 ID
+ */
+public record LedgerBalanceRow(Integer accountId, BigDecimal amount, Long lastEntryId) {
+}
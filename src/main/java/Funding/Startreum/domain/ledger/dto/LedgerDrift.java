@@ -0,0 +1,17 @@
+package Funding.Startreum.domain.ledger.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 원장 잔액과 계좌 잔액이 다른 계좌
+ *
+ * @param accountId      계좌 ID
+ * @param accountBalance 계좌 테이블 잔액
+ * @param ledgerBalance  원장으로 계산한 잔액
+ */
+public record LedgerDrift(Integer accountId, BigDecimal accountBalance, BigDecimal ledgerBalance) {
+
+    public BigDecimal difference() {
+        return accountBalance.subtract(ledgerBalance);
+    }
+}
@@ -0,0 +1,13 @@
+package Funding.Startreum.domain.ledger.dto;
+
+import java.util.List;
+
+/**
+ * 원장 대사 결과
+ *
+ * @param checkedAccounts 확인한 계좌 수
+ * @param driftCount      잔액이 다른 계좌 수
+ * @param drifts          잔액이 다른 계좌 (최대 보고 건수까지만)
+ */
+public record ReconciliationReport(int checkedAccounts, int driftCount, List<LedgerDrift> drifts) {
+}
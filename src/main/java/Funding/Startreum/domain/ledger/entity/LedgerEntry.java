@@ -0,0 +1,64 @@
+package Funding.Startreum.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 복식부기 원장 항목 (추가만 가능, 수정/삭제 없음).
+ * <p>
+ * 거래 한 건마다 출금 계좌의 차변(DEBIT)과 입금 계좌의 대변(CREDIT) 항목이 같은 금액으로 한 쌍 기록됩니다.
+ * 계좌 잔액 = 대변 합계 - 차변 합계 입니다.
+ * 충전처럼 외부에서 들어온 돈은 외부 계좌({@link #EXTERNAL_ACCOUNT_ID})의 차변으로 기록합니다.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "ledger_entry", indexes = {
+        @Index(name = "uk_ledger_entry_transaction_direction", columnList = "transactionId, direction", unique = true), // 같은 거래 중복 기록 방지
+        @Index(name = "idx_ledger_entry_account_entry", columnList = "accountId, entryId"), // 스냅샷 이후 항목 합산
+        @Index(name = "idx_ledger_entry_created_at", columnList = "createdAt") // 스냅샷 기준 항목 조회
+})
+public class LedgerEntry {
+
+    public static final int EXTERNAL_ACCOUNT_ID = 0; // 외부 계좌 (충전금의 출처, 기존 잔액 이관)
+
+    public enum Direction {
+        DEBIT,  // 차변 (출금)
+        CREDIT  // 대변 (입금)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long entryId; // 원장 항목 ID (증가 순서 = 기록 순서)
+
+    @Column(updatable = false)
+    private Integer transactionId; // 거래 ID (기존 잔액 이관 항목은 null)
+
+    @Column(nullable = false, updatable = false)
+    private Integer accountId; // 계좌 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 6)
+    private Direction direction; // 차변/대변
+
+    @Column(nullable = false, updatable = false, precision = 18, scale = 0)
+    private BigDecimal amount; // 금액 (항상 양수)
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 기록 시각
+
+    public LedgerEntry(Integer transactionId, Integer accountId, Direction direction, BigDecimal amount,
+                       LocalDateTime createdAt) {
+        this.transactionId = transactionId;
+        this.accountId = accountId;
+        this.direction = direction;
+        this.amount = amount;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,47 @@
+package Funding.Startreum.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 원장 잔액 스냅샷.
+ * <p>
+ * lastEntryId까지의 원장 항목을 합산한 잔액입니다. 현재 잔액은 최신 스냅샷 + 이후 항목 합계로 계산합니다.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "ledger_snapshot", indexes = {
+        @Index(name = "uk_ledger_snapshot_account_entry", columnList = "accountId, lastEntryId", unique = true) // 계좌별 최신 스냅샷 조회 겸 중복 방지
+})
+public class LedgerSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long snapshotId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer accountId; // 계좌 ID
+
+    @Column(nullable = false, updatable = false, precision = 18, scale = 0)
+    private BigDecimal balance; // lastEntryId까지 반영한 잔액
+
+    @Column(nullable = false, updatable = false)
+    private Long lastEntryId; // 반영된 마지막 원장 항목 ID
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 스냅샷 생성 시각
+
+    public LedgerSnapshot(Integer accountId, BigDecimal balance, Long lastEntryId, LocalDateTime createdAt) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.lastEntryId = lastEntryId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,49 @@
+package Funding.Startreum.domain.ledger.repository;
+
+import Funding.Startreum.domain.ledger.dto.LedgerBalanceRow;
+import Funding.Startreum.domain.ledger.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    // 대변은 +, 차변은 -
+    String SIGNED_AMOUNT =
+            "CASE WHEN e.direction = Funding.Startreum.domain.ledger.entity.LedgerEntry.Direction.CREDIT " +
+            "THEN e.amount ELSE -e.amount END";
+
+    /**
+     * 특정 항목 이후 계좌의 원장 합계 (idx_ledger_entry_account_entry 범위 조회)
+     */
+    @Query("SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) FROM LedgerEntry e " +
+            "WHERE e.accountId = :accountId AND e.entryId > :afterEntryId")
+    BigDecimal sumAfter(@Param("accountId") Integer accountId, @Param("afterEntryId") Long afterEntryId);
+
+    /**
+     * 계좌 묶음의 최신 스냅샷 이후 항목 합계 (upToEntryId 이하만, 항목이 없는 계좌는 결과에 없음)
+     */
+    @Query("SELECT new Funding.Startreum.domain.ledger.dto.LedgerBalanceRow(" +
+            "e.accountId, SUM(" + SIGNED_AMOUNT + "), MAX(e.entryId)) " +
+            "FROM LedgerEntry e " +
+            "WHERE e.accountId IN :accountIds AND e.entryId <= :upToEntryId " +
+            "AND e.entryId > COALESCE((SELECT MAX(s.lastEntryId) FROM LedgerSnapshot s WHERE s.accountId = e.accountId), 0) " +
+            "GROUP BY e.accountId")
+    List<LedgerBalanceRow> sumSinceLatestSnapshot(@Param("accountIds") Collection<Integer> accountIds,
+                                                  @Param("upToEntryId") Long upToEntryId);
+
+    /**
+     * 기준 시각 이전에 기록된 마지막 항목 (스냅샷 기준점)
+     */
+    Optional<LedgerEntry> findFirstByCreatedAtBeforeOrderByCreatedAtDescEntryIdDesc(LocalDateTime before);
+
+    boolean existsByAccountId(Integer accountId);
+}
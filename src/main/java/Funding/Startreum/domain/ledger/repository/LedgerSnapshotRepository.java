@@ -0,0 +1,48 @@
+package Funding.Startreum.domain.ledger.repository;
+
+import Funding.Startreum.common.util.Money;
+import Funding.Startreum.domain.ledger.dto.AccountBalance;
+import Funding.Startreum.domain.ledger.entity.LedgerSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LedgerSnapshotRepository extends JpaRepository<LedgerSnapshot, Long> {
+
+    // 계좌의 최신 스냅샷 (uk_ledger_snapshot_account_entry 사용)
+    Optional<LedgerSnapshot> findFirstByAccountIdOrderByLastEntryIdDesc(Integer accountId);
+
+    /**
+     * 계좌 묶음의 최신 스냅샷
+     */
+    @Query("SELECT s FROM LedgerSnapshot s WHERE s.accountId IN :accountIds " +
+            "AND s.lastEntryId = (SELECT MAX(s2.lastEntryId) FROM LedgerSnapshot s2 WHERE s2.accountId = s.accountId)")
+    List<LedgerSnapshot> findLatestByAccountIdIn(@Param("accountIds") Collection<Integer> accountIds);
+
+    /**
+     * 계좌 테이블 잔액을 계좌 ID 순으로 조회 (키셋, 대사/스냅샷 작업용)
+     */
+    @Query("SELECT new Funding.Startreum.domain.ledger.dto.AccountBalance(a.accountId, a.balance) " +
+            "FROM VirtualAccount a WHERE a.accountId > :afterAccountId ORDER BY a.accountId")
+    List<AccountBalance> findAccountBalancesAfter(@Param("afterAccountId") Integer afterAccountId, Pageable pageable);
+
+    /**
+     * 잔액이 있지만 원장 항목이 하나도 없는 계좌 (원장 도입 이전 잔액 이관 대상)
+     */
+    default List<Integer> findAccountIdsWithoutEntries(Integer afterAccountId, Pageable pageable) {
+        return findAccountIdsWithoutEntries(afterAccountId, Money.ZERO, pageable);
+    }
+
+    // 잔액 비교는 Money 파라미터로 (컬럼 변환기 적용)
+    @Query("SELECT a.accountId FROM VirtualAccount a WHERE a.accountId > :afterAccountId AND a.balance <> :zero " +
+            "AND NOT EXISTS (SELECT 1 FROM LedgerEntry e WHERE e.accountId = a.accountId) ORDER BY a.accountId")
+    List<Integer> findAccountIdsWithoutEntries(@Param("afterAccountId") Integer afterAccountId, @Param("zero") Money zero,
+                                               Pageable pageable);
+}
@@ -0,0 +1,126 @@
+package Funding.Startreum.domain.ledger.service;
+
+import Funding.Startreum.domain.ledger.dto.AccountBalance;
+import Funding.Startreum.domain.ledger.dto.LedgerDrift;
+import Funding.Startreum.domain.ledger.dto.ReconciliationReport;
+import Funding.Startreum.domain.ledger.repository.LedgerSnapshotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 원장 대사 작업.
+ * <p>
+ * 계좌 테이블(virtual_accounts)의 잔액과 원장으로 계산한 잔액(스냅샷 + 이후 항목)을 계좌 ID 순 묶음 단위로 비교합니다.
+ * 한 번에 한 묶음만 메모리에 올리며, 묶음마다 REPEATABLE READ 트랜잭션에서 두 값을 같은 시점으로 읽습니다.
+ * 차이가 있는 계좌는 로그와 지표(ledger.reconciliation.drift)로 보고합니다.
+ */
+@Slf4j
+@Service
+public class LedgerReconciliationService {
+
+    private final LedgerService ledgerService;
+    private final LedgerSnapshotRepository ledgerSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReported;
+
+    private final AtomicInteger lastDriftCount = new AtomicInteger();
+    private final Timer reconcileTimer;
+
+    public LedgerReconciliationService(LedgerService ledgerService,
+                                       LedgerSnapshotRepository ledgerSnapshotRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${ledger.reconciliation.batch-size:500}") int batchSize,
+                                       @Value("${ledger.reconciliation.max-reported:100}") int maxReported) {
+        this.ledgerService = ledgerService;
+        this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.transactionTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.maxReported = maxReported;
+
+        meterRegistry.gauge("ledger.reconciliation.drift", lastDriftCount);
+        this.reconcileTimer = Timer.builder("ledger.reconciliation.duration")
+                .description("원장 대사 소요 시간")
+                .register(meterRegistry);
+    }
+
+    // ✅ 기본 6시간마다 실행
+    @Scheduled(fixedDelayString = "${ledger.reconciliation.interval-ms:21600000}",
+            initialDelayString = "${ledger.reconciliation.initial-delay-ms:900000}")
+    public void scheduledReconcile() {
+        ReconciliationReport report = reconcileTimer.record(this::reconcile);
+        if (report != null && report.driftCount() > 0) {
+            log.error("원장 대사 불일치: 확인 {}건 중 {}건", report.checkedAccounts(), report.driftCount());
+        }
+    }
+
+    /**
+     * 전체 계좌를 대사합니다.
+     */
+    public ReconciliationReport reconcile() {
+        List<LedgerDrift> reported = new ArrayList<>();
+        int checked = 0;
+        int driftCount = 0;
+        int lastAccountId = 0;
+
+        while (true) {
+            int after = lastAccountId;
+            List<LedgerDrift> drifts = new ArrayList<>();
+            List<AccountBalance> accounts = transactionTemplate.execute(status -> {
+                List<AccountBalance> batch = ledgerSnapshotRepository.findAccountBalancesAfter(after, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    return batch;
+                }
+
+                Map<Integer, BigDecimal> ledgerBalances = ledgerService.balancesOf(
+                        batch.stream().map(AccountBalance::accountId).toList(), null);
+                for (AccountBalance account : batch) {
+                    BigDecimal ledgerBalance = ledgerBalances.get(account.accountId());
+                    BigDecimal accountBalance = account.balance().toBigDecimal();
+                    if (accountBalance.compareTo(ledgerBalance) != 0) {
+                        drifts.add(new LedgerDrift(account.accountId(), accountBalance, ledgerBalance));
+                    }
+                }
+                return batch;
+            });
+            if (accounts == null || accounts.isEmpty()) {
+                break;
+            }
+
+            checked += accounts.size();
+            driftCount += drifts.size();
+            for (LedgerDrift drift : drifts) {
+                if (reported.size() < maxReported) {
+                    reported.add(drift);
+                    log.warn("원장 잔액 불일치: accountId={}, 계좌 잔액={}, 원장 잔액={}, 차이={}",
+                            drift.accountId(), drift.accountBalance(), drift.ledgerBalance(), drift.difference());
+                }
+            }
+
+            lastAccountId = accounts.get(accounts.size() - 1).accountId();
+            if (accounts.size() < batchSize) {
+                break;
+            }
+        }
+
+        lastDriftCount.set(driftCount);
+        return new ReconciliationReport(checked, driftCount, List.copyOf(reported));
+    }
+}
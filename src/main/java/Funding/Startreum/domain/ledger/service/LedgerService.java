@@ -0,0 +1,97 @@
+package Funding.Startreum.domain.ledger.service;
+
+import Funding.Startreum.domain.ledger.dto.LedgerBalanceRow;
+import Funding.Startreum.domain.ledger.entity.LedgerEntry;
+import Funding.Startreum.domain.ledger.entity.LedgerSnapshot;
+import Funding.Startreum.domain.ledger.repository.LedgerEntryRepository;
+import Funding.Startreum.domain.ledger.repository.LedgerSnapshotRepository;
+import Funding.Startreum.domain.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static Funding.Startreum.domain.ledger.entity.LedgerEntry.Direction.CREDIT;
+import static Funding.Startreum.domain.ledger.entity.LedgerEntry.Direction.DEBIT;
+import static Funding.Startreum.domain.ledger.entity.LedgerEntry.EXTERNAL_ACCOUNT_ID;
+
+/**
+ * 복식부기 원장 기록 및 잔액 계산.
+ * <p>
+ * 원장 항목은 계좌 잔액을 바꾸는 트랜잭션 안에서 함께 기록되므로, 잔액 변경과 원장은 함께 커밋되거나 함께 롤백됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerSnapshotRepository ledgerSnapshotRepository;
+
+    /**
+     * 거래 한 건을 차변/대변 한 쌍으로 기록합니다.
+     * 출금/입금 계좌가 같은 거래(충전)는 외부 계좌에서 들어온 것으로 기록합니다.
+     *
+     * @param transaction 저장된 거래 (ID가 있어야 함)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void post(Transaction transaction) {
+        Integer fromAccountId = transaction.getSenderAccount().getAccountId();
+        Integer toAccountId = transaction.getReceiverAccount().getAccountId();
+        Integer debitAccountId = fromAccountId.equals(toAccountId) ? EXTERNAL_ACCOUNT_ID : fromAccountId;
+
+        post(transaction.getTransactionId(), debitAccountId, toAccountId, transaction.getAmount());
+    }
+
+    /**
+     * 원장 도입 이전의 계좌 잔액을 외부 계좌에서 들어온 것으로 기록합니다. (계좌에 락이 걸린 상태에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void postOpeningBalance(Integer accountId, BigDecimal balance) {
+        post(null, EXTERNAL_ACCOUNT_ID, accountId, balance);
+    }
+
+    /**
+     * 원장으로 계산한 계좌 잔액 (최신 스냅샷 + 이후 항목 합계)
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal balanceOf(Integer accountId) {
+        return ledgerSnapshotRepository.findFirstByAccountIdOrderByLastEntryIdDesc(accountId)
+                .map(snapshot -> snapshot.getBalance()
+                        .add(ledgerEntryRepository.sumAfter(accountId, snapshot.getLastEntryId())))
+                .orElseGet(() -> ledgerEntryRepository.sumAfter(accountId, 0L));
+    }
+
+    /**
+     * 계좌 묶음의 원장 잔액 (쿼리 두 번, 원장 항목이 없는 계좌는 0)
+     *
+     * @param upToEntryId 이 항목까지만 합산 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, BigDecimal> balancesOf(Collection<Integer> accountIds, Long upToEntryId) {
+        Map<Integer, BigDecimal> balances = new HashMap<>();
+        for (LedgerSnapshot snapshot : ledgerSnapshotRepository.findLatestByAccountIdIn(accountIds)) {
+            balances.put(snapshot.getAccountId(), snapshot.getBalance());
+        }
+        List<LedgerBalanceRow> tails = ledgerEntryRepository.sumSinceLatestSnapshot(
+                accountIds, upToEntryId == null ? Long.MAX_VALUE : upToEntryId);
+        for (LedgerBalanceRow tail : tails) {
+            balances.merge(tail.accountId(), tail.amount(), BigDecimal::add);
+        }
+        accountIds.forEach(accountId -> balances.putIfAbsent(accountId, BigDecimal.ZERO));
+        return balances;
+    }
+
+    private void post(Integer transactionId, Integer debitAccountId, Integer creditAccountId, BigDecimal amount) {
+        LocalDateTime now = LocalDateTime.now();
+        ledgerEntryRepository.saveAll(List.of(
+                new LedgerEntry(transactionId, debitAccountId, DEBIT, amount, now),
+                new LedgerEntry(transactionId, creditAccountId, CREDIT, amount, now)));
+    }
+}
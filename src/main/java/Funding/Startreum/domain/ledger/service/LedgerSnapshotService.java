@@ -0,0 +1,173 @@
+package Funding.Startreum.domain.ledger.service;
+
+import Funding.Startreum.domain.ledger.dto.AccountBalance;
+import Funding.Startreum.domain.ledger.dto.LedgerBalanceRow;
+import Funding.Startreum.domain.ledger.entity.LedgerEntry;
+import Funding.Startreum.domain.ledger.entity.LedgerSnapshot;
+import Funding.Startreum.domain.ledger.repository.LedgerEntryRepository;
+import Funding.Startreum.domain.ledger.repository.LedgerSnapshotRepository;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.service.AccountQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 원장 스냅샷 작성 및 기존 잔액 이관.
+ * <p>
+ * - 주기적으로 계좌 ID 순으로 묶음을 나누어, 마지막 스냅샷 이후 항목이 있는 계좌만 새 스냅샷을 저장합니다.
+ * - 스냅샷 기준점은 safetyLag 이전에 기록된 마지막 항목입니다. IDENTITY 값은 커밋 순서와 다를 수 있으므로,
+ *   아직 커밋되지 않은 앞 번호 항목이 스냅샷에서 빠지지 않도록 충분히 지난 항목까지만 포함합니다.
+ * - 시작 시 원장 항목이 없는 기존 계좌의 잔액을 기초 잔액으로 기록합니다.
+ */
+@Slf4j
+@Service
+public class LedgerSnapshotService {
+
+    private final LedgerService ledgerService;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerSnapshotRepository ledgerSnapshotRepository;
+    private final AccountQueryService accountQueryService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration safetyLag;
+
+    public LedgerSnapshotService(LedgerService ledgerService,
+                                 LedgerEntryRepository ledgerEntryRepository,
+                                 LedgerSnapshotRepository ledgerSnapshotRepository,
+                                 AccountQueryService accountQueryService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${ledger.snapshot.batch-size:500}") int batchSize,
+                                 @Value("${ledger.snapshot.safety-lag-seconds:60}") long safetyLagSeconds) {
+        this.ledgerService = ledgerService;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+        this.accountQueryService = accountQueryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.safetyLag = Duration.ofSeconds(safetyLagSeconds);
+    }
+
+    // ✅ 기본 1시간마다 스냅샷 작성
+    @Scheduled(fixedDelayString = "${ledger.snapshot.interval-ms:3600000}",
+            initialDelayString = "${ledger.snapshot.initial-delay-ms:600000}")
+    public void takeSnapshots() {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<LedgerEntry> watermark =
+                ledgerEntryRepository.findFirstByCreatedAtBeforeOrderByCreatedAtDescEntryIdDesc(now.minus(safetyLag));
+        if (watermark.isEmpty()) {
+            return;
+        }
+
+        int written = takeSnapshots(watermark.get().getEntryId(), now);
+        if (written > 0) {
+            log.info("원장 스냅샷 {}건 저장 (기준 항목 ID: {})", written, watermark.get().getEntryId());
+        }
+    }
+
+    /**
+     * upToEntryId까지의 항목으로 스냅샷을 저장합니다.
+     * @return 저장한 스냅샷 수
+     */
+    int takeSnapshots(Long upToEntryId, LocalDateTime now) {
+        int written = 0;
+        int lastAccountId = -1;
+        while (true) {
+            List<Integer> accountIds = new ArrayList<>();
+            if (lastAccountId < LedgerEntry.EXTERNAL_ACCOUNT_ID) {
+                accountIds.add(LedgerEntry.EXTERNAL_ACCOUNT_ID); // 외부 계좌는 계좌 테이블에 없음
+            }
+            List<AccountBalance> accounts = ledgerSnapshotRepository.findAccountBalancesAfter(
+                    Math.max(lastAccountId, LedgerEntry.EXTERNAL_ACCOUNT_ID), PageRequest.of(0, batchSize));
+            accounts.forEach(account -> accountIds.add(account.accountId()));
+            if (accountIds.isEmpty()) {
+                break;
+            }
+
+            written += snapshotBatch(accountIds, upToEntryId, now);
+            lastAccountId = accountIds.get(accountIds.size() - 1);
+            if (accounts.size() < batchSize) {
+                break;
+            }
+        }
+        return written;
+    }
+
+    // 묶음 단위로 짧은 트랜잭션에서 저장 (다른 서버가 같은 스냅샷을 먼저 저장했으면 건너뜀)
+    private int snapshotBatch(List<Integer> accountIds, Long upToEntryId, LocalDateTime now) {
+        try {
+            Integer written = transactionTemplate.execute(status -> {
+                List<LedgerBalanceRow> tails = ledgerEntryRepository.sumSinceLatestSnapshot(accountIds, upToEntryId);
+                if (tails.isEmpty()) {
+                    return 0;
+                }
+                // 새 스냅샷 = 직전 스냅샷 + 이후 항목 합계
+                Map<Integer, BigDecimal> previous = ledgerSnapshotRepository.findLatestByAccountIdIn(
+                                tails.stream().map(LedgerBalanceRow::accountId).toList()).stream()
+                        .collect(Collectors.toMap(LedgerSnapshot::getAccountId, LedgerSnapshot::getBalance));
+                ledgerSnapshotRepository.saveAll(tails.stream()
+                        .map(tail -> new LedgerSnapshot(tail.accountId(),
+                                previous.getOrDefault(tail.accountId(), BigDecimal.ZERO).add(tail.amount()),
+                                tail.lastEntryId(), now))
+                        .toList());
+                return tails.size();
+            });
+            return written == null ? 0 : written;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("원장 스냅샷 중복 저장 (다른 서버에서 처리됨): 계좌 {}건", accountIds.size());
+            return 0;
+        }
+    }
+
+    /**
+     * 원장 도입 이전에 잔액이 있던 계좌의 기초 잔액을 기록합니다.
+     * 계좌에 락을 건 뒤 다시 확인하므로, 이관 중 들어온 거래와 겹치지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOpeningBalances() {
+        int lastAccountId = 0;
+        int posted = 0;
+        while (true) {
+            List<Integer> accountIds = ledgerSnapshotRepository.findAccountIdsWithoutEntries(
+                    lastAccountId, PageRequest.of(0, batchSize));
+            if (accountIds.isEmpty()) {
+                break;
+            }
+
+            for (Integer accountId : accountIds) {
+                lastAccountId = accountId;
+                Boolean opened = transactionTemplate.execute(status -> {
+                    VirtualAccount account = accountQueryService.getAccountForUpdate(accountId);
+                    if (account.getBalance().signum() == 0 || ledgerEntryRepository.existsByAccountId(accountId)) {
+                        return false;
+                    }
+                    ledgerService.postOpeningBalance(accountId, account.getBalance());
+                    return true;
+                });
+                if (Boolean.TRUE.equals(opened)) {
+                    posted++;
+                }
+            }
+        }
+
+        if (posted > 0) {
+            log.info("원장 기초 잔액 이관 완료: 계좌 {}건", posted);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package Funding.Startreum.domain.project;
+
+import java.util.List;
+
+/**
+ * 커서 기반 조회 결과.
+ */
+public record ProjectCursorPage(
+        List<ProjectSearchDto> projects, // 현재 페이지 프로젝트 목록
+        String nextCursor,               // 다음 페이지 커서 (마지막 페이지면 null)
+        boolean hasNext                  // 다음 페이지 존재 여부
+) {
+}
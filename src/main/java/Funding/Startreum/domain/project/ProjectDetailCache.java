@@ -0,0 +1,167 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.ProjectChangedEvent;
+import Funding.Startreum.domain.project.entity.ProjectFundingFlushEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 프로젝트 상세 DTO의 읽기 캐시 (LRU + TTL).
+ * <p>
+ * 상세 정보는 DB에 반영된 펀딩 금액 기준으로 저장하며,
+ * <ul>
+ *     <li>프로젝트 수정/승인/상태 변경({@link ProjectChangedEvent}, 커밋 이후) 시 항목을 제거하고,</li>
+ *     <li>펀딩 증감분 반영({@link ProjectFundingFlushEvent}) 시 currentFunding 필드만 갱신합니다.</li>
+ * </ul>
+ * DB 조회 도중 변경이 일어나면 조회한 값이 이미 오래되었을 수 있으므로,
+ * 프로젝트 ID별 스트라이프 버전이 조회 시작 시점과 다르면 캐시에 저장하지 않습니다.
+ * 펀딩 증감분은 반영 직전 버전보다 먼저 조회된 항목에만 더하고, 반영 도중 조회된 항목은
+ * 이미 증감분이 포함되었는지 알 수 없으므로 제거합니다. 반영이 실패하거나 0건이면 반영 직전 버전만 정리합니다.
+ * <p>
+ * 적중/실패 횟수는 {@code project.detail.cache} 지표(result=hit|miss)로 노출됩니다.
+ */
+@Component
+public class ProjectDetailCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<Integer, CachedDetail> entries;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Map<Integer, Long> flushVersions = new HashMap<>(); // 반영 중인 프로젝트 -> 반영 직전 버전
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ProjectDetailCache(@Value("${project.detail.cache.max-size:10000}") int maxSize,
+                              @Value("${project.detail.cache.ttl-ms:60000}") long ttlMillis,
+                              MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        // 접근 순서 LinkedHashMap으로 가장 오래 사용하지 않은 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedDetail> eldest) {
+                return size() > ProjectDetailCache.this.maxSize;
+            }
+        };
+
+        this.hitCounter = meterRegistry.counter("project.detail.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("project.detail.cache", "result", "miss");
+        Gauge.builder("project.detail.cache.size", this, ProjectDetailCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상세 정보를 반환하고, 없거나 만료되었으면 loader로 읽어 저장합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param loader    DB 조회 (DB에 반영된 펀딩 금액 기준 DTO)
+     * @return 상세 정보 (DB에 반영된 펀딩 금액 기준)
+     */
+    public ProjectDetailDto get(Integer projectId, Supplier<ProjectDetailDto> loader) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedDetail cached = entries.get(projectId);
+            if (cached != null && cached.expiresAt() > now) {
+                hitCounter.increment();
+                return cached.detail();
+            }
+        }
+
+        missCounter.increment();
+        long version = versions.get(stripe(projectId));
+        ProjectDetailDto detail = loader.get();
+
+        synchronized (entries) {
+            if (versions.get(stripe(projectId)) == version) {
+                entries.put(projectId, new CachedDetail(detail, version, now + ttlMillis));
+            }
+        }
+        return detail;
+    }
+
+    /**
+     * 프로젝트 변경(커밋 이후) 시 캐시에서 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        evict(event.projectId());
+    }
+
+    /**
+     * 펀딩 증감분 반영 시 currentFunding만 갱신 (반영 직전 버전은 커밋/실패 이벤트에서 항상 제거)
+     */
+    @EventListener
+    public void onFundingFlush(ProjectFundingFlushEvent event) {
+        Integer projectId = event.projectId();
+        synchronized (entries) {
+            long version = versions.incrementAndGet(stripe(projectId));
+            if (event.phase() == ProjectFundingFlushEvent.Phase.BEFORE_UPDATE) {
+                flushVersions.put(projectId, version);
+                return;
+            }
+
+            Long flushVersion = flushVersions.remove(projectId);
+            if (event.phase() == ProjectFundingFlushEvent.Phase.ABORTED) {
+                return; // DB 값이 바뀌지 않았으므로 캐시된 값은 그대로 유효
+            }
+
+            CachedDetail cached = entries.get(projectId);
+            if (cached == null) {
+                return;
+            }
+            if (flushVersion == null || cached.loadVersion() >= flushVersion) {
+                entries.remove(projectId); // 반영 도중 조회된 값
+                return;
+            }
+
+            ProjectDetailDto detail = cached.detail();
+            BigDecimal persisted = detail.currentFunding() == null ? BigDecimal.ZERO : detail.currentFunding();
+            entries.put(projectId, new CachedDetail(detail.withCurrentFunding(persisted.add(event.delta())),
+                    cached.loadVersion(), cached.expiresAt()));
+        }
+    }
+
+    public void evict(Integer projectId) {
+        if (projectId == null) {
+            return;
+        }
+        synchronized (entries) {
+            versions.incrementAndGet(stripe(projectId));
+            entries.remove(projectId);
+        }
+    }
+
+    // 반영 중인 프로젝트 수 (테스트용)
+    int pendingFlushes() {
+        synchronized (entries) {
+            return flushVersions.size();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static int stripe(Integer projectId) {
+        return Math.floorMod(projectId, VERSION_STRIPES);
+    }
+
+    private record CachedDetail(ProjectDetailDto detail, long loadVersion, long expiresAt) {
+    }
+}
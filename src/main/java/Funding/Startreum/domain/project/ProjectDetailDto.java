@@ -22,24 +22,39 @@ public record ProjectDetailDto(
         String simpleDescription // 간단한 설명
 
 ) {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     public static ProjectDetailDto from(Project project) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        return from(project, project.getCurrentFunding());
+    }
 
+    /**
+     * 현재 펀딩 금액을 별도로 지정하여 변환합니다. (반영 대기 중인 증감분 포함 값)
+     */
+    public static ProjectDetailDto from(Project project, BigDecimal currentFunding) {
         return new ProjectDetailDto(
                 project.getProjectId(),
                 project.getTitle(),
                 project.getBannerUrl(),
                 project.getDescription(),
                 project.getFundingGoal(),
-                project.getCurrentFunding(),
+                currentFunding,
                 convertStatusToKorean(project.getStatus().name()),
-                project.getStartDate().format(formatter),
-                project.getEndDate().format(formatter),
+                project.getStartDate().format(DATE_FORMATTER),
+                project.getEndDate().format(DATE_FORMATTER),
                 project.getCreator().getName(),
                 project.getSimpleDescription()
         );
     }
 
+    /**
+     * 현재 펀딩 금액만 바꾼 복사본을 반환합니다. (캐시된 상세 정보에 최신 펀딩 금액 반영)
+     */
+    public ProjectDetailDto withCurrentFunding(BigDecimal currentFunding) {
+        return new ProjectDetailDto(projectId, title, bannerUrl, description, fundingGoal, currentFunding,
+                status, startDate, endDate, creatorName, simpleDescription);
+    }
+
     private static String convertStatusToKorean(String status) {
         return switch (status) {
             case "ONGOING" -> "진행중";
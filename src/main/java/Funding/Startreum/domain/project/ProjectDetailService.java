@@ -2,6 +2,7 @@ package Funding.Startreum.domain.project;
 
 import Funding.Startreum.domain.project.entity.Project;
 import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,16 +10,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProjectDetailService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectFundingCounter projectFundingCounter;
+    private final ProjectDetailCache projectDetailCache;
 
-    public ProjectDetailService(ProjectRepository projectRepository) {
+    public ProjectDetailService(ProjectRepository projectRepository, ProjectFundingCounter projectFundingCounter,
+                                ProjectDetailCache projectDetailCache) {
         this.projectRepository = projectRepository;
+        this.projectFundingCounter = projectFundingCounter;
+        this.projectDetailCache = projectDetailCache;
     }
 
+    /**
+     * 캐시된 상세 정보에 반영 대기 중인 펀딩 증감분을 더해 반환합니다.
+     */
     @Transactional(readOnly = true)
     public ProjectDetailDto getProjectDetail(Integer projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다. ID: " + projectId));
+        ProjectDetailDto detail = projectDetailCache.get(projectId, () -> {
+            Project project = projectRepository.findDetailById(projectId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다. ID: " + projectId));
+            return ProjectDetailDto.from(project);
+        });
 
-        return ProjectDetailDto.from(project);
+        return detail.withCurrentFunding(projectFundingCounter.currentFunding(projectId, detail.currentFunding()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인과 색인 내 커서 정렬에 필요한 프로젝트 필드만 담은 프로젝션.
+ */
+public record ProjectIndexSource(
+        Integer projectId,                  // 프로젝트 고유 ID
+        String title,                       // 프로젝트 제목
+        String description,                 // 프로젝트 설명
+        Project.Status status,              // 프로젝트 상태
+        Project.ApprovalStatus isApproved,  // 승인 여부
+        LocalDateTime createdAt,            // 생성 일자 (커서 정렬 키)
+        LocalDateTime endDate,              // 종료 일자 (커서 정렬 키)
+        BigDecimal currentFunding           // DB에 반영된 펀딩 금액 (커서 정렬 키)
+) {
+}
@@ -1,6 +1,8 @@
 package Funding.Startreum.domain.project;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.List;
@@ -11,6 +13,7 @@ import java.util.Map;
  * - 검색어가 없을 경우 전체 승인된 프로젝트 반환.
  * - 검색어가 있을 경우 제목 또는 설명에서 검색.
  * - 상태 필터링 가능.
+ * - `sort` 또는 `after` 파라미터를 지정하면 커서 기반(무한 스크롤) 조회.
  */
 @RestController
 @RequestMapping("/api/projects")
@@ -26,27 +29,61 @@ public class ProjectSearchController {
      * 🔹 검색 API
      * - `/api/projects/search` : 전체 승인된 프로젝트 조회
      * - `/api/projects/search/{query}` : 특정 검색어에 맞는 프로젝트 조회
+     * - `/api/projects/search?sort=newest&after={nextCursor}` : 커서 기반 조회 (newest, ending-soon, most-funded)
+     * - `withTotal=true` : 전체 건수 추정치(캐시됨) 포함 (커서 조회에서는 totalResults도 이 값, 생략 시 null)
+     * - `snippet=true` : 설명 미리보기 포함
      */
     @GetMapping("/search")
     public Map<String, Object> searchProjects(
             @RequestParam(required = false) String query, // ✅ @RequestParam 사용
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean snippet
     ) {
         if (query != null) {
             query = query.replaceAll("[^a-zA-Z0-9가-힣]", "").trim();
         }
 
+        // ✅ 커서 기반 조회
+        if (sort != null || after != null) {
+            try {
+                ProjectCursorPage cursorPage = projectSearchService.searchProjectsByCursor(
+                        query, status, sort == null ? ProjectSearchSort.NEWEST.param() : sort, after, size, snippet);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("status", "success");
+                response.put("message", "프로젝트 검색 성공");
+                // 커서 조회는 전체 건수를 세지 않으므로 요청한 경우(withTotal)에만 캐시된 건수를, 아니면 null
+                Long total = withTotal ? projectSearchService.estimateTotal(query, status) : null;
+                response.put("totalResults", total);
+                response.put("data", cursorPage.projects());
+                response.put("nextCursor", cursorPage.nextCursor());
+                response.put("hasNext", cursorPage.hasNext());
+                if (withTotal) {
+                    response.put("totalEstimate", total);
+                }
+                return response;
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
+
         List<ProjectSearchDto> projects = (query == null || query.isBlank())
-                ? projectSearchService.getAllApprovedProjects(page, size)
-                : projectSearchService.searchProjects(query, status, page, size);
+                ? projectSearchService.getAllApprovedProjects(page, size, snippet)
+                : projectSearchService.searchProjects(query, status, page, size, snippet);
 
         Map<String, Object> response = new HashMap<>();
         response.put("status", "success");
         response.put("message", "프로젝트 검색 성공");
         response.put("totalResults", projects.size());
         response.put("data", projects);
+        if (withTotal) {
+            response.put("totalEstimate", projectSearchService.estimateTotal(query, status));
+        }
         return response;
     }
 
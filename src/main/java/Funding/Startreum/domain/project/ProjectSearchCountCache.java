@@ -0,0 +1,48 @@
+package Funding.Startreum.domain.project;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색/목록 전체 건수 추정치 캐시.
+ * <p>
+ * 커서 조회 페이지마다 COUNT를 다시 실행하지 않도록 (검색어, 상태)별 건수를 짧은 시간 동안 보관합니다.
+ * 만료 전까지는 실제 건수와 다를 수 있으므로 "추정치"로만 노출합니다.
+ */
+@Component
+public class ProjectSearchCountCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlMillis;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public ProjectSearchCountCache(@Value("${project.search.count-ttl-ms:60000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 캐시된 건수를 반환하고, 없거나 만료되었으면 다시 계산합니다.
+     */
+    public long get(String key, LongSupplier loader) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = loader.getAsLong();
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear(); // 검색어 종류가 많아도 메모리가 무한히 늘지 않도록 초기화
+        }
+        counts.put(key, new CachedCount(count, now + ttlMillis));
+        return count;
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,88 @@
+package Funding.Startreum.domain.project;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 커서 기반 조회의 위치 정보 (정렬 기준, 마지막 항목의 정렬 키, 마지막 항목의 projectId).
+ * 클라이언트에는 Base64(URL-safe) 문자열로 인코딩된 불투명한 토큰으로 전달됩니다.
+ * <p>
+ * 정렬 키(생성일, 종료일)가 null인 프로젝트는 가장 작은 값으로 취급하며(MySQL/H2 기본 정렬과 동일),
+ * 토큰에는 빈 문자열로 기록합니다.
+ */
+public record ProjectSearchCursor(
+        ProjectSearchSort sort, // 정렬 기준
+        Object sortKey,         // 마지막 항목의 정렬 키 (LocalDateTime 또는 BigDecimal, null 가능)
+        Integer projectId       // 마지막 항목의 프로젝트 ID
+) {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 페이지의 마지막 프로젝트로 다음 페이지 커서를 생성합니다.
+     */
+    public static ProjectSearchCursor of(ProjectSearchSort sort, ProjectSearchRow last) {
+        return of(sort, last.projectId(), last.createdAt(), last.endDate(), last.currentFunding());
+    }
+
+    /**
+     * 프로젝트의 정렬 키로 커서를 생성합니다. (펀딩 금액이 null이면 0으로 취급)
+     */
+    public static ProjectSearchCursor of(ProjectSearchSort sort, Integer projectId, LocalDateTime createdAt,
+                                         LocalDateTime endDate, BigDecimal currentFunding) {
+        Object sortKey = switch (sort) {
+            case NEWEST -> createdAt;
+            case ENDING_SOON -> endDate;
+            case MOST_FUNDED -> currentFunding == null ? BigDecimal.ZERO : currentFunding;
+        };
+        return new ProjectSearchCursor(sort, sortKey, projectId);
+    }
+
+    /**
+     * 정렬 기준의 조회 순서 (null 정렬 키는 가장 작은 값, projectId 보조 키)
+     */
+    public static Comparator<ProjectSearchCursor> order(ProjectSearchSort sort) {
+        Comparator<ProjectSearchCursor> ascending = Comparator
+                .comparing(ProjectSearchCursor::sortKey, Comparator.nullsFirst(ProjectSearchCursor::compareKeys))
+                .thenComparing(ProjectSearchCursor::projectId);
+        return sort.ascending() ? ascending : ascending.reversed();
+    }
+
+    public String encode() {
+        String raw = sort.param() + SEPARATOR + (sortKey == null ? "" : sortKey) + SEPARATOR + projectId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 해석합니다. 요청한 정렬 기준과 토큰의 정렬 기준이 다르면 잘못된 토큰으로 처리합니다.
+     *
+     * @throws IllegalArgumentException 잘못된 토큰
+     */
+    public static ProjectSearchCursor decode(String token, ProjectSearchSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            ProjectSearchSort sort = ProjectSearchSort.from(parts[0]);
+            if (parts.length != 3 || sort != expectedSort) {
+                throw new IllegalArgumentException("정렬 기준이 일치하지 않습니다.");
+            }
+            // 펀딩 금액순 정렬 키는 null이 될 수 없으므로 빈 값이면 BigDecimal 변환에서 거부됩니다.
+            Object sortKey;
+            if (sort == ProjectSearchSort.MOST_FUNDED) {
+                sortKey = new BigDecimal(parts[1]);
+            } else {
+                sortKey = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            }
+            return new ProjectSearchCursor(sort, sortKey, Integer.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareKeys(Object left, Object right) {
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+}
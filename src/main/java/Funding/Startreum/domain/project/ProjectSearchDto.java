@@ -15,7 +15,7 @@ public record ProjectSearchDto(
         String title,           // 프로젝트 제목
         String simpleDescription, // 간단한 설명
         String bannerUrl,       // 배너 이미지 URL
-        String description,     // 프로젝트 설명
+        String descriptionSnippet, // 프로젝트 설명 미리보기 (요청 시에만 포함)
         BigDecimal fundingGoal, // 목표 금액
         BigDecimal currentFunding, // 현재 펀딩 금액
         LocalDateTime startDate,   // 시작 날짜
@@ -24,24 +24,34 @@ public record ProjectSearchDto(
         Long daysLeft  // 남은 일수 추가
 ) {
     /**
-     * Project 엔티티를 ProjectSearchDto로 변환하는 정적 메서드.
-     * @param project 변환할 Project 엔티티
+     * 검색 프로젝션을 ProjectSearchDto로 변환하는 정적 메서드.
+     * @param row 변환할 검색 프로젝션
+     * @param currentFunding 현재 펀딩 금액 (반영 대기 중인 증감분 포함 값)
+     * @param now 요청 기준 시각 (한 요청의 모든 결과에 같은 값을 사용)
      * @return 변환된 ProjectSearchDto 객체
      */
-    public static ProjectSearchDto from(Project project) {
-        long daysLeft = Duration.between(LocalDateTime.now(), project.getEndDate()).toDays();
+    public static ProjectSearchDto from(ProjectSearchRow row, BigDecimal currentFunding, LocalDateTime now) {
+        long daysLeft = Duration.between(now, row.endDate()).toDays();
         return new ProjectSearchDto(
-                project.getProjectId(),
-                project.getTitle(),
-                project.getSimpleDescription(),
-                project.getBannerUrl(),
-                project.getDescription(),
-                project.getFundingGoal(),
-                project.getCurrentFunding(),
-                project.getStartDate(),
-                project.getEndDate(),
-                project.getStatus(),
+                row.projectId(),
+                row.title(),
+                row.simpleDescription(),
+                row.bannerUrl(),
+                snippet(row.descriptionSnippet()),
+                row.fundingGoal(),
+                currentFunding,
+                row.startDate(),
+                row.endDate(),
+                row.status(),
                 daysLeft
         );
     }
-}
\ No newline at end of file
+
+    // DB에서 한 글자 더 읽어 온 경우에만 잘린 것으로 보고 말줄임표를 붙입니다.
+    private static String snippet(String description) {
+        if (description == null || description.length() <= ProjectSearchQueryRepository.SNIPPET_LENGTH) {
+            return description;
+        }
+        return description.substring(0, ProjectSearchQueryRepository.SNIPPET_LENGTH) + "…";
+    }
+}
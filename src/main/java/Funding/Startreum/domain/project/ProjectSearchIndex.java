@@ -0,0 +1,456 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.entity.ProjectChangedEvent;
+import Funding.Startreum.domain.project.entity.ProjectFundingFlushEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 승인된 프로젝트의 제목/설명을 대상으로 하는 메모리 내 n-gram 역색인.
+ * <p>
+ * 텍스트를 영문 소문자, 숫자, 한글만 남기고 그 밖의 문자(공백, 기호)는 단어 경계인 공백 하나로 바꾼 뒤
+ * 경계를 넘지 않는 1-gram과 2-gram으로 색인합니다. 형태소 분석 없이도 한글 부분 문자열 검색이 가능하며, 검색 시에는
+ * <ol>
+ *     <li>검색어의 n-gram 포스팅 목록 교집합으로 후보를 추리고,</li>
+ *     <li>정규화된 원문에 검색어가 연속으로 포함되는지(구문 일치) 확인한 뒤,</li>
+ *     <li>BM25 점수(제목 가중치 적용)로 정렬합니다.</li>
+ * </ol>
+ * 검색어는 컨트롤러에서 영문, 숫자, 한글만 남기므로 단어 경계를 넘는 일치는 없습니다.
+ * 즉 "스마트 워치"는 "스마트워치"로 검색되지 않으며, 결과 집합은 기존 {@code LIKE %keyword%} 검색(대소문자 무시)과 같고
+ * 순서만 관련도 순으로 바뀝니다.
+ * <p>
+ * 커서 기반 조회({@link #page})를 위해 문서마다 정렬 키(생성일, 종료일, 펀딩 금액)도 함께 보관하고 색인 안에서 키셋 순서로
+ * 한 페이지만 잘라 반환하므로, 일치 건수가 많아도 DB에는 페이지 크기만큼의 ID만 전달됩니다.
+ * <p>
+ * 서버 시작 시 DB에서 전체 색인을 구축하며, 이후에는 {@link ProjectChangedEvent}(커밋 이후)로 프로젝트 단위 갱신합니다.
+ * 펀딩 금액은 증감분 반영 커밋({@link ProjectFundingFlushEvent}) 후 DB 값을 다시 읽어 갱신합니다.
+ * 색인 구축이 끝나기 전에는 {@link #search}가 empty를 반환하므로 호출 측에서 DB 검색으로 대체합니다.
+ */
+@Slf4j
+@Component
+public class ProjectSearchIndex {
+
+    private static final Pattern NON_SEARCHABLE = Pattern.compile("[^a-z0-9가-힣]+");
+    private static final char BOUNDARY = ' ';
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;        // 제목 n-gram 빈도 가중치
+    private static final double TITLE_PHRASE_BOOST = 2.0; // 제목에 검색어가 그대로 포함된 경우 점수 배수
+
+    private final ProjectSearchRepository projectSearchRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, IndexedProject> documents = new HashMap<>();
+    private final Map<String, Map<Integer, Posting>> postings = new HashMap<>();
+    private long totalLength; // 가중치 적용 문서 길이 합계 (평균 길이 계산용)
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private final Set<Integer> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public ProjectSearchIndex(ProjectSearchRepository projectSearchRepository) {
+        this.projectSearchRepository = projectSearchRepository;
+    }
+
+    /**
+     * 검색 결과 (현재 페이지의 프로젝트 ID와 전체 일치 건수)
+     */
+    public record SearchResult(List<Integer> projectIds, int totalHits) {
+    }
+
+    /**
+     * 검색어와 상태 조건으로 색인을 검색합니다.
+     *
+     * @param query  검색어
+     * @param status 프로젝트 상태 (null이면 전체)
+     * @param page   페이지 번호 (0부터)
+     * @param size   페이지 크기
+     * @return 관련도 순 검색 결과, 색인이 준비되지 않았으면 empty
+     */
+    public Optional<SearchResult> search(String query, Project.Status status, int page, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String phrase = normalize(query);
+        if (phrase.isEmpty()) {
+            return Optional.of(new SearchResult(List.of(), 0));
+        }
+
+        lock.readLock().lock();
+        try {
+            List<ScoredProject> hits = score(phrase, status);
+            hits.sort(Comparator.comparingDouble(ScoredProject::score).reversed()
+                    .thenComparing(ScoredProject::projectId, Comparator.reverseOrder()));
+
+            int from = Math.min(page * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+            List<Integer> ids = hits.subList(from, to).stream().map(ScoredProject::projectId).toList();
+            return Optional.of(new SearchResult(ids, hits.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 상태 조건에 일치하는 모든 프로젝트 ID를 반환합니다. (정렬 없음)
+     * 커서 기반 조회처럼 다른 기준으로 정렬할 때 후보 집합으로 사용합니다.
+     *
+     * @param query  검색어
+     * @param status 프로젝트 상태 (null이면 전체)
+     * @return 일치하는 프로젝트 ID 목록, 색인이 준비되지 않았으면 empty
+     */
+    public Optional<List<Integer>> matchingIds(String query, Project.Status status) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String phrase = normalize(query);
+        if (phrase.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(matches(phrase, status).stream().map(IndexedProject::projectId).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 상태 조건에 일치하는 프로젝트를 정렬 기준의 키셋 순서로 커서 다음부터 최대 limit건 반환합니다.
+     * 호출 측은 반환된 ID만 DB에서 조회하므로 조회 파라미터 수가 일치 건수와 무관하게 limit 이하로 제한됩니다.
+     *
+     * @param query  검색어
+     * @param status 프로젝트 상태 (null이면 전체)
+     * @param sort   정렬 기준
+     * @param after  이전 페이지의 커서 (첫 페이지면 null)
+     * @param limit  조회 건수
+     * @return 각 프로젝트의 커서(정렬 키, projectId) 목록, 색인이 준비되지 않았으면 empty
+     */
+    public Optional<List<ProjectSearchCursor>> page(String query, Project.Status status, ProjectSearchSort sort,
+                                                    ProjectSearchCursor after, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String phrase = normalize(query);
+        if (phrase.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        Comparator<ProjectSearchCursor> order = ProjectSearchCursor.order(sort);
+        lock.readLock().lock();
+        try {
+            return Optional.of(matches(phrase, status).stream()
+                    .map(document -> ProjectSearchCursor.of(sort, document.projectId(), document.createdAt(),
+                            document.endDate(), document.currentFunding()))
+                    .filter(position -> after == null || order.compare(position, after) > 0)
+                    .sorted(order)
+                    .limit(limit)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서버 시작 시 승인된 프로젝트 전체를 ID 순서로 나누어 읽어 색인을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        changedDuringRebuild.clear();
+
+        int indexed = 0;
+        Integer afterProjectId = 0;
+        List<ProjectIndexSource> page;
+        do {
+            page = projectSearchRepository.findIndexSources(afterProjectId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (ProjectIndexSource source : page) {
+                put(source);
+            }
+            if (!page.isEmpty()) {
+                afterProjectId = page.get(page.size() - 1).projectId();
+                indexed += page.size();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        // 구축 중 변경된 프로젝트는 구축 과정에서 이전 값으로 덮어써졌을 수 있으므로 다시 반영합니다.
+        rebuilding = false;
+        for (Integer projectId : changedDuringRebuild) {
+            reindex(projectId);
+        }
+        changedDuringRebuild.clear();
+
+        ready = true;
+        log.info("프로젝트 검색 색인 구축 완료 - {}건", indexed);
+    }
+
+    /**
+     * 프로젝트 변경(커밋 이후)을 색인에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.projectId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.projectId());
+        }
+        reindex(event.projectId());
+    }
+
+    /**
+     * 펀딩 증감분이 DB에 반영(커밋)되면 색인의 펀딩 금액을 DB 값으로 다시 맞춥니다.
+     * 증감분을 직접 더하지 않으므로 그 사이 재색인이 일어나도 두 번 반영되지 않습니다.
+     */
+    @EventListener
+    public void onFundingFlush(ProjectFundingFlushEvent event) {
+        if (event.phase() != ProjectFundingFlushEvent.Phase.COMMITTED || !contains(event.projectId())) {
+            return;
+        }
+        BigDecimal currentFunding = projectSearchRepository.findCurrentFunding(event.projectId()).orElse(BigDecimal.ZERO);
+
+        lock.writeLock().lock();
+        try {
+            documents.computeIfPresent(event.projectId(), (projectId, document) -> document.withCurrentFunding(currentFunding));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB의 최신 값으로 프로젝트 하나를 다시 색인합니다. 승인되지 않았거나 삭제된 프로젝트는 색인에서 제거합니다.
+     */
+    public void reindex(Integer projectId) {
+        Optional<ProjectIndexSource> source = projectSearchRepository.findIndexSource(projectId);
+        if (source.isPresent() && source.get().isApproved() == Project.ApprovalStatus.APPROVE) {
+            put(source.get());
+        } else {
+            remove(projectId);
+        }
+    }
+
+    private boolean contains(Integer projectId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(projectId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인과 검색어에 같은 규칙으로 텍스트를 정규화합니다.
+     * (영문 소문자, 숫자, 한글만 유지하고 나머지 문자 묶음은 단어 경계인 공백 하나로 치환)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NON_SEARCHABLE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(String.valueOf(BOUNDARY)).trim();
+    }
+
+    private List<ScoredProject> score(String phrase, Project.Status status) {
+        List<Map<Integer, Posting>> lists = postingLists(phrase);
+        int documentCount = documents.size();
+        double averageLength = documentCount == 0 ? 1 : Math.max(1, (double) totalLength / documentCount);
+
+        List<ScoredProject> hits = new ArrayList<>();
+        for (IndexedProject document : matches(phrase, status, lists)) {
+            double score = 0;
+            for (Map<Integer, Posting> list : lists) {
+                Posting posting = list.get(document.projectId());
+                double idf = Math.log(1 + (documentCount - list.size() + 0.5) / (list.size() + 0.5));
+                double tf = (double) TITLE_WEIGHT * posting.titleFrequency() + posting.descriptionFrequency();
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                score += idf * tf * (K1 + 1) / (tf + norm);
+            }
+            if (document.title().contains(phrase)) {
+                score *= TITLE_PHRASE_BOOST;
+            }
+            hits.add(new ScoredProject(document.projectId(), score));
+        }
+        return hits;
+    }
+
+    private List<IndexedProject> matches(String phrase, Project.Status status) {
+        return matches(phrase, status, postingLists(phrase));
+    }
+
+    /**
+     * 포스팅 목록 교집합 중 상태 조건과 연속 구문이 일치하는 문서
+     */
+    private List<IndexedProject> matches(String phrase, Project.Status status, List<Map<Integer, Posting>> lists) {
+        List<IndexedProject> matched = new ArrayList<>();
+        if (lists.isEmpty()) {
+            return matched;
+        }
+
+        candidates:
+        for (Integer projectId : lists.get(0).keySet()) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).containsKey(projectId)) {
+                    continue candidates;
+                }
+            }
+
+            IndexedProject document = documents.get(projectId);
+            if (status != null && document.status() != status) {
+                continue;
+            }
+            if (!document.title().contains(phrase) && !document.description().contains(phrase)) {
+                continue; // n-gram은 모두 있지만 연속된 구문은 아님
+            }
+            matched.add(document);
+        }
+        return matched;
+    }
+
+    /**
+     * 검색어 n-gram의 포스팅 목록 (짧은 순). 색인에 없는 n-gram이 있으면 빈 목록
+     */
+    private List<Map<Integer, Posting>> postingLists(String phrase) {
+        // 한 글자 단어는 1-gram, 그 외에는 2-gram으로 후보를 찾습니다.
+        Set<String> queryGrams = new LinkedHashSet<>();
+        for (String word : phrase.split(String.valueOf(BOUNDARY))) {
+            if (word.length() == 1) {
+                queryGrams.add(word);
+            } else {
+                queryGrams.addAll(bigrams(word));
+            }
+        }
+
+        List<Map<Integer, Posting>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Map<Integer, Posting> list = postings.get(gram);
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size)); // 가장 짧은 포스팅 목록부터 교집합
+        return lists;
+    }
+
+    private void put(ProjectIndexSource source) {
+        if (source.isApproved() != Project.ApprovalStatus.APPROVE) {
+            remove(source.projectId());
+            return;
+        }
+
+        String title = normalize(source.title());
+        String description = normalize(source.description());
+        IndexedProject document = new IndexedProject(source.projectId(), title, description, source.status(),
+                TITLE_WEIGHT * title.length() + description.length(),
+                source.createdAt(), source.endDate(), source.currentFunding());
+        Map<String, int[]> frequencies = frequencies(title, description);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(source.projectId());
+            documents.put(source.projectId(), document);
+            totalLength += document.length();
+            frequencies.forEach((gram, counts) -> postings
+                    .computeIfAbsent(gram, g -> new HashMap<>())
+                    .put(source.projectId(), new Posting(counts[0], counts[1])));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Integer projectId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(projectId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Integer projectId) {
+        IndexedProject previous = documents.remove(projectId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String gram : frequencies(previous.title(), previous.description()).keySet()) {
+            Map<Integer, Posting> list = postings.get(gram);
+            if (list != null) {
+                list.remove(projectId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * n-gram별 [제목 빈도, 설명 빈도]
+     */
+    private static Map<String, int[]> frequencies(String title, String description) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String gram : grams(title)) {
+            frequencies.computeIfAbsent(gram, g -> new int[2])[0]++;
+        }
+        for (String gram : grams(description)) {
+            frequencies.computeIfAbsent(gram, g -> new int[2])[1]++;
+        }
+        return frequencies;
+    }
+
+    // 색인용: 1-gram + 2-gram (단어 경계는 색인하지 않음)
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != BOUNDARY) {
+                grams.add(text.substring(i, i + 1));
+            }
+        }
+        grams.addAll(bigrams(text));
+        return grams;
+    }
+
+    // 단어 경계를 넘는 2-gram은 제외
+    private static List<String> bigrams(String text) {
+        List<String> grams = new ArrayList<>(Math.max(0, text.length() - 1));
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            if (text.charAt(i) != BOUNDARY && text.charAt(i + 1) != BOUNDARY) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private record IndexedProject(Integer projectId, String title, String description, Project.Status status, int length,
+                                  LocalDateTime createdAt, LocalDateTime endDate, BigDecimal currentFunding) {
+
+        IndexedProject withCurrentFunding(BigDecimal currentFunding) {
+            return new IndexedProject(projectId, title, description, status, length, createdAt, endDate, currentFunding);
+        }
+    }
+
+    private record Posting(int titleFrequency, int descriptionFrequency) {
+    }
+
+    private record ScoredProject(Integer projectId, double score) {
+    }
+}
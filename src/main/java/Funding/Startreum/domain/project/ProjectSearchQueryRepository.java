@@ -0,0 +1,144 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 승인된 프로젝트의 검색/목록 조회.
+ * <p>
+ * 결과는 {@link ProjectSearchRow} 프로젝션으로만 조회하며, 설명(@Lob)은 요청한 경우에만 앞부분을 DB에서 잘라 읽습니다.
+ * 커서(키셋) 조회는 OFFSET 없이 "마지막으로 본 (정렬 키, projectId) 다음"부터 읽으므로,
+ * 정렬 기준별 (is_approved, 정렬 키, project_id) 인덱스를 따라 페이지 깊이와 무관하게 일정한 비용으로 조회합니다.
+ * 정렬 기준/상태/검색 조건 조합마다 JPQL이 달라지므로 EntityManager로 직접 구성합니다.
+ */
+@Repository
+public class ProjectSearchQueryRepository {
+
+    /**
+     * 설명 미리보기 최대 길이. 잘렸는지 판단할 수 있도록 DB에서는 한 글자 더 읽습니다.
+     */
+    public static final int SNIPPET_LENGTH = 120;
+
+    private static final String KEYWORD_CONDITION = " AND (p.title LIKE :pattern OR p.description LIKE :pattern)";
+
+    private final EntityManager entityManager;
+
+    public ProjectSearchQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 커서(키셋) 기반 조회
+     * <p>
+     * 정렬 키가 null인 행은 가장 작은 값으로 취급하여(MySQL/H2 기본 정렬과 동일) 오름차순이면 맨 앞, 내림차순이면 맨 뒤에 둡니다.
+     *
+     * @param sort        정렬 기준
+     * @param after       이전 페이지의 커서 (첫 페이지면 null)
+     * @param status      프로젝트 상태 (null이면 전체)
+     * @param keyword     제목/설명 검색어 (검색 색인을 쓸 수 없을 때만 사용, null이면 제한 없음)
+     * @param limit       조회 건수
+     * @param withSnippet 설명 미리보기 포함 여부
+     * @return 정렬된 프로젝트 목록
+     */
+    public List<ProjectSearchRow> findPage(ProjectSearchSort sort, ProjectSearchCursor after, Project.Status status,
+                                           String keyword, int limit, boolean withSnippet) {
+        String key = sort.keyExpression();
+        String direction = sort.ascending() ? "ASC NULLS FIRST" : "DESC NULLS LAST";
+
+        StringBuilder jpql = new StringBuilder(select(withSnippet)).append(where(status, keyword));
+        if (after != null) {
+            jpql.append(" AND ").append(keysetCondition(sort, after.sortKey() == null));
+        }
+        jpql.append(" ORDER BY ").append(key).append(' ').append(direction)
+                .append(", p.projectId ").append(sort.ascending() ? "ASC" : "DESC");
+
+        TypedQuery<ProjectSearchRow> query = entityManager.createQuery(jpql.toString(), ProjectSearchRow.class);
+        bind(query, status, keyword);
+        if (after != null) {
+            if (after.sortKey() != null) {
+                query.setParameter("afterKey", after.sortKey());
+            }
+            query.setParameter("afterId", after.projectId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 페이지 번호 기반 조회 (projectId 순)
+     */
+    public List<ProjectSearchRow> findByOffset(Project.Status status, String keyword, int page, int size, boolean withSnippet) {
+        String jpql = select(withSnippet) + where(status, keyword) + " ORDER BY p.projectId";
+        TypedQuery<ProjectSearchRow> query = entityManager.createQuery(jpql, ProjectSearchRow.class);
+        bind(query, status, keyword);
+        return query.setFirstResult(page * size).setMaxResults(size).getResultList();
+    }
+
+    /**
+     * ID 목록으로 조회 (순서 보장 없음)
+     */
+    public List<ProjectSearchRow> findByIds(Collection<Integer> projectIds, boolean withSnippet) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        String jpql = select(withSnippet) + where(null, null) + " AND p.projectId IN :projectIds";
+        return entityManager.createQuery(jpql, ProjectSearchRow.class)
+                .setParameter("projectIds", projectIds)
+                .getResultList();
+    }
+
+    /**
+     * 승인된 프로젝트 수 (상태, 검색어 필터 선택)
+     */
+    public long countApproved(Project.Status status, String keyword) {
+        TypedQuery<Long> query = entityManager.createQuery("SELECT COUNT(p) FROM Project p" + where(status, keyword), Long.class);
+        bind(query, status, keyword);
+        return query.getSingleResult();
+    }
+
+    /**
+     * 커서 다음 행 조건. null 정렬 키 구간은 오름차순이면 맨 앞, 내림차순이면 맨 뒤에 있습니다.
+     */
+    private String keysetCondition(ProjectSearchSort sort, boolean afterNullKey) {
+        String key = sort.keyExpression();
+        String comparison = sort.ascending() ? ">" : "<";
+        String sameKey = "p.projectId " + comparison + " :afterId";
+
+        if (afterNullKey) {
+            String insideNulls = key + " IS NULL AND " + sameKey;
+            return sort.ascending()
+                    ? "((" + insideNulls + ") OR " + key + " IS NOT NULL)"
+                    : "(" + insideNulls + ")";
+        }
+        return "(" + key + " " + comparison + " :afterKey OR (" + key + " = :afterKey AND " + sameKey + ")"
+                + (sort.ascending() ? "" : " OR " + key + " IS NULL") + ")";
+    }
+
+    private String select(boolean withSnippet) {
+        String snippet = withSnippet
+                ? "SUBSTRING(p.description, 1, " + (SNIPPET_LENGTH + 1) + ")"
+                : "CAST(NULL AS String)";
+        return "SELECT new Funding.Startreum.domain.project.ProjectSearchRow(" +
+                "p.projectId, p.title, p.simpleDescription, p.bannerUrl, " + snippet + ", " +
+                "p.fundingGoal, p.currentFunding, p.startDate, p.endDate, p.status, p.createdAt) FROM Project p";
+    }
+
+    private String where(Project.Status status, String keyword) {
+        return " WHERE p.isApproved = 'APPROVE'"
+                + (status != null ? " AND p.status = :status" : "")
+                + (keyword != null ? KEYWORD_CONDITION : "");
+    }
+
+    private void bind(TypedQuery<?> query, Project.Status status, String keyword) {
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (keyword != null) {
+            query.setParameter("pattern", "%" + keyword + "%");
+        }
+    }
+}
@@ -2,47 +2,51 @@ package Funding.Startreum.domain.project;
 
 
 import Funding.Startreum.domain.project.entity.Project;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
 /**
- * 프로젝트 검색을 위한 JPA Repository 인터페이스.
- * - 승인된 프로젝트만 검색하도록 설정 (`isApproved = 'APPROVE'`)
+ * 프로젝트 검색 색인을 위한 JPA Repository 인터페이스.
+ * - 승인된 프로젝트만 색인하도록 설정 (`isApproved = 'APPROVE'`)
+ * - 검색/목록 결과 조회는 {@link ProjectSearchQueryRepository}에서 프로젝션으로 처리
  */
 public interface ProjectSearchRepository extends JpaRepository<Project, Integer> {
 
     /**
-     * 특정 상태를 가진 프로젝트 중 제목 또는 설명에 특정 키워드가 포함된 프로젝트 검색 (승인된 프로젝트만).
+     * 검색 색인 구축용 프로젝션을 ID 순서로 조회 (승인된 프로젝트만).
      *
-     * @param keyword  검색할 키워드 (제목 또는 설명)
-     * @param status   프로젝트 상태 (ONGOING, SUCCESS, FAILED)
-     * @param pageable 페이지네이션 정보
-     * @return 검색된 프로젝트 목록 (페이지 형식)
+     * @param afterProjectId 마지막으로 읽은 프로젝트 ID
+     * @param pageable       조회 건수
+     * @return 색인 대상 프로젝트 목록
      */
-    @Query("SELECT p FROM Project p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
-            "AND p.status = :status AND p.isApproved = 'APPROVE'")
-    Page<Project> searchByKeywordAndStatus(@Param("keyword") String keyword, @Param("status") Project.Status status, Pageable pageable);
+    @Query("SELECT new Funding.Startreum.domain.project.ProjectIndexSource(p.projectId, p.title, p.description, p.status, p.isApproved, " +
+            "p.createdAt, p.endDate, p.currentFunding) " +
+            "FROM Project p WHERE p.projectId > :afterProjectId AND p.isApproved = 'APPROVE' ORDER BY p.projectId")
+    List<ProjectIndexSource> findIndexSources(@Param("afterProjectId") Integer afterProjectId, Pageable pageable);
 
     /**
-     * 제목 또는 설명에 특정 키워드가 포함된 승인된 프로젝트 검색 (상태 필터링 없음).
+     * 단일 프로젝트의 색인용 프로젝션 조회.
      *
-     * @param keyword  검색할 키워드 (제목 또는 설명)
-     * @param pageable 페이지네이션 정보
-     * @return 검색된 프로젝트 목록 (페이지 형식)
+     * @param projectId 프로젝트 ID
+     * @return 색인 대상 프로젝트
      */
-    @Query("SELECT p FROM Project p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
-            "AND p.isApproved = 'APPROVE'")
-    Page<Project> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT new Funding.Startreum.domain.project.ProjectIndexSource(p.projectId, p.title, p.description, p.status, p.isApproved, " +
+            "p.createdAt, p.endDate, p.currentFunding) " +
+            "FROM Project p WHERE p.projectId = :projectId")
+    Optional<ProjectIndexSource> findIndexSource(@Param("projectId") Integer projectId);
 
     /**
-     * 검색어 없이 모든 승인된 프로젝트 조회
+     * DB에 반영된 펀딩 금액 조회 (증감분 반영 후 색인의 펀딩 금액순 정렬 키 갱신용).
      *
-     * @param pageable 페이지네이션 정보
-     * @return 승인된 전체 프로젝트 목록 (페이지 형식)
+     * @param projectId 프로젝트 ID
+     * @return 펀딩 금액 (프로젝트가 없거나 금액이 null이면 empty)
      */
-    @Query("SELECT p FROM Project p WHERE p.isApproved = 'APPROVE'")
-    Page<Project> findAllApproved(Pageable pageable);
-}
\ No newline at end of file
+    @Query("SELECT p.currentFunding FROM Project p WHERE p.projectId = :projectId")
+    Optional<BigDecimal> findCurrentFunding(@Param("projectId") Integer projectId);
+}
@@ -0,0 +1,25 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 검색/목록 화면에 필요한 컬럼만 담은 프로젝션.
+ * 엔티티와 @Lob 설명 전체를 읽지 않도록 생성자 표현식으로 조회합니다.
+ */
+public record ProjectSearchRow(
+        Integer projectId,          // 프로젝트 고유 ID
+        String title,               // 프로젝트 제목
+        String simpleDescription,   // 간단한 설명
+        String bannerUrl,           // 배너 이미지 URL
+        String descriptionSnippet,  // 설명 앞부분 (요청 시에만 조회)
+        BigDecimal fundingGoal,     // 목표 금액
+        BigDecimal currentFunding,  // DB에 반영된 펀딩 금액
+        LocalDateTime startDate,    // 시작 날짜
+        LocalDateTime endDate,      // 종료 날짜
+        Project.Status status,      // 프로젝트 상태
+        LocalDateTime createdAt     // 생성 일자 (커서 정렬 키)
+) {
+}
@@ -2,60 +2,178 @@ package Funding.Startreum.domain.project;
 
 
 import Funding.Startreum.domain.project.entity.Project;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 프로젝트 검색을 담당하는 서비스 클래스.
  * - 프로젝트 제목 또는 설명을 기반으로 검색 가능.
  * - 프로젝트 상태(ONGOING, SUCCESS, FAILED) 필터링 가능.
  * - 승인된(`APPROVE`) 프로젝트만 조회 가능.
+ * - 검색어 검색은 n-gram 색인({@link ProjectSearchIndex})을 사용하며, 색인 구축 전에는 DB 검색으로 대체.
+ * - 결과는 목록 화면용 컬럼만 프로젝션({@link ProjectSearchRow})으로 조회하며, 설명은 요청 시 미리보기만 포함.
  */
 @Service
 public class ProjectSearchService {
 
-    private final ProjectSearchRepository projectSearchRepository;
+    private final ProjectFundingCounter projectFundingCounter;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSearchQueryRepository projectSearchQueryRepository;
+    private final ProjectSearchCountCache projectSearchCountCache;
 
-    public ProjectSearchService(ProjectSearchRepository projectSearchRepository) {
-        this.projectSearchRepository = projectSearchRepository;
+    public ProjectSearchService(ProjectFundingCounter projectFundingCounter, ProjectSearchIndex projectSearchIndex,
+                                ProjectSearchQueryRepository projectSearchQueryRepository,
+                                ProjectSearchCountCache projectSearchCountCache) {
+        this.projectFundingCounter = projectFundingCounter;
+        this.projectSearchIndex = projectSearchIndex;
+        this.projectSearchQueryRepository = projectSearchQueryRepository;
+        this.projectSearchCountCache = projectSearchCountCache;
     }
 
     /**
      * 검색 조건에 따라 프로젝트 조회
      */
     public List<ProjectSearchDto> searchProjects(String query, String status, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Project> projectPage;
+        return searchProjects(query, status, page, size, false);
+    }
 
+    /**
+     * 검색 조건에 따라 프로젝트 조회
+     *
+     * @param withSnippet 설명 미리보기 포함 여부
+     */
+    public List<ProjectSearchDto> searchProjects(String query, String status, int page, int size, boolean withSnippet) {
         // ✅ 검색어가 없을 경우 전체 승인된 프로젝트 조회
         if (query == null || query.trim().isEmpty()) {
-            return getAllApprovedProjects(page, size);
+            return getAllApprovedProjects(page, size, withSnippet);
         }
 
         // ✅ 검색어가 있을 경우 상태 필터링 적용
-        if (status != null && !status.isEmpty()) {
-            try {
-                Project.Status projectStatus = Project.Status.valueOf(status.toUpperCase());
-                projectPage = projectSearchRepository.searchByKeywordAndStatus(query, projectStatus, pageable);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("잘못된 상태값입니다. 허용되는 값: ONGOING, SUCCESS, FAILED");
-            }
-        } else {
-            projectPage = projectSearchRepository.searchByKeyword(query, pageable);
+        Project.Status projectStatus = parseStatus(status);
+        LocalDateTime now = LocalDateTime.now();
+
+        // ✅ 색인이 준비되어 있으면 관련도 순 색인 검색
+        Optional<ProjectSearchIndex.SearchResult> indexed = projectSearchIndex.search(query, projectStatus, page, size);
+        if (indexed.isPresent()) {
+            return loadInOrder(indexed.get().projectIds(), withSnippet, now);
         }
 
-        return projectPage.map(ProjectSearchDto::from).toList();
+        return toSearchDtos(projectSearchQueryRepository.findByOffset(projectStatus, query, page, size, withSnippet), now);
     }
 
     /**
      * 전체 승인된 프로젝트 조회
      */
     public List<ProjectSearchDto> getAllApprovedProjects(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return projectSearchRepository.findAllApproved(pageable).map(ProjectSearchDto::from).toList();
+        return getAllApprovedProjects(page, size, false);
+    }
+
+    /**
+     * 전체 승인된 프로젝트 조회
+     *
+     * @param withSnippet 설명 미리보기 포함 여부
+     */
+    public List<ProjectSearchDto> getAllApprovedProjects(int page, int size, boolean withSnippet) {
+        return toSearchDtos(projectSearchQueryRepository.findByOffset(null, null, page, size, withSnippet), LocalDateTime.now());
+    }
+
+    /**
+     * 커서 기반 조회 (검색어가 없으면 승인된 전체 프로젝트)
+     *
+     * @param query       검색어 (선택)
+     * @param status      프로젝트 상태 (선택)
+     * @param sort        정렬 기준 (newest, ending-soon, most-funded)
+     * @param after       이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기
+     * @param withSnippet 설명 미리보기 포함 여부
+     */
+    public ProjectCursorPage searchProjectsByCursor(String query, String status, String sort, String after, int size,
+                                                    boolean withSnippet) {
+        ProjectSearchSort searchSort = ProjectSearchSort.from(sort);
+        ProjectSearchCursor cursor = (after == null || after.isBlank()) ? null : ProjectSearchCursor.decode(after, searchSort);
+        Project.Status projectStatus = parseStatus(status);
+        boolean hasQuery = query != null && !query.isBlank();
+
+        // ✅ 검색어가 있으면 색인 안에서 키셋 순서로 한 페이지만 골라 해당 ID만 조회 (한 건 더 골라 다음 페이지 확인)
+        if (hasQuery) {
+            Optional<List<ProjectSearchCursor>> positions = projectSearchIndex.page(query, projectStatus, searchSort, cursor, size + 1);
+            if (positions.isPresent()) {
+                List<ProjectSearchCursor> page = positions.get();
+                boolean hasNext = page.size() > size;
+                if (hasNext) {
+                    page = page.subList(0, size);
+                }
+                String nextCursor = hasNext ? page.get(page.size() - 1).encode() : null;
+                List<Integer> projectIds = page.stream().map(ProjectSearchCursor::projectId).toList();
+                return new ProjectCursorPage(loadInOrder(projectIds, withSnippet, LocalDateTime.now()), nextCursor, hasNext);
+            }
+        }
+
+        // 색인 준비 전에는 LIKE 조건, 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        List<ProjectSearchRow> rows = projectSearchQueryRepository.findPage(
+                searchSort, cursor, projectStatus, hasQuery ? query : null, size + 1, withSnippet);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? ProjectSearchCursor.of(searchSort, rows.get(rows.size() - 1)).encode() : null;
+        return new ProjectCursorPage(toSearchDtos(rows, LocalDateTime.now()), nextCursor, hasNext);
+    }
+
+    /**
+     * 검색/목록 전체 건수 추정치 (캐시됨)
+     */
+    public long estimateTotal(String query, String status) {
+        Project.Status projectStatus = parseStatus(status);
+        String keyword = (query == null || query.isBlank()) ? null : query;
+        String cacheKey = projectStatus + "|" + (keyword == null ? "" : ProjectSearchIndex.normalize(keyword));
+
+        return projectSearchCountCache.get(cacheKey, () -> {
+            if (keyword == null) {
+                return projectSearchQueryRepository.countApproved(projectStatus, null);
+            }
+            return projectSearchIndex.matchingIds(keyword, projectStatus)
+                    .map(ids -> (long) ids.size())
+                    .orElseGet(() -> projectSearchQueryRepository.countApproved(projectStatus, keyword));
+        });
+    }
+
+    private Project.Status parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return Project.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 상태값입니다. 허용되는 값: ONGOING, SUCCESS, FAILED");
+        }
+    }
+
+    /**
+     * 색인이 반환한 순서대로 프로젝트를 조회하여 DTO로 변환
+     */
+    private List<ProjectSearchDto> loadInOrder(List<Integer> projectIds, boolean withSnippet, LocalDateTime now) {
+        Map<Integer, ProjectSearchRow> rows = projectSearchQueryRepository.findByIds(projectIds, withSnippet).stream()
+                .collect(Collectors.toMap(ProjectSearchRow::projectId, Function.identity()));
+        return toSearchDtos(projectIds.stream().map(rows::get).filter(Objects::nonNull).toList(), now);
+    }
+
+    /**
+     * 반영 대기 중인 펀딩 증감분을 포함하여 검색 결과 DTO로 변환 (남은 일수는 같은 기준 시각으로 계산)
+     */
+    private List<ProjectSearchDto> toSearchDtos(List<ProjectSearchRow> rows, LocalDateTime now) {
+        return rows.stream()
+                .map(row -> ProjectSearchDto.from(row,
+                        projectFundingCounter.currentFunding(row.projectId(), row.currentFunding()), now))
+                .toList();
     }
-}
\ No newline at end of file
+}
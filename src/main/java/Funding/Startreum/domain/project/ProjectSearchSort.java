@@ -0,0 +1,53 @@
+package Funding.Startreum.domain.project;
+
+import java.util.Arrays;
+
+/**
+ * 커서 기반 프로젝트 조회의 정렬 기준.
+ * 모든 정렬은 projectId를 보조 키로 사용하여 같은 정렬 키 안에서도 순서가 고정됩니다.
+ * <p>
+ * ⚠️ 펀딩 금액순은 조회 시점의 금액으로 매기는 실시간 순위입니다. 커서는 마지막으로 본 (금액, projectId)를
+ * 스냅샷으로 담아 다음 페이지를 그 경계 이후부터 읽으므로 같은 요청 흐름에서 순서가 뒤로 돌아가지는 않지만,
+ * 페이지 사이에 경계를 넘어 금액이 바뀐 프로젝트는 빠지거나(경계 위로 상승) 다시 나타날(경계 아래로 하락) 수 있습니다.
+ * 클라이언트는 projectId로 중복을 제거해야 합니다.
+ */
+public enum ProjectSearchSort {
+    NEWEST("newest", "p.createdAt", false),                                   // 최신 등록순
+    ENDING_SOON("ending-soon", "p.endDate", true),                            // 마감 임박순
+    MOST_FUNDED("most-funded", "COALESCE(p.currentFunding, 0)", false);       // 펀딩 금액순
+
+    private final String param;
+    private final String keyExpression;
+    private final boolean ascending;
+
+    ProjectSearchSort(String param, String keyExpression, boolean ascending) {
+        this.param = param;
+        this.keyExpression = keyExpression;
+        this.ascending = ascending;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    /**
+     * 정렬 키 JPQL 식
+     */
+    public String keyExpression() {
+        return keyExpression;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+
+    /**
+     * 요청 파라미터(newest, ending-soon, most-funded)를 정렬 기준으로 변환합니다.
+     */
+    public static ProjectSearchSort from(String param) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("잘못된 정렬 기준입니다. 허용되는 값: newest, ending-soon, most-funded"));
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -18,7 +19,16 @@ import java.util.List;
 @Setter
 @ToString
 @Entity
-@Table(name = "project")
+@EntityListeners(ProjectChangeListener.class)
+@DynamicUpdate // 변경된 컬럼만 UPDATE하여 currentFunding 원자적 증감이 엔티티 저장으로 덮어써지지 않도록 함
+@Table(name = "project", indexes = {
+        @Index(name = "idx_project_status_end_date", columnList = "status, endDate"), // 종료일이 지난 진행 중 프로젝트 범위 조회
+        // 검색/목록 커서 조회 (정렬 기준별)
+        @Index(name = "idx_project_approved_created", columnList = "isApproved, createdAt, projectId"),
+        @Index(name = "idx_project_approved_end_date", columnList = "isApproved, endDate, projectId"),
+        @Index(name = "idx_project_approved_funding", columnList = "isApproved, currentFunding, projectId"),
+        @Index(name = "idx_project_creator_created", columnList = "creator_id, createdAt") // 내 프로젝트 최신순 조회
+})
 public class Project {
 
     @Id
@@ -0,0 +1,27 @@
+package Funding.Startreum.domain.project.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Project 엔티티 변경을 감지하여 {@link ProjectChangedEvent}를 발행하는 JPA 엔티티 리스너.
+ * <p>
+ * JPQL 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로, 벌크 UPDATE를 사용하는 곳에서는 이벤트를 직접 발행합니다.
+ */
+public class ProjectChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProjectChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onProjectChanged(Project project) {
+        eventPublisher.publishEvent(new ProjectChangedEvent(project.getProjectId()));
+    }
+}
@@ -0,0 +1,9 @@
+package Funding.Startreum.domain.project.entity;
+
+/**
+ * 프로젝트가 생성/수정/승인/상태 변경/삭제되었음을 알리는 이벤트.
+ *
+ * @param projectId 변경된 프로젝트 ID
+ */
+public record ProjectChangedEvent(Integer projectId) {
+}
@@ -0,0 +1,23 @@
+package Funding.Startreum.domain.project.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * 누적된 펀딩 증감분을 Project.currentFunding에 반영하는 과정을 알리는 이벤트.
+ * <p>
+ * 반영 직전({@link Phase#BEFORE_UPDATE})과 커밋 이후({@link Phase#COMMITTED}) 두 번 발행되므로,
+ * 캐시는 반영 이전에 읽은 값에만 증감분을 더하고 그 사이에 읽은 값은 버릴 수 있습니다.
+ * 반영이 실패하거나 갱신된 행이 없으면 {@link Phase#COMMITTED} 대신 {@link Phase#ABORTED}가 발행됩니다.
+ *
+ * @param projectId 프로젝트 ID
+ * @param delta     반영할 증감 금액
+ * @param phase     반영 단계
+ */
+public record ProjectFundingFlushEvent(Integer projectId, BigDecimal delta, Phase phase) {
+
+    public enum Phase {
+        BEFORE_UPDATE, // UPDATE 실행 직전
+        COMMITTED,     // UPDATE 커밋 이후
+        ABORTED        // UPDATE 실패 또는 0건 (DB 값 변경 없음)
+    }
+}
@@ -2,11 +2,14 @@ package Funding.Startreum.domain.project.repository;
 
 import Funding.Startreum.domain.project.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
@@ -19,4 +22,33 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
      */
     @Query("SELECT f.project FROM Transaction t JOIN t.funding f WHERE t.transactionId = :transactionId")
     Project findProjectByTransactionId(@Param("transactionId") Integer transactionId);
+
+    /**
+     * 상세 조회용 프로젝트 검색 (작성자 함께 조회)
+     * @param projectId 프로젝트 ID
+     * @return 프로젝트
+     */
+    @Query("SELECT p FROM Project p JOIN FETCH p.creator WHERE p.projectId = :projectId")
+    Optional<Project> findDetailById(@Param("projectId") Integer projectId);
+
+    /**
+     * 프로젝트의 현재 펀딩 금액을 단일 UPDATE 문으로 증감합니다.
+     * 엔티티를 읽고 다시 쓰지 않으므로 동시에 결제가 몰려도 갱신이 유실되지 않습니다.
+     * @param projectId 프로젝트 ID
+     * @param amount 증감할 금액 (차감 시 음수)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.currentFunding = COALESCE(p.currentFunding, 0) + :amount WHERE p.projectId = :projectId")
+    int addCurrentFunding(@Param("projectId") Integer projectId, @Param("amount") BigDecimal amount);
+
+    /**
+     * 진행 중 프로젝트의 현재 펀딩 금액을 취소되지 않은 후원 금액 합계로 다시 계산합니다. (유실된 증감분 복구용)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.currentFunding = " +
+            "(SELECT COALESCE(SUM(f.amount), 0) FROM Funding f WHERE f.project = p AND f.isDeleted = false) " +
+            "WHERE p.status = Funding.Startreum.domain.project.entity.Project.Status.ONGOING")
+    int resyncCurrentFundingOfOngoingProjects();
 }
@@ -0,0 +1,187 @@
+package Funding.Startreum.domain.project.service;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.entity.ProjectFundingFlushEvent;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로젝트별 펀딩 금액 증감분을 메모리에 모아 두었다가 주기적으로 Project.currentFunding에 반영하는 카운터입니다.
+ * <p>
+ * 결제/환불은 project 행을 갱신하지 않고 프로젝트별 {@link LongAdder}에만 누적하므로,
+ * 인기 프로젝트에 결제가 몰려도 project 행이 병목이 되지 않습니다.
+ * 조회 시에는 DB 값에 아직 반영되지 않은 증감분을 더해 보여줍니다.
+ * <p>
+ * ⚠️ 증감분은 트랜잭션 커밋 이후에만 누적되며, 종료 시 남은 값을 모두 반영합니다.
+ * 프로세스가 비정상 종료되면 마지막 반영 주기 동안의 증감분은 유실될 수 있습니다.
+ * 이를 복구하는 재계산(funding.counter.resync-on-startup)은 기본으로 꺼져 있으며, 단일 인스턴스로 기동할 때만 켭니다.
+ * 여러 인스턴스가 떠 있는 상태(롤링 배포 등)에서 재계산하면, 다른 인스턴스가 아직 반영하지 않은 증감분이
+ * 이미 합계에 포함된 채로 다시 더해져 이중 집계됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectFundingCounter implements SmartInitializingSingleton {
+
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${funding.counter.resync-on-startup:false}")
+    private boolean resyncOnStartup;
+
+    // 반영 중 동시에 누적된 값이 유실되지 않도록 한 번 만든 셀은 제거하지 않습니다.
+    private final Map<Integer, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * 프로젝트의 펀딩 금액 증감분을 누적합니다.
+     * 진행 중인 트랜잭션이 있으면 커밋된 이후에만 반영됩니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param amount    증감할 금액 (환불 시 음수, 원 단위 정수)
+     */
+    public void add(Integer projectId, BigDecimal amount) {
+        long delta = amount.longValueExact();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(projectId, delta);
+                }
+            });
+        } else {
+            accumulate(projectId, delta);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분을 조회합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 반영 대기 중인 금액
+     */
+    public BigDecimal pending(Integer projectId) {
+        LongAdder adder = pendingDeltas.get(projectId);
+        return adder == null ? BigDecimal.ZERO : BigDecimal.valueOf(adder.sum());
+    }
+
+    /**
+     * DB에 저장된 펀딩 금액과 반영 대기 중인 증감분을 합친 현재 펀딩 금액을 반환합니다.
+     *
+     * @param project 프로젝트
+     * @return 현재 펀딩 금액
+     */
+    public BigDecimal currentFunding(Project project) {
+        return currentFunding(project.getProjectId(), project.getCurrentFunding());
+    }
+
+    /**
+     * 엔티티 없이 조회한 펀딩 금액(프로젝션 등)에 반영 대기 중인 증감분을 더합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param persisted DB에 저장된 펀딩 금액
+     * @return 현재 펀딩 금액
+     */
+    public BigDecimal currentFunding(Integer projectId, BigDecimal persisted) {
+        return (persisted == null ? BigDecimal.ZERO : persisted).add(pending(projectId));
+    }
+
+    /**
+     * 누적된 증감분을 프로젝트별 단일 UPDATE 문으로 DB에 반영합니다.
+     * <p>
+     * 읽은 합계만큼만 차감하므로, 반영 도중 들어온 증감분은 다음 주기로 넘어갑니다.
+     * 차감은 UPDATE가 커밋된 뒤에만 하므로 조회 시 펀딩 금액이 적게 보이지 않고, 실패하면 그대로 남아 다음 주기에 재시도됩니다.
+     * 같은 증감분이 두 번 반영되지 않도록 반영 작업은 한 번에 하나만 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${funding.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        pendingDeltas.forEach((projectId, adder) -> {
+            long delta = adder.sum();
+            if (delta == 0) {
+                return;
+            }
+
+            BigDecimal amount = BigDecimal.valueOf(delta);
+            eventPublisher.publishEvent(new ProjectFundingFlushEvent(projectId, amount, ProjectFundingFlushEvent.Phase.BEFORE_UPDATE));
+            boolean committed = false;
+            try {
+                Integer updatedRows = transactionTemplate.execute(status -> {
+                    // ✅ 커밋된 뒤에만 차감 (롤백되면 증감분이 그대로 남음)
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            adder.add(-delta);
+                        }
+                    });
+                    return projectRepository.addCurrentFunding(projectId, amount);
+                });
+                if (updatedRows == null || updatedRows == 0) {
+                    log.warn("프로젝트 ID {}가 존재하지 않아 펀딩 증감분 {}을 버립니다.", projectId, delta);
+                } else {
+                    committed = true;
+                    eventPublisher.publishEvent(new ProjectFundingFlushEvent(projectId, amount, ProjectFundingFlushEvent.Phase.COMMITTED));
+                }
+            } catch (RuntimeException e) {
+                log.error("프로젝트 ID {}의 펀딩 증감분 반영에 실패했습니다. 다음 주기에 재시도합니다.", projectId, e);
+            } finally {
+                // ✅ 반영 직전 이벤트를 받은 구독자가 상태를 정리할 수 있도록 항상 종료 이벤트를 발행
+                if (!committed) {
+                    eventPublisher.publishEvent(new ProjectFundingFlushEvent(projectId, amount, ProjectFundingFlushEvent.Phase.ABORTED));
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 모든 빈 생성 직후(웹 요청과 스케줄 작업이 시작되기 전) 비정상 종료로 유실된 증감분을 복구합니다.
+     * 다른 인스턴스가 모두 내려가 있는 단일 노드 복구 기동에서만 켜야 합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (resyncOnStartup) {
+            resyncOngoingProjects();
+        }
+    }
+
+    /**
+     * 진행 중 프로젝트의 펀딩 금액을 유효한(취소되지 않은) 후원 내역 합계로 다시 계산합니다.
+     * 모든 인스턴스에 반영 대기 중인 증감분이 없을 때만 정확하므로 단일 노드 시작 시에만 실행합니다.
+     */
+    synchronized void resyncOngoingProjects() {
+        try {
+            Integer updatedRows = new TransactionTemplate(transactionManager)
+                    .execute(status -> projectRepository.resyncCurrentFundingOfOngoingProjects());
+            log.info("진행 중 프로젝트 {}건의 펀딩 금액을 후원 내역 합계로 다시 맞췄습니다.", updatedRows);
+        } catch (RuntimeException e) {
+            log.error("진행 중 프로젝트의 펀딩 금액 재계산에 실패했습니다.", e);
+        }
+    }
+
+    private void accumulate(Integer projectId, long delta) {
+        pendingDeltas.computeIfAbsent(projectId, id -> new LongAdder()).add(delta);
+    }
+}
@@ -26,6 +26,7 @@ public class ProjectService {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final RewardRepository rewardRepository;
+    private final ProjectFundingCounter projectFundingCounter;
 
 
     @Transactional(readOnly = true)
@@ -34,6 +35,17 @@ public class ProjectService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 프로젝트를 찾을 수 없습니다. :" + projectId));
     }
 
+    /**
+     * 프로젝트의 현재 펀딩 금액을 증감합니다.
+     * 증감분은 {@link ProjectFundingCounter}에 누적되었다가 주기적으로 DB에 반영됩니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param amount    증감할 금액 (환불 시 음수)
+     */
+    public void addCurrentFunding(Integer projectId, BigDecimal amount) {
+        projectFundingCounter.add(projectId, amount);
+    }
+
     @Transactional
     public ProjectCreateResponseDto createProject(ProjectCreateRequestDto projectCreateRequestDto, String userId) {
 
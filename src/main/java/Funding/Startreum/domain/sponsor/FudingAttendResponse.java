@@ -1,5 +1,6 @@
 package Funding.Startreum.domain.sponsor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record FudingAttendResponse(
@@ -17,7 +18,7 @@ public record FudingAttendResponse(
         Integer fundingId,
         Integer projectId,
         String projectTitle,
-        Double amount,
+        BigDecimal amount,
         Integer rewardId,
         LocalDateTime fundedAt
     ) {}
@@ -25,7 +26,7 @@ public record FudingAttendResponse(
     public record FundingRequest(
             Integer projectId,
             Integer rewardId,
-            Double amount
+            BigDecimal amount
     ) {}
 
     public static FudingAttendResponse success(Data data) {
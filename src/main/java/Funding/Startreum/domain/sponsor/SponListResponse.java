@@ -1,5 +1,6 @@
 package Funding.Startreum.domain.sponsor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,11 +19,19 @@ public record SponListResponse(
             Integer projectId,
             String projectTitle,
             Integer rewardId,
-            Double amount,
+            BigDecimal amount,
             LocalDateTime fundedAt
     ) {}
 
-    public record Pagination(int total, int page, int pageSize) {}
+    /**
+     * @param total   전체 건수 (COUNT를 생략한 조회에서는 null)
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    public record Pagination(Integer total, int page, int pageSize, Boolean hasNext) {
+        public Pagination(int total, int page, int pageSize) {
+            this(total, page, pageSize, null);
+        }
+    }
 
     public static SponListResponse success(List<Funding> fundings, Pagination pagination) {
         return new SponListResponse(
@@ -19,10 +19,13 @@ public class SponsorController {
     @GetMapping("/sponsoredList")
     public ResponseEntity<SponListResponse> getFundingList(
             @RequestHeader("Authorization") String token,
-            @PageableDefault(size = 5) Pageable pageable) {
+            @PageableDefault(size = 5) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
         String email = jwtUtil.getEmailFromToken(token.replace("Bearer ", ""));
-        SponListResponse response = sponsorService.getFundingList(email, pageable);
+        SponListResponse response = withTotal
+                ? sponsorService.getFundingList(email, pageable)
+                : sponsorService.getFundingList(email, pageable, false);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,17 @@
+package Funding.Startreum.domain.sponsor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 후원 목록 조회용 프로젝션 (엔티티 로딩 없이 필요한 컬럼만 조회, 리워드가 없으면 rewardId는 null)
+ */
+public record SponsorFundingRow(
+        Integer fundingId,
+        Integer projectId,
+        String projectTitle,
+        Integer rewardId,
+        BigDecimal amount,
+        LocalDateTime fundedAt
+) {
+}
@@ -5,6 +5,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import Funding.Startreum.domain.funding.entity.Funding;
 import org.springframework.stereotype.Service;
 
@@ -15,35 +16,48 @@ public class SponsorService {
     private final FundingRepository fundingRepository;
 
     // 후원 목록 조회 로직
-    @Transactional
     public SponListResponse getFundingList(String username, Pageable pageable) {
+        return getFundingList(username, pageable, true);
+    }
+
+    /**
+     * 후원 목록 조회 (프로젝션 쿼리 한 번 + withTotal이면 COUNT 쿼리 한 번, 페이지 크기와 무관)
+     *
+     * @param withTotal false면 COUNT 쿼리 없이 Slice로 조회하고 total은 null
+     */
+    @Transactional
+    public SponListResponse getFundingList(String username, Pageable pageable, boolean withTotal) {
 
         try {
             if (username == null || username.isBlank()) {
                 return SponListResponse.error(400, "후원 목록 조회에 실패했습니다. 필수 필드를 확인해주세요.");
             }
 
-            Page<Funding> fundingPage = fundingRepository.findBySponsorEmail(username, pageable);
+            Slice<SponsorFundingRow> fundingSlice = withTotal
+                    ? fundingRepository.findSponsorFundingPage(username, pageable)
+                    : fundingRepository.findSponsorFundingSlice(username, pageable);
 
-            if (fundingPage.getTotalElements() == 0) {
+            if (!fundingSlice.hasContent() && pageable.getPageNumber() == 0) {
                 return SponListResponse.error(404, "해당 프로젝트를 찾을 수 없습니다.");
             }
 
-            var fundings = fundingPage.getContent().stream()
-                    .map(funding -> new SponListResponse.Funding(
-                            funding.getFundingId(),
-                            funding.getProject().getProjectId(),
-                            funding.getProject().getTitle(),
-                            funding.getReward().getRewardId(),
-                            funding.getAmount().doubleValue(),
-                            funding.getProject().getCreatedAt()
+            var fundings = fundingSlice.getContent().stream()
+                    .map(row -> new SponListResponse.Funding(
+                            row.fundingId(),
+                            row.projectId(),
+                            row.projectTitle(),
+                            row.rewardId(),
+                            row.amount(),
+                            row.fundedAt()
                     ))
                     .toList();
 
+            Integer total = fundingSlice instanceof Page<SponsorFundingRow> page ? (int) page.getTotalElements() : null;
             var pagination = new SponListResponse.Pagination(
-                    (int) fundingPage.getTotalElements(),
+                    total,
                     pageable.getPageNumber() + 1,
-                    pageable.getPageSize()
+                    pageable.getPageSize(),
+                    fundingSlice.hasNext()
             );
 
             return SponListResponse.success(fundings, pagination);
@@ -66,7 +80,7 @@ public class SponsorService {
                 return FudingAttendResponse.error(403, "해당 후원에 대한 접근 권한이 없습니다.");
             }
 
-            if (funding.getAmount() != null && funding.getAmount().doubleValue() < 0) {
+            if (funding.getAmount() != null && funding.getAmount().signum() < 0) {
                 return FudingAttendResponse.error(442, "0보다 큰 숫자를 입력하세요.");
             }
 
@@ -74,7 +88,7 @@ public class SponsorService {
                     funding.getFundingId(),
                     funding.getProject().getProjectId(),
                     funding.getProject().getTitle(),
-                    funding.getAmount().doubleValue(),
+                    funding.getAmount(),
                     funding.getReward().getRewardId(),
                     funding.getFundedAt()
             );
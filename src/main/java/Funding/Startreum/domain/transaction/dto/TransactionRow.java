@@ -0,0 +1,20 @@
+package Funding.Startreum.domain.transaction.dto;
+
+import Funding.Startreum.domain.transaction.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 조회용 프로젝션 (연관 엔티티를 읽지 않고 ID만 조회)
+ */
+public record TransactionRow(
+        Integer transactionId,
+        LocalDateTime transactionDate,
+        Transaction.TransactionType type,
+        BigDecimal amount,
+        Integer senderAccountId,
+        Integer receiverAccountId,
+        Integer fundingId
+) {
+}
@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 @Setter
 @ToString(exclude = {"funding", "senderAccount", "receiverAccount"}) // 순환 참조 방지
 @Entity
-@Table(name = "Transaction")
+@Table(name = "Transaction", indexes = {
+        // 계좌별 거래 내역 (출금/입금 방향별 최신순 조회)
+        @Index(name = "idx_transaction_sender_date", columnList = "sender_account_id, transactionDate"),
+        @Index(name = "idx_transaction_receiver_date", columnList = "receiver_account_id, transactionDate")
+})
 public class Transaction {
 
     @Id
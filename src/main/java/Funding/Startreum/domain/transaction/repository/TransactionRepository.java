@@ -1,10 +1,78 @@
 package Funding.Startreum.domain.transaction.repository;
 
+import Funding.Startreum.domain.transaction.dto.TransactionRow;
 import Funding.Startreum.domain.transaction.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Integer> {
 
+    String ROW = "SELECT new Funding.Startreum.domain.transaction.dto.TransactionRow(" +
+            "t.transactionId, t.transactionDate, t.type, t.amount, " +
+            "t.senderAccount.accountId, t.receiverAccount.accountId, f.fundingId) " +
+            "FROM Transaction t LEFT JOIN t.funding f ";
+
+    // 키셋 조건 (최신순에서 커서 다음 항목)
+    String AFTER_CURSOR = "AND (t.transactionDate < :transactionDate " +
+            "OR (t.transactionDate = :transactionDate AND t.transactionId < :transactionId)) ";
+
+    String LATEST_FIRST = "ORDER BY t.transactionDate DESC, t.transactionId DESC";
+
+    // 기간 내 계좌의 전체 거래 (내보내기용, 시작 시각은 첫 배치에서만 사용)
+    String ACCOUNT_BEFORE = "WHERE (t.senderAccount.accountId = :accountId OR t.receiverAccount.accountId = :accountId) " +
+            "AND t.transactionDate < :to ";
+
+    // 키셋 조건 (오래된 순에서 커서 다음 항목)
+    String BEFORE_CURSOR_OLDEST = "AND (t.transactionDate > :transactionDate " +
+            "OR (t.transactionDate = :transactionDate AND t.transactionId > :transactionId)) ";
+
+    String OLDEST_FIRST = "ORDER BY t.transactionDate ASC, t.transactionId ASC";
+
+    /**
+     * 계좌에서 출금된 거래 (최신순, idx_transaction_sender_date 사용)
+     */
+    @Query(ROW + "WHERE t.senderAccount.accountId = :accountId " + LATEST_FIRST)
+    List<TransactionRow> findSentFirstPage(@Param("accountId") Integer accountId, Pageable pageable);
+
+    @Query(ROW + "WHERE t.senderAccount.accountId = :accountId " + AFTER_CURSOR + LATEST_FIRST)
+    List<TransactionRow> findSentPageAfter(@Param("accountId") Integer accountId,
+                                           @Param("transactionDate") LocalDateTime transactionDate,
+                                           @Param("transactionId") Integer transactionId,
+                                           Pageable pageable);
+
+    /**
+     * 계좌로 입금된 거래 (최신순, idx_transaction_receiver_date 사용)
+     */
+    @Query(ROW + "WHERE t.receiverAccount.accountId = :accountId " + LATEST_FIRST)
+    List<TransactionRow> findReceivedFirstPage(@Param("accountId") Integer accountId, Pageable pageable);
+
+    @Query(ROW + "WHERE t.receiverAccount.accountId = :accountId " + AFTER_CURSOR + LATEST_FIRST)
+    List<TransactionRow> findReceivedPageAfter(@Param("accountId") Integer accountId,
+                                               @Param("transactionDate") LocalDateTime transactionDate,
+                                               @Param("transactionId") Integer transactionId,
+                                               Pageable pageable);
+
+    /**
+     * 기간 내 계좌의 전체 거래 (오래된 순, 내보내기용 키셋 배치)
+     * 배치마다 별도 쿼리이므로 내보내는 동안 커넥션/트랜잭션을 붙잡고 있지 않습니다.
+     */
+    @Query(ROW + ACCOUNT_BEFORE + "AND t.transactionDate >= :from " + OLDEST_FIRST)
+    List<TransactionRow> findExportFirstBatch(@Param("accountId") Integer accountId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              Pageable pageable);
+
+    @Query(ROW + ACCOUNT_BEFORE + BEFORE_CURSOR_OLDEST + OLDEST_FIRST)
+    List<TransactionRow> findExportBatchAfter(@Param("accountId") Integer accountId,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("transactionDate") LocalDateTime transactionDate,
+                                              @Param("transactionId") Integer transactionId,
+                                              Pageable pageable);
 }
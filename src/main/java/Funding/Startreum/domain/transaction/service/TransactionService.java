@@ -1,10 +1,11 @@
 package Funding.Startreum.domain.transaction.service;
 
 import Funding.Startreum.domain.funding.entity.Funding;
+import Funding.Startreum.domain.ledger.service.LedgerService;
 import Funding.Startreum.domain.transaction.entity.Transaction;
 import Funding.Startreum.domain.transaction.repository.TransactionRepository;
 import Funding.Startreum.domain.transaction.transaction.TransactionNotFoundException;
-import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.users.SystemPrincipalCache;
 import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
-    private final UserRepository userRepository;
+    private final SystemPrincipalCache systemPrincipalCache;
+    private final LedgerService ledgerService;
 
     public void transfer(String email, Integer projectId) {
 
@@ -38,7 +40,7 @@ public class TransactionService {
      * @param to 자금 입금 계좌 (결제 시에는 프로젝트 계좌, 환불 시에는 결제자 계좌)
      * @param amount          거래 금액
      * @param type            거래 유형 (REMITTANCE 또는 REFUND)
-     * @return 생성된 Transaction 객체
+     * @return 생성된 Transaction 객체 (원장 항목도 함께 기록됨)
      */
     @Transactional
     public Transaction createTransaction(
@@ -50,7 +52,7 @@ public class TransactionService {
     ) {
         Transaction transaction = new Transaction();
         transaction.setFunding(funding);
-        transaction.setAdmin(userRepository.findByName("Admin").orElse(null));
+        transaction.setAdmin(systemPrincipalCache.getAdminReference().orElse(null));
         transaction.setSenderAccount(from);
         transaction.setReceiverAccount(to);
         transaction.setAmount(amount);
@@ -58,6 +60,7 @@ public class TransactionService {
         transaction.setTransactionDate(LocalDateTime.now());
 
         transactionRepository.save(transaction);
+        ledgerService.post(transaction); // ✅ 같은 트랜잭션에서 원장 차변/대변 기록
 
         return transaction;
     }
@@ -0,0 +1,24 @@
+package Funding.Startreum.domain.users;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 사용자 ID를 함께 가지는 인증 사용자(principal).
+ * <p>
+ * 권한 검사에서 이름으로 사용자를 다시 조회하지 않도록 토큰(또는 DB 조회 결과)의 사용자 ID를 보관합니다.
+ * 사용자 ID 클레임이 없는 이전 토큰에서는 userId가 null입니다.
+ */
+@Getter
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final Integer userId;
+
+    public AuthenticatedUser(Integer userId, String username, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+    }
+}
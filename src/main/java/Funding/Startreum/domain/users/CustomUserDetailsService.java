@@ -1,7 +1,7 @@
 package Funding.Startreum.domain.users;
 
 import org.springframework.context.annotation.Primary;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -28,10 +28,8 @@ public class CustomUserDetailsService implements UserDetailsService {
                     // ✅ ROLE_ 접두어 추가 (Spring Security의 권한과 맞추기)
                     String role = "ROLE_" + user.getRole().name();
 
-                    return User.withUsername(user.getName())
-                            .password(user.getPassword())
-                            .authorities(role)  // ✅ Spring Security에서 요구하는 역할 적용
-                            .build();
+                    return new AuthenticatedUser(user.getUserId(), user.getName(), user.getPassword(),
+                            AuthorityUtils.createAuthorityList(role));  // ✅ Spring Security에서 요구하는 역할 적용
                 })
                 .orElseThrow(() -> {
                    // System.out.println("❌ 사용자 정보 조회 실패 (DB에 존재하지 않음): " + username);
@@ -0,0 +1,10 @@
+package Funding.Startreum.domain.users;
+
+/**
+ * 비밀번호 검증 작업이 밀려 로그인을 바로 처리할 수 없을 때 발생 (429 응답)
+ */
+public class LoginOverloadedException extends RuntimeException {
+    public LoginOverloadedException() {
+        super("로그인 요청이 많습니다. 잠시 후 다시 시도하세요.");
+    }
+}
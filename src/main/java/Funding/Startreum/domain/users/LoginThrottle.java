@@ -0,0 +1,116 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷).
+ * <p>
+ * IP별, 계정별로 버킷을 두고 시도마다 토큰을 하나씩 사용합니다. 토큰은 분당 refill 개씩 다시 채워집니다.
+ * 버킷은 여러 구간(stripe)으로 나눈 맵에 보관하여 잠금 경합을 줄이고,
+ * 구간마다 최대 개수를 넘으면 가장 오래 사용하지 않은 버킷부터 제거합니다. (제거된 버킷은 가득 찬 상태로 다시 시작)
+ */
+@Component
+public class LoginThrottle {
+
+    public enum Decision {
+        ALLOWED,
+        IP_LIMITED,      // IP 시도 횟수 초과
+        ACCOUNT_LIMITED  // 계정 시도 횟수 초과
+    }
+
+    private final BucketMap ipBuckets;
+    private final BucketMap accountBuckets;
+    private final Counter ipLimitedCounter;
+    private final Counter accountLimitedCounter;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${login.rate-limit.ip.capacity:20}") int ipCapacity,
+                         @Value("${login.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                         @Value("${login.rate-limit.account.capacity:5}") int accountCapacity,
+                         @Value("${login.rate-limit.account.refill-per-minute:5}") int accountRefillPerMinute,
+                         @Value("${login.rate-limit.stripes:64}") int stripes,
+                         @Value("${login.rate-limit.max-entries-per-stripe:1024}") int maxEntriesPerStripe) {
+        this.ipBuckets = new BucketMap(stripes, maxEntriesPerStripe, ipCapacity, ipRefillPerMinute);
+        this.accountBuckets = new BucketMap(stripes, maxEntriesPerStripe, accountCapacity, accountRefillPerMinute);
+        this.ipLimitedCounter = meterRegistry.counter("login.rejected", "reason", "ip_rate_limit");
+        this.accountLimitedCounter = meterRegistry.counter("login.rejected", "reason", "account_rate_limit");
+    }
+
+    /**
+     * 로그인 시도를 허용할지 결정합니다.
+     *
+     * @param clientIp 요청 IP
+     * @param name     로그인 시도 계정 이름 (대소문자 무시)
+     */
+    public Decision tryAcquire(String clientIp, String name) {
+        long now = System.nanoTime();
+        if (!ipBuckets.tryAcquire(clientIp, now)) {
+            ipLimitedCounter.increment();
+            return Decision.IP_LIMITED;
+        }
+        if (name != null && !accountBuckets.tryAcquire(User.normalizeName(name), now)) {
+            accountLimitedCounter.increment();
+            return Decision.ACCOUNT_LIMITED;
+        }
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * 구간별로 잠그는 토큰 버킷 맵
+     */
+    private static final class BucketMap {
+
+        private final Map<String, Bucket>[] stripes;
+        private final double capacity;
+        private final double refillPerNano;
+
+        @SuppressWarnings("unchecked")
+        BucketMap(int stripeCount, int maxEntriesPerStripe, int capacity, int refillPerMinute) {
+            this.stripes = new Map[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                        return size() > maxEntriesPerStripe;
+                    }
+                };
+            }
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / 60_000_000_000.0;
+        }
+
+        boolean tryAcquire(String key, long now) {
+            Map<String, Bucket> stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+            synchronized (stripe) {
+                Bucket bucket = stripe.get(key);
+                if (bucket == null) {
+                    bucket = new Bucket(capacity, now);
+                    stripe.put(key, bucket);
+                }
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * refillPerNano);
+                bucket.refilledAt = now;
+                if (bucket.tokens < 1) {
+                    return false;
+                }
+                bucket.tokens -= 1;
+                return true;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
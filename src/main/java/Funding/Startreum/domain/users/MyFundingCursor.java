@@ -0,0 +1,39 @@
+package Funding.Startreum.domain.users;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 후원 내역 커서 (마지막 항목의 후원 일자와 fundingId).
+ * 클라이언트에는 Base64(URL-safe) 문자열로 인코딩된 불투명한 토큰으로 전달됩니다.
+ */
+public record MyFundingCursor(LocalDateTime fundedAt, Integer fundingId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MyFundingCursor of(MyFundingResponseDTO last) {
+        return new MyFundingCursor(last.getFundedAt(), last.getFundingId());
+    }
+
+    public String encode() {
+        String raw = fundedAt + SEPARATOR + fundingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 잘못된 토큰
+     */
+    public static MyFundingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("형식이 올바르지 않습니다.");
+            }
+            return new MyFundingCursor(LocalDateTime.parse(parts[0]), Integer.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.domain.project.entity.Project;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 후원 내역 첫 페이지 행 (후원 1건 + 전체 후원의 거래 상태별 건수/금액 합계)
+ * <p>
+ * 합계는 윈도 함수로 모든 행에 같은 값이 실리므로, 페이지와 요약을 한 번의 쿼리로 받을 수 있습니다.
+ */
+public record MyFundingFirstPageRow(
+        MyFundingResponseDTO funding,
+        long[] counts,
+        BigDecimal[] amounts
+) {
+
+    // 상태값(MyFundingRepository.TRANSACTION_STATE) 0: 거래 없음, 1: 송금 완료, 2: 환불
+    private static final int STATES = 3;
+
+    public MyFundingFirstPageRow(Integer fundingId, String projectTitle, Project.Status projectStatus,
+                                 BigDecimal fundingAmount, LocalDateTime fundedAt, Integer transactionState,
+                                 Number noneCount, Number noneAmount,
+                                 Number remittedCount, Number remittedAmount,
+                                 Number refundedCount, Number refundedAmount) {
+        this(new MyFundingResponseDTO(fundingId, projectTitle, projectStatus, fundingAmount, fundedAt, transactionState),
+                new long[]{toLong(noneCount), toLong(remittedCount), toLong(refundedCount)},
+                new BigDecimal[]{toBigDecimal(noneAmount), toBigDecimal(remittedAmount), toBigDecimal(refundedAmount)});
+    }
+
+    /**
+     * 행에 실린 상태별 합계로 요약을 만듭니다. (후원이 없는 상태는 제외)
+     */
+    public MyFundingSummary toSummary() {
+        long totalCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<MyFundingSummary.StatusTotal> byStatus = new ArrayList<>();
+
+        for (int state = 0; state < STATES; state++) {
+            if (counts[state] == 0) {
+                continue;
+            }
+            byStatus.add(new MyFundingSummary.StatusTotal(
+                    MyFundingResponseDTO.toTransactionStatus(state), counts[state], amounts[state]));
+            totalCount += counts[state];
+            totalAmount = totalAmount.add(amounts[state]);
+        }
+        return new MyFundingSummary(totalCount, totalAmount, byStatus);
+    }
+
+    private static long toLong(Number value) {
+        return value == null ? 0L : value.longValue();
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
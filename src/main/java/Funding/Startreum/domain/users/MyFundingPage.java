@@ -0,0 +1,14 @@
+package Funding.Startreum.domain.users;
+
+import java.util.List;
+
+/**
+ * 후원 내역 페이지 (요약은 첫 페이지에만 포함)
+ */
+public record MyFundingPage(
+        List<MyFundingResponseDTO> data,
+        String nextCursor,
+        boolean hasNext,
+        MyFundingSummary summary
+) {
+}
@@ -1,23 +1,58 @@
 package Funding.Startreum.domain.users;
 
 import Funding.Startreum.domain.funding.entity.Funding;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MyFundingRepository extends JpaRepository<Funding, Integer> {
 
-    @Query("SELECT new Funding.Startreum.domain.users.MyFundingResponseDTO(" +
-            "p.title, p.status, f.amount, f.fundedAt, " +
-            "CASE WHEN t.type = Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REMITTANCE THEN '송금 완료' ELSE '환불' END) " +
+    // 후원 1건당 거래 내역을 하나의 상태값으로 합침 (2: 환불, 1: 송금 완료, 0: 거래 없음)
+    String TRANSACTION_STATE =
+            "MAX(CASE WHEN t.type = Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REFUND THEN 2 " +
+            "WHEN t.type = Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REMITTANCE THEN 1 " +
+            "ELSE 0 END)";
+
+    /**
+     * 후원 내역 첫 페이지 (최신순, idx_funding_sponsor_deleted_funded_at 사용)
+     * <p>
+     * 거래 상태별 건수/금액 합계를 윈도 함수로 각 행에 함께 실어, 페이지와 요약을 한 번에 조회합니다.
+     * (윈도 함수는 LIMIT 이전에 계산되므로 합계는 페이지가 아닌 전체 후원 기준)
+     */
+    @Query("SELECT new Funding.Startreum.domain.users.MyFundingFirstPageRow(" +
+            "x.fundingId, x.title, x.status, x.amount, x.fundedAt, x.state, " +
+            "COUNT(CASE WHEN x.state = 0 THEN 1 END) OVER (), SUM(CASE WHEN x.state = 0 THEN x.amount END) OVER (), " +
+            "COUNT(CASE WHEN x.state = 1 THEN 1 END) OVER (), SUM(CASE WHEN x.state = 1 THEN x.amount END) OVER (), " +
+            "COUNT(CASE WHEN x.state = 2 THEN 1 END) OVER (), SUM(CASE WHEN x.state = 2 THEN x.amount END) OVER ()) " +
+            "FROM (" +
+            "SELECT f.fundingId AS fundingId, p.title AS title, p.status AS status, f.amount AS amount, " +
+            "f.fundedAt AS fundedAt, " + TRANSACTION_STATE + " AS state " +
             "FROM Funding f " +
             "JOIN f.project p " +
             "LEFT JOIN f.transactions t " +
-            "WHERE f.sponsor.userId = :sponsorId AND f.isDeleted = false")
-    List<MyFundingResponseDTO> findMyFundingsBySponsorId(@Param("sponsorId") Integer sponsorId);
-
-
+            "WHERE f.sponsor.userId = :sponsorId AND f.isDeleted = false " +
+            "GROUP BY f.fundingId, p.title, p.status, f.amount, f.fundedAt) x " +
+            "ORDER BY x.fundedAt DESC, x.fundingId DESC")
+    List<MyFundingFirstPageRow> findFirstPage(@Param("sponsorId") Integer sponsorId, Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * 후원 내역 다음 페이지 (커서 이후)
+     */
+    @Query("SELECT new Funding.Startreum.domain.users.MyFundingResponseDTO(" +
+            "f.fundingId, p.title, p.status, f.amount, f.fundedAt, " + TRANSACTION_STATE + ") " +
+            "FROM Funding f " +
+            "JOIN f.project p " +
+            "LEFT JOIN f.transactions t " +
+            "WHERE f.sponsor.userId = :sponsorId AND f.isDeleted = false " +
+            "AND (f.fundedAt < :fundedAt OR (f.fundedAt = :fundedAt AND f.fundingId < :fundingId)) " +
+            "GROUP BY f.fundingId, p.title, p.status, f.amount, f.fundedAt " +
+            "ORDER BY f.fundedAt DESC, f.fundingId DESC")
+    List<MyFundingResponseDTO> findPageAfter(@Param("sponsorId") Integer sponsorId,
+                                             @Param("fundedAt") LocalDateTime fundedAt,
+                                             @Param("fundingId") Integer fundingId,
+                                             Pageable pageable);
+}
@@ -8,17 +8,29 @@ import java.time.LocalDateTime;
 
 @Data
 public class MyFundingResponseDTO {
+    private Integer fundingId;
     private String projectTitle;
     private Project.Status projectStatus;  // Enum 타입으로 변경
     private BigDecimal fundingAmount;
     private LocalDateTime fundedAt;
     private String transactionStatus;
 
-    public MyFundingResponseDTO(String projectTitle, Project.Status projectStatus, BigDecimal fundingAmount, LocalDateTime fundedAt, String transactionStatus) {
+    public MyFundingResponseDTO(Integer fundingId, String projectTitle, Project.Status projectStatus, BigDecimal fundingAmount, LocalDateTime fundedAt, Integer transactionState) {
+        this.fundingId = fundingId;
         this.projectTitle = projectTitle;
         this.projectStatus = projectStatus;
         this.fundingAmount = fundingAmount;
         this.fundedAt = fundedAt;
-        this.transactionStatus = transactionStatus;
+        this.transactionStatus = toTransactionStatus(transactionState);
     }
-}
\ No newline at end of file
+
+    /**
+     * 거래 상태값(MyFundingRepository.TRANSACTION_STATE)을 화면 표시용 문자열로 변환
+     */
+    public static String toTransactionStatus(Integer transactionState) {
+        if (transactionState == null || transactionState == 0) {
+            return "거래 없음";
+        }
+        return transactionState == 2 ? "환불" : "송금 완료";
+    }
+}
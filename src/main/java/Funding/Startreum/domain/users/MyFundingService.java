@@ -1,20 +1,57 @@
 package Funding.Startreum.domain.users;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 
 @Service
 public class MyFundingService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MyFundingRepository myFundingRepository;
 
     public MyFundingService(MyFundingRepository myFundingRepository) {
         this.myFundingRepository = myFundingRepository;
     }
 
-    public List<MyFundingResponseDTO> getMyFundings(Integer sponsorId) {
-        return myFundingRepository.findMyFundingsBySponsorId(sponsorId);
+    /**
+     * 후원 내역을 최신순으로 커서 기반 조회합니다.
+     *
+     * @param sponsorId 후원자 ID
+     * @param after     이전 응답의 nextCursor (첫 페이지면 null, 이때 요약도 함께 반환)
+     * @param size      페이지 크기 (최대 100)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public MyFundingPage getMyFundings(Integer sponsorId, String after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        boolean firstPage = after == null || after.isBlank();
+        List<MyFundingResponseDTO> rows;
+        MyFundingSummary summary = null;
+        if (firstPage) {
+            // ✅ 요약은 첫 페이지 행에 함께 실려 오므로 별도 집계 쿼리 없음
+            List<MyFundingFirstPageRow> firstRows = myFundingRepository.findFirstPage(sponsorId, limit);
+            rows = firstRows.stream().map(MyFundingFirstPageRow::funding).toList();
+            summary = firstRows.isEmpty()
+                    ? new MyFundingSummary(0, BigDecimal.ZERO, List.of())
+                    : firstRows.get(0).toSummary();
+        } else {
+            MyFundingCursor cursor = MyFundingCursor.decode(after);
+            rows = myFundingRepository.findPageAfter(sponsorId, cursor.fundedAt(), cursor.fundingId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? MyFundingCursor.of(rows.get(rows.size() - 1)).encode() : null;
+
+        return new MyFundingPage(rows, nextCursor, hasNext, summary);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package Funding.Startreum.domain.users;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 후원 내역 요약 (전체 및 거래 상태별 건수/금액 합계)
+ */
+public record MyFundingSummary(
+        long totalCount,
+        BigDecimal totalAmount,
+        List<StatusTotal> byStatus
+) {
+    public record StatusTotal(String transactionStatus, long count, BigDecimal amount) {
+    }
+}
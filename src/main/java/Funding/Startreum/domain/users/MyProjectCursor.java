@@ -0,0 +1,41 @@
+package Funding.Startreum.domain.users;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 내 프로젝트 목록 커서 (마지막 항목의 생성일과 projectId).
+ * 클라이언트에는 Base64(URL-safe) 문자열로 인코딩된 불투명한 토큰으로 전달됩니다.
+ * 생성일이 없는 프로젝트는 목록 끝에 오므로 빈 값으로 인코딩합니다.
+ */
+public record MyProjectCursor(LocalDateTime createdAt, Integer projectId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MyProjectCursor of(MyProjectDTO last) {
+        return new MyProjectCursor(last.getCreatedAt(), last.getProjectId());
+    }
+
+    public String encode() {
+        String raw = (createdAt == null ? "" : createdAt.toString()) + SEPARATOR + projectId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 잘못된 토큰
+     */
+    public static MyProjectCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("형식이 올바르지 않습니다.");
+            }
+            LocalDateTime createdAt = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+            return new MyProjectCursor(createdAt, Integer.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -1,32 +1,53 @@
 package Funding.Startreum.domain.users;
 
 import Funding.Startreum.domain.project.entity.Project;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@AllArgsConstructor
 public class MyProjectDTO {
 
+    private Integer projectId;      // 프로젝트 ID
     private String title;           // 프로젝트 타이틀
     private BigDecimal fundingGoal; // 목표 금액
     private LocalDateTime createdAt; // 생성일
     private Project.Status status;  // 프로젝트 상태
     private Project.ApprovalStatus isApproved; // 승인 여부
+    private BigDecimal currentFunding; // 현재 펀딩 금액 (DB 반영 기준)
+    private long sponsorCount;      // 후원자 수 (삭제되지 않은 후원 기준, 중복 제외)
+    private BigDecimal fundingRate; // 달성률 (%, 소수점 첫째 자리)
 
-    // 엔티티로부터 DTO 변환 메서드
-    public static MyProjectDTO from(Project project) {
-        return new MyProjectDTO(
-                project.getTitle(),
-                project.getFundingGoal(),
-                project.getCreatedAt(),
-                project.getStatus(),
-                project.getIsApproved()
-        );
+    // MyProjectRepository 프로젝션 쿼리용 생성자
+    public MyProjectDTO(Integer projectId, String title, BigDecimal fundingGoal, LocalDateTime createdAt,
+                        Project.Status status, Project.ApprovalStatus isApproved, BigDecimal currentFunding,
+                        Long sponsorCount, BigDecimal fundingRate) {
+        this.projectId = projectId;
+        this.title = title;
+        this.fundingGoal = fundingGoal;
+        this.createdAt = createdAt;
+        this.status = status;
+        this.isApproved = isApproved;
+        this.currentFunding = currentFunding;
+        this.sponsorCount = sponsorCount == null ? 0 : sponsorCount;
+        this.fundingRate = fundingRate == null ? BigDecimal.ZERO : fundingRate.setScale(1, RoundingMode.HALF_UP);
     }
-}
\ No newline at end of file
+
+    /**
+     * 아직 DB에 반영되지 않은 펀딩 증감분을 현재 금액과 달성률에 더합니다.
+     */
+    public void applyPendingFunding(BigDecimal pending) {
+        if (pending == null || pending.signum() == 0) {
+            return;
+        }
+        this.currentFunding = (currentFunding == null ? BigDecimal.ZERO : currentFunding).add(pending);
+        if (fundingGoal != null && fundingGoal.signum() > 0) {
+            this.fundingRate = currentFunding.multiply(BigDecimal.valueOf(100))
+                    .divide(fundingGoal, 1, RoundingMode.HALF_UP);
+        }
+    }
+}
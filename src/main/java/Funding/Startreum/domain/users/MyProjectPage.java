@@ -0,0 +1,13 @@
+package Funding.Startreum.domain.users;
+
+import java.util.List;
+
+/**
+ * 내 프로젝트 목록 페이지
+ */
+public record MyProjectPage(
+        List<MyProjectDTO> data,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -1,13 +1,49 @@
 package Funding.Startreum.domain.users;
 
 import Funding.Startreum.domain.project.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MyProjectRepository extends JpaRepository<Project, Integer> {
-    // 특정 수혜자(creator)의 프로젝트 조회
-    List<Project> findByCreator(User creator);
-}
\ No newline at end of file
+
+    // 목록 컬럼과 후원자 수, 달성률(%)만 SQL에서 계산 (설명(@Lob) 등은 읽지 않음)
+    String MY_PROJECT_SELECT =
+            "SELECT new Funding.Startreum.domain.users.MyProjectDTO(" +
+            "p.projectId, p.title, p.fundingGoal, p.createdAt, p.status, p.isApproved, p.currentFunding, " +
+            "(SELECT COUNT(DISTINCT f.sponsor.userId) FROM Funding f WHERE f.project = p AND f.isDeleted = false), " +
+            "COALESCE(p.currentFunding, 0) * 100 / NULLIF(p.fundingGoal, 0)) " +
+            "FROM Project p ";
+
+    // 최신순 (생성일이 없는 프로젝트는 마지막)
+    String MY_PROJECT_ORDER = "ORDER BY p.createdAt DESC NULLS LAST, p.projectId DESC";
+
+    /**
+     * 특정 수혜자(creator)의 프로젝트 첫 페이지 (최신순, idx_project_creator_created 사용)
+     */
+    @Query(MY_PROJECT_SELECT +
+            "WHERE p.creator.userId = :creatorId " +
+            MY_PROJECT_ORDER)
+    List<MyProjectDTO> findFirstPage(@Param("creatorId") Integer creatorId, Pageable pageable);
+
+    /**
+     * 특정 수혜자(creator)의 프로젝트 다음 페이지 (커서 이후)
+     * 커서의 생성일이 없으면 생성일이 없는 프로젝트 중 projectId가 더 작은 것만 남습니다.
+     */
+    @Query(MY_PROJECT_SELECT +
+            "WHERE p.creator.userId = :creatorId " +
+            "AND ((:createdAt IS NULL AND p.createdAt IS NULL AND p.projectId < :projectId) " +
+            "OR (:createdAt IS NOT NULL AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.projectId < :projectId) OR p.createdAt IS NULL))) " +
+            MY_PROJECT_ORDER)
+    List<MyProjectDTO> findPageAfter(@Param("creatorId") Integer creatorId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("projectId") Integer projectId,
+                                     Pageable pageable);
+}
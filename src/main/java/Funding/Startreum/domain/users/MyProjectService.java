@@ -1,32 +1,62 @@
 package Funding.Startreum.domain.users;
 
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class MyProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MyProjectRepository myProjectRepository;
-    private final UserService userService;
+    private final UserRepository userRepository;
+    private final ProjectFundingCounter projectFundingCounter;
 
-    public MyProjectService(MyProjectRepository myProjectRepository, UserService userService) {
+    public MyProjectService(MyProjectRepository myProjectRepository, UserRepository userRepository,
+                            ProjectFundingCounter projectFundingCounter) {
         this.myProjectRepository = myProjectRepository;
-        this.userService = userService;
+        this.userRepository = userRepository;
+        this.projectFundingCounter = projectFundingCounter;
     }
 
-    public List<MyProjectDTO> getProjectsByUser(String username) {
-        // 사용자 정보 조회
-        User user = userService.getUserByName(username);
-        if (user == null) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+    /**
+     * 수혜자의 프로젝트 목록을 최신순으로 커서 기반 조회합니다.
+     *
+     * @param username 사용자 이름
+     * @param userId   토큰에 담긴 사용자 ID (없으면 이름으로 조회)
+     * @param after    이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (최대 100)
+     * @throws IllegalArgumentException 사용자를 찾을 수 없거나 잘못된 커서
+     */
+    public MyProjectPage getProjectsByUser(String username, Integer userId, String after, int size) {
+        // 사용자 ID 확인 (토큰에 없을 때만 name_normalized 인덱스로 조회)
+        Integer creatorId = userId != null ? userId : userRepository.findByName(username)
+                .map(User::getUserId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<MyProjectDTO> projects;
+        if (after == null || after.isBlank()) {
+            projects = myProjectRepository.findFirstPage(creatorId, limit);
+        } else {
+            MyProjectCursor cursor = MyProjectCursor.decode(after);
+            projects = myProjectRepository.findPageAfter(creatorId, cursor.createdAt(), cursor.projectId(), limit);
+        }
+
+        boolean hasNext = projects.size() > pageSize;
+        if (hasNext) {
+            projects = projects.subList(0, pageSize);
         }
+        String nextCursor = hasNext ? MyProjectCursor.of(projects.get(projects.size() - 1)).encode() : null;
 
-        // 해당 사용자의 프로젝트 조회 후 DTO로 변환
-        return myProjectRepository.findByCreator(user)
-                .stream()
-                .map(MyProjectDTO::from)
-                .collect(Collectors.toList());
+        // ✅ 반영 대기 중인 펀딩 증감분 포함
+        projects.forEach(project -> project.applyPendingFunding(projectFundingCounter.pending(project.getProjectId())));
+        return new MyProjectPage(projects, nextCursor, hasNext);
     }
-}
\ No newline at end of file
+}
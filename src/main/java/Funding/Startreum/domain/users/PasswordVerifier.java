@@ -0,0 +1,94 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로그인 비밀번호(BCrypt) 검증 전용 실행기.
+ * <p>
+ * BCrypt는 의도적으로 느린 연산이므로 요청 스레드에서 제한 없이 실행하면 로그인이 몰릴 때 Tomcat 스레드를 모두 점유합니다.
+ * 고정 크기 스레드와 길이가 제한된 대기열에서만 실행하고, 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면
+ * {@link LoginOverloadedException}으로 바로 거절합니다.
+ */
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer verifyTimer;
+    private final Counter overloadedCounter;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                            @Value("${login.password-verifier.threads:0}") int threads,
+                            @Value("${login.password-verifier.queue-capacity:64}") int queueCapacity,
+                            @Value("${login.password-verifier.timeout-ms:3000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+
+        // 기본값(0)이면 CPU 코어 수만큼
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-verifier-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.verifyTimer = Timer.builder("login.password.verify")
+                .description("비밀번호 검증 소요 시간 (대기 시간 제외)")
+                .register(meterRegistry);
+        this.overloadedCounter = meterRegistry.counter("login.rejected", "reason", "overloaded");
+        Gauge.builder("login.password.queue", executor, pool -> pool.getQueue().size())
+                .description("비밀번호 검증 대기 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호가 일치하는지 확인합니다.
+     *
+     * @throws LoginOverloadedException 검증 대기열이 가득 찼거나 제한 시간을 넘긴 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> verifyTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        } catch (RejectedExecutionException e) {
+            overloadedCounter.increment();
+            throw new LoginOverloadedException();
+        }
+
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            overloadedCounter.increment();
+            throw new LoginOverloadedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new LoginOverloadedException();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 검증 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -11,14 +11,18 @@ import java.util.Date;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_expiry_date", columnList = "expiryDate") // 만료 토큰 정리용
+})
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;  // ✅ Refresh Token 값을 저장
+    @Column(name = "token", nullable = false, unique = true)
+    private String tokenHash;  // ✅ Refresh Token 원문 대신 SHA-256 해시를 저장
 
     @Column(nullable = false)
     private String username; // ✅ 어떤 사용자의 토큰인지 저장
@@ -27,10 +31,16 @@ public class RefreshToken {
     @Temporal(TemporalType.TIMESTAMP)
     private Date expiryDate;  // ✅ Refresh Token 만료 시간 저장
 
+    private String familyId; // ✅ 같은 로그인에서 회전(재발급)된 토큰 묶음
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date rotatedAt; // ✅ 회전되어 더 이상 사용할 수 없게 된 시각 (재사용 감지용)
+
     // 생성자 추가
-    public RefreshToken(String token, String username, Date expiryDate) {
-        this.token = token;
+    public RefreshToken(String tokenHash, String username, Date expiryDate, String familyId) {
+        this.tokenHash = tokenHash;
         this.username = username;
         this.expiryDate = expiryDate;
+        this.familyId = familyId;
     }
-}
\ No newline at end of file
+}
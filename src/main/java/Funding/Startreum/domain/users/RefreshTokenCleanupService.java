@@ -1,24 +1,95 @@
 package Funding.Startreum.domain.users;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
+import java.util.List;
 
+/**
+ * 만료된 Refresh Token 정리.
+ * <p>
+ * 한 번의 큰 DELETE 대신 expiry_date 인덱스로 만료된 ID를 chunkSize만큼 조회해 짧은 트랜잭션으로 삭제하고,
+ * 묶음 사이에 잠시 쉬어 다른 요청이 테이블을 사용할 수 있게 합니다. 남은 토큰이 없을 때까지 반복합니다.
+ */
+@Slf4j
 @Service
 public class RefreshTokenCleanupService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final int chunkSize;
+    private final long pauseMs;
 
-    public RefreshTokenCleanupService(RefreshTokenRepository refreshTokenRepository) {
+    private final Counter deletedCounter;
+    private final Timer purgeTimer;
+
+    public RefreshTokenCleanupService(RefreshTokenRepository refreshTokenRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${refresh-token.purge.chunk-size:1000}") int chunkSize,
+                                      @Value("${refresh-token.purge.pause-ms:50}") long pauseMs) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+
+        this.deletedCounter = Counter.builder("refresh_token.purge.deleted")
+                .description("정리된 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("refresh_token.purge.duration")
+                .description("만료 Refresh Token 정리 소요 시간")
+                .register(meterRegistry);
     }
 
-    // ✅ 매일 밤 12시(자정)에 실행 (크론 표현식: "0 0 0 * * ?")
-    @Scheduled(cron = "0 0 0 * * ?")
+    // ✅ 기본 5분마다 실행 (이전 실행이 끝난 뒤부터 계산)
+    @Scheduled(fixedDelayString = "${refresh-token.purge.interval-ms:300000}")
     public void cleanupExpiredTokens() {
-       // System.out.println("🔹 만료된 Refresh Token 정리 시작...");
-        int deletedCount = refreshTokenRepository.deleteExpiredTokens(new Date());
-        //System.out.println("✅ 삭제된 만료 토큰 수: " + deletedCount);
+        purgeTimer.record(() -> {
+            int deletedCount = purgeExpired(new Date());
+            if (deletedCount > 0) {
+                log.info("만료된 Refresh Token {}건 삭제", deletedCount);
+            }
+        });
+    }
+
+    /**
+     * 기준 시각 이전에 만료된 토큰을 묶음 단위로 모두 삭제합니다.
+     * @return 삭제된 토큰 수
+     */
+    int purgeExpired(Date now) {
+        int deletedCount = 0;
+        while (true) {
+            List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int deleted = refreshTokenRepository.deleteByIdIn(ids);
+            deletedCount += deleted;
+            deletedCounter.increment(deleted);
+
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return deletedCount;
+    }
+
+    // 묶음 사이 대기 (인터럽트되면 중단)
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package Funding.Startreum.domain.users;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,13 +9,12 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token); // ✅ 토큰으로 찾기
-
-    void deleteByToken(String token); // ✅ 토큰으로 삭제
+    Optional<RefreshToken> findByTokenHash(String tokenHash); // ✅ 토큰 해시로 찾기
 
 
     @Modifying
@@ -23,11 +23,35 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 
     void deleteByUsername(@Param("username") String username);
 
+    // ✅ 재사용이 감지된 토큰 묶음 전체 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
 
-    // ✅ 만료된 Refresh Token 삭제 쿼리
     @Modifying
-    @Query("DELETE FROM RefreshToken r WHERE r.expiryDate < :now")
-    int deleteExpiredTokens(@Param("now") Date now);
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
-}
+    /**
+     * 아직 회전되지 않은 토큰만 회전 처리합니다. (여러 서버에서 동시에 같은 토큰을 사용해도 한 곳만 성공)
+     * @return 1이면 회전 성공, 0이면 이미 회전되었거나 없는 토큰
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken r SET r.rotatedAt = :now WHERE r.tokenHash = :tokenHash AND r.rotatedAt IS NULL")
+    int markRotated(@Param("tokenHash") String tokenHash, @Param("now") Date now);
 
+
+    // ✅ 만료된 Refresh Token ID 조회 (expiry_date 인덱스 범위 조회, 한 번에 pageable 크기만큼)
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiryDate < :now ORDER BY r.expiryDate")
+    List<Long> findExpiredIds(@Param("now") Date now, Pageable pageable);
+
+    // ✅ 만료된 Refresh Token 삭제 쿼리 (조회한 ID 묶음 단위로 짧은 트랜잭션에서 삭제)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+}
@@ -0,0 +1,300 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.common.util.HashUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Refresh Token 저장소.
+ * <p>
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시만 보관합니다.
+ * - 조회는 메모리(ConcurrentHashMap, 최대 maxEntries건)에서 먼저 처리하고, 없으면 DB에서 읽어 옵니다.
+ * - 발급은 즉시 DB에 저장하므로 다른 서버로 들어온 재발급 요청도 새 토큰을 찾을 수 있습니다.
+ * - 삭제(폐기)만 대기열에 쌓았다가 주기적으로 한 트랜잭션에 묶어 DB에 반영합니다. (write-behind)
+ *   반영이 계속 실패해도 작업을 버리지 않고, 한 건씩 순서대로 반영한 뒤 남은 작업은 다음 주기에 다시 시도합니다.
+ * - 회전(재발급)은 DB의 조건부 UPDATE로 처리하므로 여러 서버에서 같은 토큰을 동시에 사용해도 한 번만 성공합니다.
+ *   이미 회전된 토큰이 다시 사용되면 탈취로 보고 같은 로그인의 토큰 묶음 전체를 폐기합니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    public enum RotationResult {
+        ROTATED,  // 회전 성공
+        EXPIRED,  // 만료된 토큰
+        REUSED,   // 이미 회전된 토큰 재사용 (토큰 묶음 폐기)
+        UNKNOWN   // 저장되지 않은 토큰
+    }
+
+    private record Entry(String username, String familyId, Date expiryDate, boolean rotated) {
+        Entry asRotated() {
+            return new Entry(username, familyId, expiryDate, true);
+        }
+    }
+
+    // DB 반영 대기 작업 (삭제만)
+    private sealed interface PendingWrite permits DeleteUser, DeleteFamily, DeleteToken {
+    }
+
+    private record DeleteUser(String username) implements PendingWrite {
+    }
+
+    private record DeleteFamily(String familyId) implements PendingWrite {
+    }
+
+    private record DeleteToken(String tokenHash) implements PendingWrite {
+    }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxEntries;
+    private final int maxFlushAttempts;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>(); // 토큰 해시 -> 항목
+    private final ConcurrentHashMap<String, Set<String>> hashesByUser = new ConcurrentHashMap<>(); // 사용자 -> 토큰 해시
+    private final ConcurrentLinkedDeque<PendingWrite> pending = new ConcurrentLinkedDeque<>();
+    private final Object flushLock = new Object();
+    private int failedFlushes;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${refresh-token.store.max-entries:100000}") int maxEntries,
+                             @Value("${refresh-token.store.max-flush-attempts:3}") int maxFlushAttempts) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxEntries = maxEntries;
+        this.maxFlushAttempts = maxFlushAttempts;
+    }
+
+    /**
+     * 로그인 시 새 Refresh Token을 저장합니다. 사용자의 기존 토큰은 모두 폐기됩니다.
+     */
+    public void issue(String refreshToken, String username, Date expiryDate) {
+        forgetUser(username);
+
+        String tokenHash = HashUtil.sha256(refreshToken);
+        String familyId = UUID.randomUUID().toString();
+        synchronized (flushLock) {
+            // 기존 토큰 폐기와 새 토큰 저장을 바로 한 트랜잭션으로 반영하므로, 대기 중인 이 사용자의 폐기는 빼냄
+            // (나중에 반영된 폐기가 새 토큰을 지우지 않도록 반영 중인 대기열과 겹치지 않게 잠금 안에서 처리)
+            pending.removeIf(write -> write instanceof DeleteUser deleteUser && deleteUser.username().equals(username));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    refreshTokenRepository.deleteByUsername(username);
+                    refreshTokenRepository.save(new RefreshToken(tokenHash, username, expiryDate, familyId));
+                });
+            } catch (RuntimeException e) {
+                pending.add(new DeleteUser(username));
+                throw e;
+            }
+        }
+        put(tokenHash, new Entry(username, familyId, expiryDate, false));
+    }
+
+    /**
+     * 사용한 Refresh Token을 폐기하고 새 토큰으로 교체합니다.
+     *
+     * @param refreshToken    클라이언트가 보낸 토큰 (서명 검증 완료)
+     * @param username        토큰의 사용자 이름
+     * @param newRefreshToken 새로 발급한 토큰 (ROTATED가 아니면 버림)
+     * @param newExpiryDate   새 토큰 만료 시각
+     */
+    public RotationResult rotate(String refreshToken, String username, String newRefreshToken, Date newExpiryDate) {
+        String tokenHash = HashUtil.sha256(refreshToken);
+        Entry entry = lookup(tokenHash);
+        if (entry == null || !entry.username().equalsIgnoreCase(username)) {
+            return RotationResult.UNKNOWN;
+        }
+
+        if (entry.expiryDate().before(new Date())) {
+            remove(tokenHash, entry.username());
+            pending.add(new DeleteToken(tokenHash));
+            return RotationResult.EXPIRED;
+        }
+
+        if (entry.rotated()) {
+            revokeFamily(entry);
+            return RotationResult.REUSED;
+        }
+
+        // 이전 토큰 회전과 새 토큰 저장을 한 트랜잭션으로 (저장이 실패하면 회전도 취소되어 다시 시도할 수 있음)
+        String newTokenHash = HashUtil.sha256(newRefreshToken);
+        Boolean rotated = transactionTemplate.execute(status -> {
+            if (refreshTokenRepository.markRotated(tokenHash, new Date()) == 0) {
+                return false;
+            }
+            refreshTokenRepository.save(new RefreshToken(newTokenHash, entry.username(), newExpiryDate, entry.familyId()));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(rotated)) {
+            // 다른 요청(또는 다른 서버)이 먼저 회전함
+            revokeFamily(entry);
+            return RotationResult.REUSED;
+        }
+        entries.computeIfPresent(tokenHash, (key, current) -> current.asRotated());
+        put(newTokenHash, new Entry(entry.username(), entry.familyId(), newExpiryDate, false));
+        return RotationResult.ROTATED;
+    }
+
+    /**
+     * 사용자의 모든 Refresh Token을 폐기합니다. (로그인, 로그아웃)
+     */
+    public void revokeUser(String username) {
+        forgetUser(username);
+        pending.add(new DeleteUser(username));
+    }
+
+    /**
+     * 대기 중인 변경 사항을 DB에 반영합니다.
+     * 실패하면 대기열 앞에 다시 넣고, 연속으로 maxFlushAttempts번 실패하면 한 건씩 순서대로 반영합니다.
+     * 이때도 실패한 작업부터는 순서를 유지한 채 대기열 앞에 다시 넣으므로 폐기가 유실되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.store.flush-interval-ms:500}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingWrite> batch = new ArrayList<>();
+            PendingWrite write;
+            while ((write = pending.poll()) != null) {
+                batch.add(write);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(this::apply));
+                failedFlushes = 0;
+            } catch (RuntimeException e) {
+                if (++failedFlushes < maxFlushAttempts) {
+                    log.warn("Refresh Token 저장 실패, 다음 주기에 다시 시도합니다. ({}건)", batch.size(), e);
+                    requeue(batch);
+                    return;
+                }
+                failedFlushes = 0;
+                int applied = applyOneByOne(batch);
+                if (applied < batch.size()) {
+                    log.error("Refresh Token 저장 {}회 실패, 한 건씩 {}건 반영 후 남은 {}건은 다음 주기에 다시 시도합니다.",
+                            maxFlushAttempts, applied, batch.size() - applied, e);
+                    requeue(batch.subList(applied, batch.size()));
+                }
+            }
+        }
+    }
+
+    // ✅ 만료된 항목을 메모리에서 정리 (DB 정리는 RefreshTokenCleanupService)
+    @Scheduled(fixedDelayString = "${refresh-token.store.evict-interval-ms:60000}")
+    public void evictExpired() {
+        Date now = new Date();
+        entries.forEach((tokenHash, entry) -> {
+            if (entry.expiryDate().before(now)) {
+                remove(tokenHash, entry.username());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 작업을 한 건씩 별도 트랜잭션으로 반영하고, 처음 실패한 작업 앞까지 반영한 건수를 반환합니다.
+     */
+    private int applyOneByOne(List<PendingWrite> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite write = batch.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(write));
+            } catch (RuntimeException e) {
+                return i;
+            }
+        }
+        return batch.size();
+    }
+
+    private void requeue(List<PendingWrite> writes) {
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            pending.addFirst(writes.get(i));
+        }
+    }
+
+    private void apply(PendingWrite write) {
+        if (write instanceof DeleteUser deleteUser) {
+            refreshTokenRepository.deleteByUsername(deleteUser.username());
+        } else if (write instanceof DeleteFamily deleteFamily) {
+            refreshTokenRepository.deleteByFamilyId(deleteFamily.familyId());
+        } else if (write instanceof DeleteToken deleteToken) {
+            refreshTokenRepository.deleteByTokenHash(deleteToken.tokenHash());
+        }
+    }
+
+    // 메모리에 없으면 DB에서 읽어 옵니다. (다른 서버에서 발급된 토큰)
+    private Entry lookup(String tokenHash) {
+        Entry entry = entries.get(tokenHash);
+        if (entry != null) {
+            return entry;
+        }
+
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(token -> {
+                    Entry loaded = new Entry(token.getUsername(), token.getFamilyId(), token.getExpiryDate(),
+                            token.getRotatedAt() != null);
+                    put(tokenHash, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    private void forgetUser(String username) {
+        Set<String> hashes = hashesByUser.remove(username);
+        if (hashes != null) {
+            hashes.forEach(entries::remove);
+        }
+    }
+
+    private void revokeFamily(Entry entry) {
+        Set<String> hashes = hashesByUser.get(entry.username());
+        if (hashes != null) {
+            hashes.removeIf(tokenHash -> {
+                Entry current = entries.get(tokenHash);
+                if (current == null || entry.familyId().equals(current.familyId())) {
+                    entries.remove(tokenHash);
+                    return true;
+                }
+                return false;
+            });
+        }
+        pending.add(new DeleteFamily(entry.familyId()));
+        log.warn("이미 사용된 Refresh Token 재사용 감지: username={}, 토큰 묶음을 폐기합니다.", entry.username());
+    }
+
+    // 항목 수가 maxEntries에 도달하면 메모리에 올리지 않음 (모든 토큰이 DB에 있으므로 이후 조회는 DB에서 처리)
+    private void put(String tokenHash, Entry entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(tokenHash)) {
+            return;
+        }
+        entries.put(tokenHash, entry);
+        hashesByUser.computeIfAbsent(entry.username(), key -> ConcurrentHashMap.newKeySet()).add(tokenHash);
+    }
+
+    private void remove(String tokenHash, String username) {
+        entries.remove(tokenHash);
+        hashesByUser.computeIfPresent(username, (key, hashes) -> {
+            hashes.remove(tokenHash);
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+}
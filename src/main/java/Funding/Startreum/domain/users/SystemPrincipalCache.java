@@ -0,0 +1,93 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시스템 계정(예: "Admin")의 사용자 ID를 한 번만 조회해 두고,
+ * 이후에는 DB 조회 없이 {@link EntityManager#getReference} 프록시로 돌려주는 캐시.
+ * <p>
+ * 프록시는 영속성 컨텍스트에 묶이므로 ID만 캐싱하고, 프록시는 호출 시마다 현재 컨텍스트에서 생성합니다.
+ * 사용자 정보가 변경되면(커밋 이후) 세대 번호를 올려 캐시 전체를 무효화합니다.
+ * 항목에는 조회를 시작한 시점의 세대를 함께 저장하므로, 변경과 겹쳐 진행 중이던 조회가 이전 ID를 넣어도
+ * 다음 조회에서 다시 읽습니다.
+ */
+@Component
+public class SystemPrincipalCache {
+
+    public static final String ADMIN_NAME = "Admin";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    // 이름(소문자) -> 사용자 ID, 존재하지 않는 계정도 Optional.empty()로 캐싱
+    private final Map<String, CachedId> userIds = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private record CachedId(Optional<Integer> userId, long generation) {
+    }
+
+    public SystemPrincipalCache(UserRepository userRepository, EntityManager entityManager, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.hitCounter = meterRegistry.counter("system.principal.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("system.principal.cache", "result", "miss");
+    }
+
+    /**
+     * 시스템 계정의 User 참조(프록시)를 반환합니다.
+     *
+     * @param name 계정 이름 (대소문자 무시)
+     * @return User 프록시, 계정이 없으면 empty
+     */
+    public Optional<User> getReference(String name) {
+        String key = name.toLowerCase();
+
+        CachedId cached = userIds.get(key);
+        if (isCurrent(cached)) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            // 같은 키는 한 번만 조회 (동시에 들어온 요청은 먼저 읽은 값을 사용)
+            cached = userIds.compute(key, (k, current) -> {
+                if (isCurrent(current)) {
+                    return current;
+                }
+                long loadedGeneration = generation.get(); // 조회 전에 읽어야 조회 중 변경을 놓치지 않음
+                return new CachedId(userRepository.findByName(name).map(User::getUserId), loadedGeneration);
+            });
+        }
+
+        return cached.userId().map(id -> entityManager.getReference(User.class, id));
+    }
+
+    /**
+     * 관리자 계정의 User 참조(프록시)를 반환합니다.
+     */
+    public Optional<User> getAdminReference() {
+        return getReference(ADMIN_NAME);
+    }
+
+    /**
+     * 사용자 변경이 커밋되면 캐시를 무효화합니다.
+     * (조회 중인 키의 잠금을 기다리지 않도록 항목은 지우지 않고 세대만 올림, 시스템 계정 수만큼만 쌓임)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private boolean isCurrent(CachedId cached) {
+        return cached != null && cached.generation() == generation.get();
+    }
+}
@@ -0,0 +1,12 @@
+package Funding.Startreum.domain.users;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 Access Token 무효화 시각.
+ *
+ * @param name      사용자 이름
+ * @param revokedAt 이 시각 이전에 발급된 토큰은 무효
+ */
+public record TokenRevocation(String name, LocalDateTime revokedAt) {
+}
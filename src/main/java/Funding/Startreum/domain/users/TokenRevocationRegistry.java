@@ -0,0 +1,101 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.common.util.JwtUtil;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 Access Token 무효화 시각을 메모리에 유지하는 목록.
+ * <p>
+ * JWT Claims만으로 인증할 때도 무효화가 동작하도록, 발급 시각(iat)이 무효화 시각보다 이전인 토큰을 거부합니다.
+ * Access Token 유효 기간 안에 무효화된 사용자만 DB에서 주기적으로(tokensRevokedAt 인덱스) 읽어 오므로 목록은 항상 작게 유지됩니다.
+ * 로그아웃처럼 같은 서버에서 무효화한 경우에는 {@link #revoke}로 즉시 반영되고, 다른 서버에는 다음 갱신 주기에 반영됩니다.
+ * 역할 변경은 User 저장 시 tokensRevokedAt이 기록되어 갱신 주기에 반영됩니다.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+
+    // 사용자 이름(소문자) -> 무효화 시각(초 단위 epoch)
+    private volatile Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationRegistry(UserRepository userRepository, JwtUtil jwtUtil) {
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    /**
+     * DB의 무효화 목록을 다시 읽어 옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(jwtUtil.getAccessTokenExpiration()));
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+        for (TokenRevocation revocation : userRepository.findTokenRevocationsSince(since)) {
+            loaded.merge(key(revocation.name()), toEpochSecond(revocation.revokedAt()), Math::max);
+        }
+
+        // 갱신 도중 이 서버에서 무효화된 항목이 사라지지 않도록 더 늦은 시각을 유지합니다.
+        Map<String, Long> previous = new HashMap<>(revokedBefore);
+        previous.forEach((name, revokedAt) -> loaded.merge(name, revokedAt, Math::max));
+        long oldest = toEpochSecond(since);
+        loaded.values().removeIf(revokedAt -> revokedAt < oldest);
+
+        revokedBefore = loaded;
+    }
+
+    /**
+     * 삭제된 사용자(커밋 이후)의 토큰을 이 서버에서 즉시 무효화합니다.
+     * 삭제된 행에는 무효화 시각을 남길 수 없으므로, 다른 서버에서는 Access Token 만료까지 유효합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (event.name() != null) {
+            revoke(event.name(), LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 사용자의 기존 토큰을 즉시 무효화합니다. (DB의 tokensRevokedAt 갱신과 함께 호출)
+     */
+    public void revoke(String name, LocalDateTime revokedAt) {
+        revokedBefore.merge(key(name), toEpochSecond(revokedAt), Math::max);
+    }
+
+    /**
+     * 토큰이 무효화되었는지 확인합니다.
+     * JWT의 iat는 초 단위이므로, 무효화와 같은 초에 발급된 토큰은 유효한 것으로 봅니다.
+     *
+     * @param name     토큰의 사용자 이름(subject)
+     * @param issuedAt 토큰 발급 시각(iat)
+     */
+    public boolean isRevoked(String name, Date issuedAt) {
+        Long revokedAt = revokedBefore.get(key(name));
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 < revokedAt;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase();
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -7,18 +7,24 @@ import Funding.Startreum.domain.inquiry.Inquiry;
 import Funding.Startreum.domain.project.entity.Project;
 import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
 @Getter
 @Setter
 @ToString
 @Entity
-@Table(name = "users")
+@EntityListeners(UserChangeListener.class) // 변경 시 시스템 계정 캐시 무효화
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_tokens_revoked_at", columnList = "tokensRevokedAt") // 최근 무효화 목록 주기 조회
+})
 public class User {
 
     @Id
@@ -27,6 +33,21 @@ public class User {
 
     private String name; // 이름
 
+    @Column(name = "name_normalized", unique = true)
+    private String nameNormalized; // 조회용 이름 (공백 제거 + 소문자, 저장 시 / 이름 변경 시 자동 갱신)
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private String loadedName; // DB에서 읽은 시점의 이름 (이름 변경 여부 판단용)
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private Role loadedRole; // DB에서 읽은 시점의 역할 (역할 변경 시 토큰 무효화)
+
     @Column(unique = true, nullable = false)
     private String email; // 이메일
 
@@ -39,6 +60,8 @@ public class User {
 
     private LocalDateTime updatedAt; // 수정 일자
 
+    private LocalDateTime tokensRevokedAt; // 이 시각 이전에 발급된 Access Token 무효화
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private VirtualAccount virtualAccount; // 가상 계좌와 1:1 관계
 
@@ -57,6 +80,37 @@ public class User {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Inquiry> inquiries; // 작성한 문의 목록
 
+    @PostLoad
+    private void rememberLoadedName() {
+        this.loadedName = name;
+        this.loadedRole = role;
+    }
+
+    @PrePersist
+    private void initNameNormalized() {
+        this.nameNormalized = normalizeName(name);
+    }
+
+    // 이름이 바뀐 경우에만 조회용 이름 갱신
+    // (대소문자 충돌로 조회용 이름이 비어 있는 기존 사용자를 수정해도 고유 인덱스 위반이 나지 않도록)
+    // 역할이 바뀌면 이전 역할로 발급된 Access Token을 무효화 (Claims의 역할로 인증하므로)
+    @PreUpdate
+    private void syncNameNormalized() {
+        if (!Objects.equals(name, loadedName)) {
+            this.nameNormalized = normalizeName(name);
+        }
+        if (loadedRole != null && role != loadedRole) {
+            this.tokensRevokedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 대소문자를 구분하지 않는 이름 조회에 사용하는 정규화 규칙
+     */
+    public static String normalizeName(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
     public enum Role {
         BENEFICIARY, // 수혜자
         SPONSOR,     // 후원자
@@ -0,0 +1,33 @@
+package Funding.Startreum.domain.users;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * User 엔티티 변경을 감지하여 {@link UserChangedEvent}를 발행하는 JPA 엔티티 리스너.
+ * <p>
+ * Hibernate가 스프링 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있습니다.
+ */
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
+    }
+
+    // JPA는 한 클래스에 생명주기 이벤트별 콜백을 하나만 허용하므로 삭제 시 두 이벤트를 함께 발행
+    @PostRemove
+    public void onUserDeleted(User user) {
+        onUserChanged(user);
+        eventPublisher.publishEvent(new UserDeletedEvent(user.getUserId(), user.getName()));
+    }
+}
@@ -0,0 +1,9 @@
+package Funding.Startreum.domain.users;
+
+/**
+ * 사용자 엔티티가 생성/수정/삭제되었음을 알리는 이벤트.
+ *
+ * @param userId 변경된 사용자 ID
+ */
+public record UserChangedEvent(Integer userId) {
+}
@@ -1,6 +1,7 @@
 package Funding.Startreum.domain.users;
 
 import Funding.Startreum.common.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -13,7 +14,6 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,17 +22,20 @@ public class UserController {
 
     private final UserService userService;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginThrottle loginThrottle;
     private final MyFundingService myFundingService;
     private final MyProjectService myProjectService;
 
     public UserController(UserService userService, JwtUtil jwtUtil,
-                          RefreshTokenRepository refreshTokenRepository,
+                          RefreshTokenStore refreshTokenStore,
+                          LoginThrottle loginThrottle,
                           MyFundingService myFundingService,
                           MyProjectService myProjectService) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginThrottle = loginThrottle;
         this.myFundingService = myFundingService;
         this.myProjectService = myProjectService;
     }
@@ -82,6 +85,8 @@ public class UserController {
         }
 
         String username = authentication.getName();
+        refreshTokenStore.revokeUser(username); // ✅ Refresh Token 폐기
+        userService.revokeAccessTokens(username); // ✅ 발급된 Access Token 무효화 (Claims 기반 인증에서도 거부)
         //System.out.println("✅ 로그아웃 성공 - 사용자: " + username);
 
         SecurityContextHolder.clearContext();
@@ -90,25 +95,27 @@ public class UserController {
 
     // ✅ 로그인 API (JWT 발급)
     @PostMapping("/login")
-    public ResponseEntity<?> loginUser(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> loginUser(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        // ✅ IP/계정별 시도 횟수 제한 (비밀번호 검증 전에 바로 거절)
+        // 원격 주소는 신뢰하는 프록시의 X-Forwarded-For로 해석된 실제 클라이언트 IP (ForwardedHeadersConfig)
+        if (loginThrottle.tryAcquire(request.getRemoteAddr(), loginRequest.name()) != LoginThrottle.Decision.ALLOWED) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .body(Map.of("error", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도하세요."));
+        }
+
         try {
             // System.out.println("로그인 요청 받음: name=" + loginRequest.name());
 
             UserResponse user = userService.authenticateUser(loginRequest.name(), loginRequest.password());
 
-            // ✅ 기존 Refresh Token 삭제 후 새로 저장
-            refreshTokenRepository.deleteByUsername(user.name());
-
             // ✅ 새 Refresh Token 생성
-            String accessToken = jwtUtil.generateAccessToken(user.name(), user.email(), user.role().name());
+            String accessToken = jwtUtil.generateAccessToken(user.userId(), user.name(), user.email(), user.role().name());
             String refreshToken = jwtUtil.generateRefreshToken(user.name());
+            Date refreshTokenExpiry = new Date(System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration()); // 7일 후 만료
 
-            RefreshToken refreshTokenEntity = new RefreshToken();
-            refreshTokenEntity.setToken(refreshToken);
-            refreshTokenEntity.setUsername(user.name());
-            refreshTokenEntity.setExpiryDate(new Date(System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration())); // 7일 후 만료
-
-            refreshTokenRepository.save(refreshTokenEntity);
+            // ✅ 기존 Refresh Token 폐기 후 새로 저장
+            refreshTokenStore.issue(refreshToken, user.name(), refreshTokenExpiry);
 
             // ✅ 응답 반환
             Map<String, Object> response = new HashMap<>();
@@ -116,7 +123,7 @@ public class UserController {
             response.put("refreshToken", refreshToken);
             response.put("userName", user.name());
             response.put("role", user.role().name());
-            response.put("refreshTokenExpiry", refreshTokenEntity.getExpiryDate().getTime());
+            response.put("refreshTokenExpiry", refreshTokenExpiry.getTime());
 
             //System.out.println("발급된 액세스 토큰: " + accessToken);
             //System.out.println("발급된 리프레시 토큰: " + refreshToken);
@@ -124,6 +131,10 @@ public class UserController {
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", e.getMessage()));
+        } catch (LoginOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "서버 내부 오류 발생"));
@@ -143,27 +154,31 @@ public class UserController {
         // ✅ Refresh Token에서 사용자 정보 추출
         String name = jwtUtil.getNameFromToken(refreshToken);
 
-        // ✅ DB에서 저장된 Refresh Token 가져오기
-        RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new RuntimeException("Refresh Token이 존재하지 않습니다. 다시 로그인하세요."));
-
-        if (!refreshToken.equals(storedToken.getToken())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Refresh Token 불일치"));
-        }
-
-        // ✅ Refresh Token 만료 여부 확인
-        if (storedToken.getExpiryDate().before(new Date())) {
-            refreshTokenRepository.deleteByToken(refreshToken); // ✅ 만료된 토큰 삭제
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Refresh Token이 만료되었습니다. 다시 로그인하세요."));
-        }
-
         // ✅ 사용자 정보 조회
         User user = userService.getUserByName(name);
 
+        // ✅ 사용한 Refresh Token을 새 토큰으로 교체 (이미 사용된 토큰이면 재사용으로 보고 폐기)
+        String newRefreshToken = jwtUtil.generateRefreshToken(user.getName());
+        Date newRefreshTokenExpiry = new Date(System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration());
+
+        switch (refreshTokenStore.rotate(refreshToken, user.getName(), newRefreshToken, newRefreshTokenExpiry)) {
+            case UNKNOWN:
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Refresh Token이 존재하지 않습니다. 다시 로그인하세요."));
+            case EXPIRED:
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Refresh Token이 만료되었습니다. 다시 로그인하세요."));
+            case REUSED:
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "이미 사용된 Refresh Token입니다. 보안을 위해 다시 로그인하세요."));
+            default:
+                break;
+        }
+
         // ✅ 새 Access Token 생성
-        String newAccessToken = jwtUtil.generateAccessToken(user.getName(), user.getEmail(), user.getRole().name());
+        String newAccessToken = jwtUtil.generateAccessToken(user.getUserId(), user.getName(), user.getEmail(), user.getRole().name());
 
-        return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
+        return ResponseEntity.ok(Map.of(
+                "accessToken", newAccessToken,
+                "refreshToken", newRefreshToken,
+                "refreshTokenExpiry", newRefreshTokenExpiry.getTime()));
     }
 
     //  DTO 클래스 추가
@@ -231,7 +246,9 @@ public class UserController {
     // 🔹 로그인한 사용자의 후원 내역 조회 API
     @GetMapping("/fundings/{username}")  // 🔹 경로 변수 추가
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> getFundingsByUsername(@PathVariable String username) {
+    public ResponseEntity<?> getFundingsByUsername(@PathVariable String username,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = "20") int size) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -252,19 +269,31 @@ public class UserController {
                     .body(Map.of("status", "error", "message", "사용자 정보를 찾을 수 없습니다."));
         }
 
-        // 후원 내역 조회
-        List<MyFundingResponseDTO> fundings = myFundingService.getMyFundings(user.getUserId());
+        // 후원 내역 조회 (최신순 커서 기반, 첫 페이지에는 상태별 요약 포함)
+        MyFundingPage fundings;
+        try {
+            fundings = myFundingService.getMyFundings(user.getUserId(), after, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+        }
 
-        return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "data", fundings
-        ));
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("data", fundings.data());
+        response.put("nextCursor", fundings.nextCursor());
+        response.put("hasNext", fundings.hasNext());
+        if (fundings.summary() != null) {
+            response.put("summary", fundings.summary());
+        }
+        return ResponseEntity.ok(response);
     }
 
     // 🔹 로그인한 수혜자의 프로젝트 목록 조회 API
     @GetMapping("/projects/{username}")
     @PreAuthorize("hasRole('ROLE_BENEFICIARY') and #username == authentication.name")
-    public ResponseEntity<?> getMyProjects(@PathVariable String username) {
+    public ResponseEntity<?> getMyProjects(@PathVariable String username,
+                                           @RequestParam(required = false) String after,
+                                           @RequestParam(defaultValue = "20") int size) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -277,13 +306,23 @@ public class UserController {
                     .body(Map.of("status", "error", "message", "권한이 없습니다."));
         }
 
-        // 사용자 이름을 기준으로 프로젝트 조회
-        List<MyProjectDTO> projects = myProjectService.getProjectsByUser(username);
+        // 토큰의 사용자 ID(없으면 이름)를 기준으로 프로젝트 조회
+        Integer userId = authentication.getPrincipal() instanceof AuthenticatedUser principal ? principal.getUserId() : null;
 
-        return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "data", projects
-        ));
+        // 프로젝트 목록 조회 (최신순 커서 기반)
+        MyProjectPage projects;
+        try {
+            projects = myProjectService.getProjectsByUser(username, userId, after, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("data", projects.data());
+        response.put("nextCursor", projects.nextCursor());
+        response.put("hasNext", projects.hasNext());
+        return ResponseEntity.ok(response);
     }
 
 
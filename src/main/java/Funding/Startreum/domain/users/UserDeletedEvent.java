@@ -0,0 +1,10 @@
+package Funding.Startreum.domain.users;
+
+/**
+ * 사용자 엔티티가 삭제되었음을 알리는 이벤트.
+ *
+ * @param userId 삭제된 사용자 ID
+ * @param name   삭제된 사용자 이름 (토큰 무효화용)
+ */
+public record UserDeletedEvent(Integer userId, String name) {
+}
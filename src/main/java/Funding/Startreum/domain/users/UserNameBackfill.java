@@ -0,0 +1,100 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기존 사용자의 조회용 이름(name_normalized)을 채우는 이관 작업.
+ * <p>
+ * 새로 저장되는 사용자는 엔티티에서 자동으로 채워지므로, 컬럼 추가 이전에 가입한 사용자만 대상입니다.
+ * userId 순 키셋 청크마다 한 트랜잭션에서 벌크 UPDATE로 갱신하므로 사용자별 변경 이벤트는 발행되지 않습니다.
+ * 이관이 끝나기 전에도 이름 조회는 원래 이름으로 대체 조회하므로 기존 사용자의 로그인은 막히지 않습니다.
+ * <p>
+ * 대소문자만 다른 중복 이름이 있으면 그 청크만 한 건씩 다시 갱신하며, 고유 인덱스 위반인 사용자는 조회용 이름이 비어 있는 채로 남습니다.
+ * 이런 사용자는 {@code users.name.conflicts} 지표와 경고 로그로 보고하며, 관리자가 이름을 바꾸면 해소됩니다.
+ * (이름을 바꾸지 않는 수정은 조회용 이름을 건드리지 않으므로 실패하지 않습니다.)
+ */
+@Slf4j
+@Component
+public class UserNameBackfill {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final AtomicInteger conflicts = new AtomicInteger();
+
+    public UserNameBackfill(UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${users.name-backfill.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        Gauge.builder("users.name.conflicts", conflicts, AtomicInteger::get)
+                .description("대소문자 충돌로 조회용 이름을 채우지 못한 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int lastUserId = 0;
+        int updated = 0;
+        List<Integer> conflictedUserIds = new ArrayList<>();
+
+        while (true) {
+            List<Integer> userIds = userRepository.findIdsWithoutNameNormalized(lastUserId, PageRequest.of(0, batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+
+            try {
+                updated += update(userIds);
+            } catch (DataIntegrityViolationException e) {
+                // 충돌이 있는 청크만 한 건씩 갱신하여 충돌한 사용자만 건너뜀
+                for (Integer userId : userIds) {
+                    try {
+                        updated += update(List.of(userId));
+                    } catch (DataIntegrityViolationException conflict) {
+                        conflictedUserIds.add(userId);
+                        log.error("조회용 이름 이관 실패 (중복 이름): userId={}", userId);
+                    }
+                }
+            }
+        }
+
+        conflicts.set(conflictedUserIds.size());
+        if (updated > 0 || !conflictedUserIds.isEmpty()) {
+            log.info("조회용 이름 이관 완료: 갱신 {}건, 건너뜀 {}건", updated, conflictedUserIds.size());
+        }
+        if (!conflictedUserIds.isEmpty()) {
+            log.warn("대소문자만 다른 이름과 충돌하는 사용자가 있습니다. 이름 변경이 필요합니다: userIds={}", conflictedUserIds);
+        }
+    }
+
+    private int update(List<Integer> userIds) {
+        Integer count = transactionTemplate.execute(status -> userRepository.backfillNameNormalized(userIds));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 마지막 이관에서 대소문자 충돌로 조회용 이름을 채우지 못한 사용자 수
+     */
+    public int conflicts() {
+        return conflicts.get();
+    }
+}
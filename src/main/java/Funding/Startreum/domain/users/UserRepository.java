@@ -1,16 +1,46 @@
 package Funding.Startreum.domain.users;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email); // 이메일 중복 확인, 검색
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) = LOWER(:name)")  // ✅ 대소문자 무시
-    Optional<User> findByName(@Param("name") String name); // 이름 검색 (대소문자 무시)
+    Optional<User> findByNameNormalized(String nameNormalized); // name_normalized 고유 인덱스 조회
+
+    // ✅ 대소문자 무시 (정규화한 이름으로 동등 비교, 조회용 이름이 아직 없는 기존 사용자는 원래 이름으로 비교)
+    default Optional<User> findByName(String name) { // 이름 검색 (대소문자 무시)
+        String normalized = User.normalizeName(name);
+        return findByNameNormalized(normalized)
+                .or(() -> findLegacyByNormalizedName(normalized).stream().findFirst());
+    }
+
+    // 조회용 이름이 비어 있는 사용자(이관 전 또는 대소문자 충돌) 중 이름이 일치하는 사용자
+    @Query("SELECT u FROM User u WHERE u.nameNormalized IS NULL AND LOWER(TRIM(u.name)) = :name ORDER BY u.userId")
+    List<User> findLegacyByNormalizedName(@Param("name") String normalizedName);
+
+    // 조회용 이름이 비어 있는 사용자 ID (기존 데이터 이관용, userId 순 키셋)
+    @Query("SELECT u.userId FROM User u WHERE u.nameNormalized IS NULL AND u.name IS NOT NULL " +
+            "AND u.userId > :userId ORDER BY u.userId")
+    List<Integer> findIdsWithoutNameNormalized(@Param("userId") Integer userId, Pageable pageable);
+
+    // 조회용 이름 일괄 이관 (벌크 UPDATE라 엔티티 리스너/변경 이벤트를 거치지 않음, 정규화 규칙은 findLegacyByNormalizedName과 동일)
+    @Modifying
+    @Query("UPDATE User u SET u.nameNormalized = LOWER(TRIM(u.name)) " +
+            "WHERE u.userId IN :ids AND u.nameNormalized IS NULL AND u.name IS NOT NULL")
+    int backfillNameNormalized(@Param("ids") List<Integer> ids);
+
+    // 특정 시각 이후 토큰이 무효화된 사용자 목록 (무효화 목록 갱신용)
+    @Query("SELECT new Funding.Startreum.domain.users.TokenRevocation(u.name, u.tokensRevokedAt) " +
+            "FROM User u WHERE u.tokensRevokedAt > :since")
+    List<TokenRevocation> findTokenRevocationsSince(@Param("since") LocalDateTime since);
 
 
 }
\ No newline at end of file
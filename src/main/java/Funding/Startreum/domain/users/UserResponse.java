@@ -1,5 +1,7 @@
 package Funding.Startreum.domain.users;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 
 // 응답용 DTO
@@ -9,5 +11,10 @@ public record UserResponse(
         String email,
         User.Role role,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-) {}
\ No newline at end of file
+        LocalDateTime updatedAt,
+        @JsonIgnore Integer userId // 토큰 발급용 (응답에는 포함하지 않음)
+) {
+    public UserResponse(String name, String email, User.Role role, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(name, email, role, createdAt, updatedAt, null);
+    }
+}
\ No newline at end of file
@@ -6,8 +6,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -16,14 +14,16 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordVerifier passwordVerifier;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
-    //  Refresh Token 저장소 (임시 Map 사용 → DB 또는 Redis로 변경 가능)
-    private final Map<String, String> refreshTokenStorage = new HashMap<>();
-
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                       PasswordVerifier passwordVerifier, TokenRevocationRegistry tokenRevocationRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.passwordVerifier = passwordVerifier;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
     }
 
     // 허용된 역할 목록 (처음에는 ADMIN 포함)
@@ -87,7 +87,8 @@ public class UserService {
         User user = userRepository.findByName(name)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        // ✅ BCrypt 검증은 전용 실행기에서 (밀려 있으면 LoginOverloadedException)
+        if (!passwordVerifier.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -97,25 +98,11 @@ public class UserService {
                 user.getEmail(),
                 user.getRole(),
                 user.getCreatedAt(),
-                user.getUpdatedAt()
+                user.getUpdatedAt(),
+                user.getUserId()
         );
     }
 
-    // Refresh Token 저장 (name을 기반으로 저장)
-    public void saveRefreshToken(String name, String refreshToken) {
-        refreshTokenStorage.put(name, refreshToken);
-    }
-
-    // 저장된 Refresh Token 조회
-    public String getRefreshToken(String name) {
-        return refreshTokenStorage.get(name);
-    }
-
-    // Refresh Token 검증
-    public boolean isRefreshTokenValid(String name, String refreshToken) {
-        return refreshToken.equals(refreshTokenStorage.get(name));
-    }
-
     // name을 기반으로 사용자 정보 조회 (Refresh 토큰 재발급 시 사용)
     public User getUserByName(String name) {
         return userRepository.findByName(name)
@@ -167,11 +154,25 @@ public class UserService {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
-        // 이메일 업데이트
+        // 이메일 업데이트 (인증은 이름/역할 클레임만 사용하므로 기존 토큰은 그대로 유효)
         user.setEmail(newEmail);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
     }
 
+    /**
+     * 지금까지 발급된 사용자의 Access Token을 무효화합니다. (로그아웃 등)
+     * DB에 무효화 시각을 남겨 다른 서버에도 다음 갱신 주기에 반영되고, 이 서버에는 즉시 반영됩니다.
+     */
+    public void revokeAccessTokens(String name) {
+        User user = userRepository.findByName(name)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+
+        LocalDateTime now = LocalDateTime.now();
+        user.setTokensRevokedAt(now);
+        userRepository.save(user);
+        tokenRevocationRegistry.revoke(user.getName(), now);
+    }
+
 
 }
\ No newline at end of file
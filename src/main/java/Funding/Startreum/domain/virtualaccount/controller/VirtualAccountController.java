@@ -8,12 +8,18 @@ import Funding.Startreum.domain.virtualaccount.dto.request.AccountRequest;
 import Funding.Startreum.domain.virtualaccount.dto.response.AccountPaymentResponse;
 import Funding.Startreum.domain.virtualaccount.dto.response.AccountRefundResponse;
 import Funding.Startreum.domain.virtualaccount.dto.response.AccountResponse;
+import Funding.Startreum.domain.virtualaccount.dto.response.AccountTransactionPage;
 import Funding.Startreum.domain.virtualaccount.service.AccountChargeService;
 import Funding.Startreum.domain.virtualaccount.service.AccountPaymentService;
 import Funding.Startreum.domain.virtualaccount.service.AccountQueryService;
 import Funding.Startreum.domain.virtualaccount.service.AccountRefundService;
+import Funding.Startreum.domain.virtualaccount.service.AccountStatementService;
+import Funding.Startreum.domain.virtualaccount.service.IdempotencyService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,7 +28,9 @@ import org.springframework.security.core.parameters.P;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.security.Principal;
+import java.time.LocalDate;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,6 +41,8 @@ public class VirtualAccountController {
     private final AccountChargeService accountChargeService;
     private final AccountPaymentService accountPaymentService;
     private final AccountRefundService accountRefundService;
+    private final AccountStatementService accountStatementService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 특정 사용자의 계좌 조회 API (이름 기반)
@@ -80,16 +90,21 @@ public class VirtualAccountController {
      *
      * @param accountId 충전할 계좌의 ID. 해당 계좌의 소유자여야 합니다.
      * @param request   충전할 금액 및 관련 정보를 담은 DTO.
+     * @param idempotencyKey 중복 요청 방지 키 (같은 키로 다시 요청하면 저장된 응답을 반환).
      * @return ApiResponse 객체 안에 충전된 계좌 정보를 포함하여 반환합니다.
      */
     @PreAuthorize("hasRole('ADMIN') or @accountSecurity.isAccountOwner(principal, #accountId)")
     @PostMapping("/{accountId}")
     public ResponseEntity<?> chargeAccountByAccountId(
             @PathVariable("accountId") @P("accountId") int accountId,
-            @RequestBody @Valid AccountRequest request
+            @RequestBody @Valid AccountRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            Principal principal
     ) {
-        AccountPaymentResponse response = accountChargeService.chargeByAccountId(accountId, request);
-        return ResponseEntity.ok(ApiResponse.success("계좌 충전에 성공했습니다.", response));
+        return idempotencyService.execute(idempotencyKey, principal.getName(), "POST /api/account/" + accountId, request, () -> {
+            AccountPaymentResponse response = accountChargeService.chargeByAccountId(accountId, request);
+            return ResponseEntity.ok(ApiResponse.success("계좌 충전에 성공했습니다.", response));
+        });
     }
 
     /**
@@ -122,6 +137,51 @@ public class VirtualAccountController {
         return ResponseEntity.ok(ApiResponse.success("계좌 내역 조회에 성공했습니다.", response));
     }
 
+    /**
+     * 거래 내역 조회: 특정 계좌의 거래 내역을 최신순으로 조회합니다.
+     *
+     * @param accountId 조회할 계좌의 ID.
+     * @param after     이전 응답의 nextCursor (첫 페이지면 생략).
+     * @param size      페이지 크기 (최대 100).
+     * @return ApiResponse 객체 안에 거래 내역과 다음 페이지 커서를 포함하여 반환합니다.
+     */
+    @PreAuthorize("hasRole('ADMIN') or @accountSecurity.isAccountOwner(principal, #accountId)")
+    @GetMapping("/{accountId}/transactions")
+    public ResponseEntity<?> getTransactions(
+            @PathVariable("accountId") @P("accountId") int accountId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        AccountTransactionPage response = accountStatementService.getTransactions(accountId, after, size);
+        return ResponseEntity.ok(ApiResponse.success("거래 내역 조회에 성공했습니다.", response));
+    }
+
+    /**
+     * 거래 내역 내보내기: 기간 내 거래 내역을 CSV 또는 NDJSON으로 내려받습니다.
+     * 응답 스트림에 바로 쓰므로 기간이 길어도 서버 메모리 사용량이 일정합니다.
+     *
+     * @param accountId 조회할 계좌의 ID.
+     * @param format    csv 또는 ndjson.
+     * @param from      시작일 (포함, 생략 시 처음부터).
+     * @param to        종료일 (포함, 생략 시 현재까지).
+     */
+    @PreAuthorize("hasRole('ADMIN') or @accountSecurity.isAccountOwner(principal, #accountId)")
+    @GetMapping(value = "/{accountId}/transactions", params = "format")
+    public void exportTransactions(
+            @PathVariable("accountId") @P("accountId") int accountId,
+            @RequestParam String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response
+    ) throws IOException {
+        AccountStatementService.ExportFormat exportFormat = AccountStatementService.ExportFormat.from(format);
+
+        response.setContentType(exportFormat.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"account-" + accountId + "-transactions." + exportFormat.extension() + "\"");
+        accountStatementService.export(accountId, exportFormat, from, to, response.getOutputStream());
+    }
+
     /**
      * 계좌 내역 조회: 현재 로그인한 사용자의 계좌 잔액을 조회합니다.
      * *
@@ -141,6 +201,7 @@ public class VirtualAccountController {
      *
      * @param accountId 결제를 진행할 계좌의 ID.
      * @param request   결제 요청 정보를 담은 DTO (예: 프로젝트 ID, 결제 금액 등).
+     * @param idempotencyKey 중복 요청 방지 키 (같은 키로 다시 요청하면 저장된 응답을 반환).
      * @param principal 현재 인증된 사용자의 세부 정보를 포함하는 객체.
      * @return ApiResponse 객체 안에 결제가 완료된 계좌 정보를 포함하여 반환합니다.
      */
@@ -149,26 +210,33 @@ public class VirtualAccountController {
     public ResponseEntity<?> processPaymentByAccountId(
             @PathVariable("accountId") @P("accountId") int accountId,
             @RequestBody @Valid AccountPaymentRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Principal principal
     ) {
-        AccountPaymentResponse response = accountPaymentService.paymentByAccountId(accountId, request, principal.getName());
-        return ResponseEntity.ok(ApiResponse.success("결제에 성공했습니다.", response));
+        return idempotencyService.execute(idempotencyKey, principal.getName(), "POST /api/account/" + accountId + "/payment", request, () -> {
+            AccountPaymentResponse response = accountPaymentService.paymentByAccountId(accountId, request, principal.getName());
+            return ResponseEntity.ok(ApiResponse.success("결제에 성공했습니다.", response));
+        });
     }
 
     /**
      * 결제 처리: 현재 로그인한 사용자의 계좌 결제 요청을 처리합니다
      *
      * @param request     결제 요청 정보를 담은 DTO (예: 프로젝트 ID, 결제 금액 등).
+     * @param idempotencyKey 중복 요청 방지 키 (같은 키로 다시 요청하면 저장된 응답을 반환).
      * @param userDetails 현재 인증된 사용자의 세부 정보를 포함하는 객체.
      * @return ApiResponse 객체 안에 결제가 완료된 계좌 정보를 포함하여 반환합니다.
      */
     @PostMapping("/payment")
     public ResponseEntity<?> processPaymentByUserName(
             @RequestBody @Valid AccountPaymentRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        AccountPaymentResponse response = accountPaymentService.paymentByUsername(request, userDetails.getUsername());
-        return ResponseEntity.ok(ApiResponse.success("결제에 성공했습니다.", response));
+        return idempotencyService.execute(idempotencyKey, userDetails.getUsername(), "POST /api/account/payment", request, () -> {
+            AccountPaymentResponse response = accountPaymentService.paymentByUsername(request, userDetails.getUsername());
+            return ResponseEntity.ok(ApiResponse.success("결제에 성공했습니다.", response));
+        });
     }
 
     /**
@@ -176,16 +244,22 @@ public class VirtualAccountController {
      *
      * @param accountId     환불을 요청하는 계좌의 ID (원래 결제에 사용된 계좌).
      * @param transactionId 환불할 거래의 ID.
+     * @param idempotencyKey 중복 요청 방지 키 (같은 키로 다시 요청하면 저장된 응답을 반환).
      * @return ApiResponse 객체 안에 환불이 완료된 계좌 정보를 포함하여 반환합니다.
      */
     @PreAuthorize("hasRole('ADMIN') or @accountSecurity.isAccountOwner(principal, #accountId)")
     @PostMapping("/{accountId}/transactions/{transactionId}/refund")
     public ResponseEntity<?> processRefund(
             @PathVariable("accountId") @P("accountId") int accountId,
-            @PathVariable int transactionId
+            @PathVariable int transactionId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            Principal principal
     ) {
-        AccountRefundResponse response = accountRefundService.refund(accountId, transactionId);
-        return ResponseEntity.ok(ApiResponse.success("거래 환불에 성공했습니다.", response));
+        String scope = "POST /api/account/" + accountId + "/transactions/" + transactionId + "/refund";
+        return idempotencyService.execute(idempotencyKey, principal.getName(), scope, null, () -> {
+            AccountRefundResponse response = accountRefundService.refund(accountId, transactionId);
+            return ResponseEntity.ok(ApiResponse.success("거래 환불에 성공했습니다.", response));
+        });
     }
 
 }
\ No newline at end of file
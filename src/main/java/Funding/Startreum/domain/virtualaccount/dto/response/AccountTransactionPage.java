@@ -0,0 +1,13 @@
+package Funding.Startreum.domain.virtualaccount.dto.response;
+
+import java.util.List;
+
+/**
+ * 계좌 거래 내역 페이지 (최신순)
+ */
+public record AccountTransactionPage(
+        List<AccountTransactionResponse> data,
+        String nextCursor,
+        boolean hasNext
+) {
+}
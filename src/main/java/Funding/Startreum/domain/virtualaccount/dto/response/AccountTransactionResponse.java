@@ -0,0 +1,49 @@
+package Funding.Startreum.domain.virtualaccount.dto.response;
+
+import Funding.Startreum.domain.transaction.dto.TransactionRow;
+import Funding.Startreum.domain.transaction.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AccountTransactionResponse(
+        int transactionId,              // 거래 내역 ID
+        LocalDateTime transactionDate,  // 거래 일자
+        Transaction.TransactionType type, // 거래 유형 (REMITTANCE, REFUND)
+        Direction direction,            // 조회한 계좌 기준 입출금 구분
+        BigDecimal amount,              // 거래 금액
+        Integer counterpartyAccountId,  // 상대 계좌 ID (충전은 null)
+        Integer fundingId               // 관련 펀딩 ID (충전은 null)
+) {
+
+    public enum Direction {
+        IN,     // 입금
+        OUT,    // 출금
+        CHARGE  // 충전 (출금/입금 계좌가 같은 거래)
+    }
+
+    public static AccountTransactionResponse mapToAccountTransactionResponse(TransactionRow row, int accountId) {
+        Direction direction;
+        Integer counterpartyAccountId;
+        if (row.senderAccountId().equals(row.receiverAccountId())) {
+            direction = Direction.CHARGE;
+            counterpartyAccountId = null;
+        } else if (row.senderAccountId() == accountId) {
+            direction = Direction.OUT;
+            counterpartyAccountId = row.receiverAccountId();
+        } else {
+            direction = Direction.IN;
+            counterpartyAccountId = row.senderAccountId();
+        }
+
+        return new AccountTransactionResponse(
+                row.transactionId(),
+                row.transactionDate(),
+                row.type(),
+                direction,
+                row.amount(),
+                counterpartyAccountId,
+                row.fundingId()
+        );
+    }
+}
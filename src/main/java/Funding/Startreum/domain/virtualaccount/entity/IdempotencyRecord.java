@@ -0,0 +1,89 @@
+package Funding.Startreum.domain.virtualaccount.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키(Idempotency-Key) 처리 기록.
+ * <p>
+ * 같은 키로 다시 들어온 충전/결제/환불 요청에는 저장된 응답을 그대로 돌려주어 금액이 두 번 이동하지 않게 합니다.
+ * <p>
+ * 키를 직접 지정하므로 {@link Persistable}로 새 기록임을 알려, 저장 시 merge(덮어쓰기)가 아닌 INSERT가 실행되게 합니다.
+ * 같은 키가 이미 있으면 기본 키 제약 위반으로 실패하여 다른 요청이 처리 권한을 가져가지 못합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt") // 만료 기록 정리용
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    public enum Status {
+        IN_PROGRESS, // 처리 중
+        COMPLETED    // 처리 완료 (응답 저장됨)
+    }
+
+    @Id
+    @Column(length = 64)
+    private String recordKey; // 사용자 이름 + 멱등 키의 SHA-256 해시
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // 요청 경로 + 본문의 SHA-256 해시 (같은 키로 다른 요청을 보냈는지 확인)
+
+    @Column(nullable = false, length = 36)
+    private String claimToken; // 처리 중인 요청 식별자 (다른 요청이 넘겨받으면 바뀜)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    private Integer responseStatus; // 저장된 응답 HTTP 상태 코드
+
+    @Lob
+    private String responseBody; // 저장된 응답 본문 (JSON)
+
+    @Column(nullable = false)
+    private LocalDateTime claimedAt; // 처리 시작 시각
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt; // 기록 만료 시각
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted; // DB에서 읽었거나 저장된 기록이면 true
+
+    public IdempotencyRecord(String recordKey, String requestHash, String claimToken,
+                             LocalDateTime claimedAt, LocalDateTime expiresAt) {
+        this.recordKey = recordKey;
+        this.requestHash = requestHash;
+        this.claimToken = claimToken;
+        this.status = Status.IN_PROGRESS;
+        this.claimedAt = claimedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return recordKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -1,5 +1,7 @@
 package Funding.Startreum.domain.virtualaccount.entity;
 
+import Funding.Startreum.common.util.Money;
+import Funding.Startreum.common.util.MoneyConverter;
 import Funding.Startreum.domain.users.User;
 import Funding.Startreum.domain.virtualaccount.exception.NotEnoughBalanceException;
 import jakarta.persistence.*;
@@ -25,8 +27,9 @@ public class VirtualAccount {
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // 사용자 ID
 
-    @Column(nullable = false, precision = 18, scale = 0) // 정수만 저장
-    private BigDecimal balance; // 현재 잔액
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false) // 정수(원 단위)만 저장
+    private Money balance; // 현재 잔액
 
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt; // 계좌 생성 일자
@@ -35,6 +38,29 @@ public class VirtualAccount {
 
     private Boolean fundingBlock; // 펀딩 관련 송금 차단 여부
 
+    // ✅ 기존 호출부 호환용 (BigDecimal 조회/설정)
+    public BigDecimal getBalance() {
+        return balance == null ? null : balance.toBigDecimal();
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance == null ? null : Money.of(balance);
+    }
+
+    public Money getBalanceMoney() {
+        return balance;
+    }
+
+    /**
+     * 계좌에 금액을 입금합니다. (충전)
+     *
+     * @param amount 입금 금액
+     * @throws ArithmeticException 잔액이 long 범위를 넘는 경우
+     */
+    public void deposit(Money amount) {
+        this.balance = this.balance.add(amount);
+    }
+
     /**
      * 현재 계좌에서 출금하여 대상 계좌로 자금을 이체합니다.
      *
@@ -42,13 +68,21 @@ public class VirtualAccount {
      * @param targetAccount 입금(또는 환불 입금) 대상 계좌
      * @throws RuntimeException 잔액이 부족할 경우 예외 발생
      */
-    public void transferTo(BigDecimal amount, VirtualAccount targetAccount) {
-        if (this.balance.compareTo(amount) < 0) {
-            throw new NotEnoughBalanceException(this.balance);
+    public void transferTo(Money amount, VirtualAccount targetAccount) {
+        if (this.balance.isLessThan(amount)) {
+            throw new NotEnoughBalanceException(this.balance.toBigDecimal());
         }
-        // 출금
-        this.balance = this.balance.subtract(amount);
-        // 대상 계좌에 입금
-        targetAccount.balance = targetAccount.balance.add(amount);
+        // 출금/입금 결과를 먼저 계산 (범위 초과 시 두 계좌 모두 변경되지 않도록)
+        Money debited = this.balance.subtract(amount);
+        Money credited = (targetAccount == this ? debited : targetAccount.balance).add(amount);
+        this.balance = debited;
+        targetAccount.balance = credited;
+    }
+
+    /**
+     * @see #transferTo(Money, VirtualAccount)
+     */
+    public void transferTo(BigDecimal amount, VirtualAccount targetAccount) {
+        transferTo(Money.of(amount), targetAccount);
     }
 }
@@ -1,6 +1,7 @@
 package Funding.Startreum.domain.virtualaccount.exception;
 
 import Funding.Startreum.common.util.ApiResponse;
+import Funding.Startreum.domain.funding.exception.FundingAlreadyCancelledException;
 import Funding.Startreum.domain.funding.exception.FundingNotFoundException;
 import Funding.Startreum.domain.transaction.transaction.TransactionNotFoundException;
 import Funding.Startreum.domain.virtualaccount.controller.VirtualAccountController;
@@ -21,7 +22,9 @@ public class VirtualAccountExceptionHandler {
             NotEnoughBalanceException.class, HttpStatus.BAD_REQUEST,
             TransactionNotFoundException.class, HttpStatus.NOT_FOUND,
             FundingNotFoundException.class, HttpStatus.NOT_FOUND,
-            EntityNotFoundException.class,  HttpStatus.NOT_FOUND
+            FundingAlreadyCancelledException.class, HttpStatus.CONFLICT,
+            EntityNotFoundException.class,  HttpStatus.NOT_FOUND,
+            IllegalArgumentException.class, HttpStatus.BAD_REQUEST // 잘못된 커서, 내보내기 형식 등
     );
 
     @ExceptionHandler({
@@ -29,13 +32,23 @@ public class VirtualAccountExceptionHandler {
             NotEnoughBalanceException.class,
             TransactionNotFoundException.class,
             FundingNotFoundException.class,
+            FundingAlreadyCancelledException.class,
             EntityNotFoundException.class,
+            IllegalArgumentException.class,
     })
     public ResponseEntity<ApiResponse<Void>> handleException(RuntimeException e) {
         HttpStatus status = STATUS_MAP.getOrDefault(e.getClass(), HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(status).body(ApiResponse.error(e.getMessage()));
     }
 
+    // ✅ 소수점 금액 또는 잔액 범위 초과 (Money 변환/연산)
+    @ExceptionHandler(ArithmeticException.class)
+    public ResponseEntity<ApiResponse<Void>> handleArithmeticException(ArithmeticException e) {
+        return ResponseEntity
+                .badRequest()
+                .body(ApiResponse.error("금액을 확인해주세요."));
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
         return ResponseEntity
@@ -0,0 +1,59 @@
+package Funding.Startreum.domain.virtualaccount.repository;
+
+import Funding.Startreum.domain.virtualaccount.entity.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 처리 시작 후 오래 지난(서버 중단 등) 처리 중 기록이나, 만료되었지만 아직 정리되지 않은 기록을 넘겨받습니다.
+     * @return 1이면 넘겨받음, 0이면 이미 완료되었거나 아직 처리 중
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :inProgress, r.claimToken = :claimToken, r.claimedAt = :now, " +
+            "r.requestHash = :requestHash, r.responseStatus = NULL, r.responseBody = NULL, r.expiresAt = :expiresAt " +
+            "WHERE r.recordKey = :recordKey " +
+            "AND ((r.status = :inProgress AND r.claimedAt < :staleBefore) OR r.expiresAt < :now)")
+    int takeOver(@Param("recordKey") String recordKey, @Param("requestHash") String requestHash,
+                 @Param("claimToken") String claimToken, @Param("now") LocalDateTime now,
+                 @Param("staleBefore") LocalDateTime staleBefore, @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("inProgress") IdempotencyRecord.Status inProgress);
+
+    /**
+     * 처리 결과를 저장합니다. 금액 이동과 같은 트랜잭션에서 실행되어 함께 커밋되거나 함께 롤백됩니다.
+     * @return 1이면 저장 성공, 0이면 다른 요청이 기록을 넘겨받음
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :completed, r.responseStatus = :responseStatus, " +
+            "r.responseBody = :responseBody, r.expiresAt = :expiresAt " +
+            "WHERE r.recordKey = :recordKey AND r.claimToken = :claimToken AND r.status <> :completed")
+    int complete(@Param("recordKey") String recordKey, @Param("claimToken") String claimToken,
+                 @Param("responseStatus") int responseStatus, @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("completed") IdempotencyRecord.Status completed);
+
+    // ✅ 처리에 실패한 요청의 기록 삭제 (같은 키로 다시 시도할 수 있도록)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.recordKey = :recordKey AND r.claimToken = :claimToken")
+    int release(@Param("recordKey") String recordKey, @Param("claimToken") String claimToken);
+
+    // ✅ 만료된 기록 키 조회 (expires_at 인덱스 범위 조회, 한 번에 pageable 크기만큼)
+    @Query("SELECT r.recordKey FROM IdempotencyRecord r WHERE r.expiresAt < :now ORDER BY r.expiresAt")
+    List<String> findExpiredKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.recordKey IN :recordKeys")
+    int deleteByRecordKeyIn(@Param("recordKeys") List<String> recordKeys);
+}
@@ -1,12 +1,14 @@
 package Funding.Startreum.domain.virtualaccount.repository;
 
 
+import Funding.Startreum.domain.users.User;
 import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,14 +23,55 @@ public interface VirtualAccountRepository extends JpaRepository<VirtualAccount,
 
     @Query("SELECT va FROM VirtualAccount va " +
             "JOIN va.user u " +
-            "WHERE u.name = :username")
-    Optional<VirtualAccount> findBeneficiaryAccountByUser_Name(@Param("username") String username);
+            "WHERE u.nameNormalized = :username")
+    Optional<VirtualAccount> findBeneficiaryAccountByNormalizedName(@Param("username") String username);
+
+    default Optional<VirtualAccount> findBeneficiaryAccountByUser_Name(String username) {
+        String normalized = User.normalizeName(username);
+        return findBeneficiaryAccountByNormalizedName(normalized)
+                .or(() -> findByLegacyUserName(normalized).stream().findFirst());
+    }
 
     @Query("SELECT va FROM VirtualAccount va " +
             "JOIN Transaction t ON t.receiverAccount = va " +
             "WHERE t.transactionId = :transactionId")
     Optional<VirtualAccount> findReceiverAccountByTransactionId(@Param("transactionId") Integer transactionId);
 
-    Optional<VirtualAccount> findByUser_Name(String userName);
+    @Query("SELECT t.receiverAccount.accountId FROM Transaction t WHERE t.transactionId = :transactionId")
+    Optional<Integer> findReceiverAccountIdByTransactionId(@Param("transactionId") Integer transactionId);
+
+    Optional<VirtualAccount> findByUser_NameNormalized(String nameNormalized);
+
+    // 조회용 이름이 아직 없는 기존 사용자는 원래 이름으로 비교
+    default Optional<VirtualAccount> findByUser_Name(String userName) {
+        String normalized = User.normalizeName(userName);
+        return findByUser_NameNormalized(normalized)
+                .or(() -> findByLegacyUserName(normalized).stream().findFirst());
+    }
+
+    @Query("SELECT va FROM VirtualAccount va JOIN va.user u " +
+            "WHERE u.nameNormalized IS NULL AND LOWER(TRIM(u.name)) = :username ORDER BY u.userId")
+    List<VirtualAccount> findByLegacyUserName(@Param("username") String username);
+
+    @Query("SELECT va.accountId FROM VirtualAccount va " +
+            "JOIN va.user u " +
+            "WHERE u.nameNormalized = :username")
+    Optional<Integer> findAccountIdByNormalizedName(@Param("username") String username);
+
+    default Optional<Integer> findAccountIdByUsername(String username) {
+        String normalized = User.normalizeName(username);
+        return findAccountIdByNormalizedName(normalized)
+                .or(() -> findByLegacyUserName(normalized).stream().findFirst().map(VirtualAccount::getAccountId));
+    }
+
+    // 계좌 소유자의 사용자 ID만 조회 (권한 검사용)
+    @Query("SELECT va.user.userId FROM VirtualAccount va WHERE va.accountId = :accountId")
+    Optional<Integer> findOwnerIdByAccountId(@Param("accountId") Integer accountId);
+
+    @Query("SELECT va.accountId FROM VirtualAccount va " +
+            "JOIN va.user u " +
+            "JOIN u.projects p " +
+            "WHERE p.projectId = :projectId")
+    Optional<Integer> findBeneficiaryAccountIdByProjectId(@Param("projectId") Integer projectId);
 }
     
@@ -1,26 +1,46 @@
 package Funding.Startreum.domain.virtualaccount.security;
 
-import Funding.Startreum.domain.users.UserService;
-import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.users.AuthenticatedUser;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
 import Funding.Startreum.domain.virtualaccount.exception.AccountNotFoundException;
 import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
-@RequiredArgsConstructor
 public class AccountSecurity {
 
     private final VirtualAccountRepository repository;
-    private final UserService userService;
+    private final UserRepository userRepository;
+    private final int maxSize;
+
+    // 계좌 ID -> 소유자 사용자 ID (계좌 소유자는 바뀌지 않으므로 무효화 없이 LRU로만 제거)
+    private final Map<Integer, Integer> ownerIds;
+
+    public AccountSecurity(VirtualAccountRepository repository, UserRepository userRepository,
+                           @Value("${account.owner.cache.max-size:10000}") int maxSize) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ownerIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > AccountSecurity.this.maxSize;
+            }
+        };
+    }
 
     /**
-     * 계좌 소유자의 username과 현재 로그인한 사용자의 username을 비교하여 권한을 확인합니다.
+     * 계좌 소유자의 사용자 ID와 현재 로그인한 사용자의 ID를 비교하여 권한을 확인합니다.
      * <p>
-     * ⚠️ 현재 "이름(name)"을 기준으로 권한을 검증하지만,
-     * 동명이인 등의 문제가 발생할 수 있으므로 추후 수정이 필요합니다.
+     * 로그인 사용자 ID는 토큰에 담긴 값({@link AuthenticatedUser#getUserId()})을 사용하고,
+     * 계좌 소유자 ID는 캐시에서 찾으므로 일반적인 경우 DB를 조회하지 않습니다.
      * <p>
      * ⚠️ 계좌가 존재하지 않을 때는 Service Layer에서 처리하고 있습니다.
      * 추후 논의가 필요합니다.
@@ -31,12 +51,8 @@ public class AccountSecurity {
      * @throws AccessDeniedException 권한이 없을 경우 발생*
      */
     public boolean isAccountOwner(UserDetails userDetails, int accountId) {
-        VirtualAccount account = repository.findById(accountId)
-                .orElseThrow(() -> new AccountNotFoundException(accountId));
-
-        // 계좌에 저장된 User 엔티티에서 userId 추출
-        Integer accountUserId = userService.getUserByName(account.getUser().getName()).getUserId();
-        Integer loginUserId = userService.getUserByName(userDetails.getUsername()).getUserId();
+        Integer accountUserId = getOwnerId(accountId);
+        Integer loginUserId = getLoginUserId(userDetails);
 
         boolean isOwner = accountUserId.equals(loginUserId);
 
@@ -46,4 +62,30 @@ public class AccountSecurity {
 
         return true;
     }
-}
\ No newline at end of file
+
+    private Integer getOwnerId(int accountId) {
+        synchronized (ownerIds) {
+            Integer ownerId = ownerIds.get(accountId);
+            if (ownerId != null) {
+                return ownerId;
+            }
+        }
+
+        Integer ownerId = repository.findOwnerIdByAccountId(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        synchronized (ownerIds) {
+            ownerIds.put(accountId, ownerId);
+        }
+        return ownerId;
+    }
+
+    // 사용자 ID 클레임이 없는 이전 토큰이면 이름으로 조회 (name_normalized 인덱스)
+    private Integer getLoginUserId(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUser authenticatedUser && authenticatedUser.getUserId() != null) {
+            return authenticatedUser.getUserId();
+        }
+        return userRepository.findByName(userDetails.getUsername())
+                .map(User::getUserId)
+                .orElseThrow(() -> new AccessDeniedException("🔒 해당 계좌에 대한 접근 권한이 없습니다."));
+    }
+}
@@ -1,5 +1,6 @@
 package Funding.Startreum.domain.virtualaccount.service;
 
+import Funding.Startreum.common.util.Money;
 import Funding.Startreum.domain.transaction.entity.Transaction;
 import Funding.Startreum.domain.transaction.service.TransactionService;
 import Funding.Startreum.domain.virtualaccount.dto.request.AccountRequest;
@@ -58,7 +59,7 @@ public class AccountChargeService {
     private AccountPaymentResponse chargeAccount(VirtualAccount account, AccountRequest request) {
         // 1. 잔액 업데이트
         BigDecimal beforeMoney = account.getBalance();
-        account.setBalance(account.getBalance().add(request.amount()));
+        account.deposit(Money.of(request.amount()));
 
         // 2. 거래 내역 생성 (여기서 첫번째 파라미터는 외부 전달용 ID로, null로 처리)
         Transaction transaction = transactionService.createTransaction(null, account, account, request.amount(), REMITTANCE);
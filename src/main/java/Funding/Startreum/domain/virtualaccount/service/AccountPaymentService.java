@@ -1,5 +1,6 @@
 package Funding.Startreum.domain.virtualaccount.service;
 
+import Funding.Startreum.common.util.Money;
 import Funding.Startreum.domain.funding.entity.Funding;
 import Funding.Startreum.domain.funding.service.FundingService;
 import Funding.Startreum.domain.project.entity.Project;
@@ -9,6 +10,7 @@ import Funding.Startreum.domain.transaction.service.TransactionService;
 import Funding.Startreum.domain.virtualaccount.dto.request.AccountPaymentRequest;
 import Funding.Startreum.domain.virtualaccount.dto.response.AccountPaymentResponse;
 import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.service.AccountQueryService.TransferAccounts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,10 +44,10 @@ public class AccountPaymentService {
     ) {
         Project project = projectService.getProject(request.projectId());
 
-        VirtualAccount payerAccount = accountQueryService.getAccount(accountId);
-        VirtualAccount projectAccount = accountQueryService.getAccountByProjectId(request.projectId());
+        int projectAccountId = accountQueryService.getAccountIdByProjectId(request.projectId());
+        TransferAccounts accounts = accountQueryService.lockForTransfer(accountId, projectAccountId);
 
-        return processPayment(project, payerAccount, projectAccount, request, username);
+        return processPayment(project, accounts.from(), accounts.to(), request, username);
     }
 
     /**
@@ -62,14 +64,18 @@ public class AccountPaymentService {
     ) {
         Project project = projectService.getProject(request.projectId());
 
-        VirtualAccount payerAccount = accountQueryService.getAccount(username);
-        VirtualAccount projectAccount = accountQueryService.getAccountByProjectId(request.projectId());
+        int payerAccountId = accountQueryService.getAccountId(username);
+        int projectAccountId = accountQueryService.getAccountIdByProjectId(request.projectId());
+        TransferAccounts accounts = accountQueryService.lockForTransfer(payerAccountId, projectAccountId);
 
-        return processPayment(project, payerAccount, projectAccount, request, username);
+        return processPayment(project, accounts.from(), accounts.to(), request, username);
     }
 
     /**
      * 공통 결제 처리 로직입니다.
+     * <p>
+     * 두 계좌는 호출 전에 계좌 ID 순서대로 락이 걸려 있어야 하며,
+     * 프로젝트의 현재 펀딩 금액은 project 행을 갱신하지 않고 ProjectFundingCounter에 누적했다가 커밋 이후 주기적으로 반영합니다.
      *
      * @param project        결제 대상 프로젝트
      * @param from   결제자 계좌
@@ -88,9 +94,9 @@ public class AccountPaymentService {
         BigDecimal payerBalanceBefore = from.getBalance();
         BigDecimal paymentAmount = request.amount();
 
-        from.transferTo(paymentAmount, to);
+        from.transferTo(Money.of(paymentAmount), to);
 
-        project.setCurrentFunding(project.getCurrentFunding().add(paymentAmount));
+        projectService.addCurrentFunding(project.getProjectId(), paymentAmount);
 
         Funding funding = fundingService.createFunding(project, username, paymentAmount);
         Transaction transaction = transactionService.createTransaction(funding, from, to, paymentAmount, REMITTANCE);
@@ -13,8 +13,11 @@ import Funding.Startreum.domain.virtualaccount.dto.response.AccountResponse;
 import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
 import Funding.Startreum.domain.virtualaccount.exception.AccountNotFoundException;
 import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -35,6 +38,8 @@ public class AccountQueryService {
     private final TransactionService transactionService;
     private final ProjectService projectService;
 
+    private final EntityManager entityManager;
+
 
     /**
      * 사용자의 계좌 정보를 가져와 DTO로 반환
@@ -106,6 +111,83 @@ public class AccountQueryService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트의 수혜자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 계좌 ID를 조회합니다. (username 기반)
+     *
+     * @param username 조회할 유저 이름
+     * @return 계좌 ID
+     */
+    @Transactional(readOnly = true)
+    public int getAccountId(String username) {
+        return virtualAccountRepository.findAccountIdByUsername(username)
+                .orElseThrow(() -> new AccountNotFoundException(username));
+    }
+
+    /**
+     * 프로젝트 소유자의 계좌 ID를 조회합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 프로젝트 소유자 계좌 ID
+     */
+    @Transactional(readOnly = true)
+    public int getAccountIdByProjectId(int projectId) {
+        return virtualAccountRepository.findBeneficiaryAccountIdByProjectId(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트의 수혜자를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 계좌를 비관적 쓰기 락(SELECT ... FOR UPDATE)으로 조회합니다.
+     * <p>
+     * 이미 영속성 컨텍스트에 올라와 있던 계좌(예: 권한 검사 중 조회된 계좌)도
+     * 락을 건 시점의 최신 잔액으로 다시 읽어옵니다.
+     *
+     * @param accountId 조회할 계좌 ID
+     * @return 락이 걸린 계좌
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public VirtualAccount getAccountForUpdate(int accountId) {
+        VirtualAccount account = entityManager.find(VirtualAccount.class, accountId);
+        if (account == null) {
+            throw new AccountNotFoundException(accountId);
+        }
+
+        entityManager.refresh(account, LockModeType.PESSIMISTIC_WRITE);
+        return account;
+    }
+
+    /**
+     * 이체에 참여하는 두 계좌를 락을 걸어 조회합니다.
+     * <p>
+     * 교착 상태를 막기 위해 출금/입금 방향과 관계없이 항상 계좌 ID 오름차순으로 락을 획득합니다.
+     *
+     * @param fromAccountId 출금 계좌 ID
+     * @param toAccountId   입금 계좌 ID
+     * @return 락이 걸린 출금/입금 계좌
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TransferAccounts lockForTransfer(int fromAccountId, int toAccountId) {
+        if (fromAccountId == toAccountId) {
+            VirtualAccount account = getAccountForUpdate(fromAccountId);
+            return new TransferAccounts(account, account);
+        }
+
+        VirtualAccount first = getAccountForUpdate(Math.min(fromAccountId, toAccountId));
+        VirtualAccount second = getAccountForUpdate(Math.max(fromAccountId, toAccountId));
+
+        return fromAccountId < toAccountId
+                ? new TransferAccounts(first, second)
+                : new TransferAccounts(second, first);
+    }
+
+    /**
+     * 락이 걸린 이체 대상 계좌 쌍입니다.
+     *
+     * @param from 출금 계좌
+     * @param to   입금 계좌
+     */
+    public record TransferAccounts(VirtualAccount from, VirtualAccount to) {
+    }
+
     /**
      * 거래내역의 수신자 계좌를 조회합니다.
      *
@@ -118,6 +200,18 @@ public class AccountQueryService {
                 .orElseThrow(() -> new AccountNotFoundException(transactionId));
     }
 
+    /**
+     * 거래내역의 수신자 계좌 ID를 조회합니다.
+     *
+     * @param transactionId 거래내역 ID
+     * @return 프로젝트 소유자 계좌 ID
+     */
+    @Transactional(readOnly = true)
+    public int getReceiverAccountIdByTransactionId(int transactionId) {
+        return virtualAccountRepository.findReceiverAccountIdByTransactionId(transactionId)
+                .orElseThrow(() -> new AccountNotFoundException(transactionId));
+    }
+
 
     /**
      * 계좌를 조회합니다. (계좌 ID 기반)
@@ -1,13 +1,16 @@
 package Funding.Startreum.domain.virtualaccount.service;
 
+import Funding.Startreum.common.util.Money;
 import Funding.Startreum.domain.funding.entity.Funding;
 import Funding.Startreum.domain.funding.service.FundingService;
 import Funding.Startreum.domain.project.entity.Project;
 import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.project.service.ProjectService;
 import Funding.Startreum.domain.transaction.entity.Transaction;
 import Funding.Startreum.domain.transaction.service.TransactionService;
 import Funding.Startreum.domain.virtualaccount.dto.response.AccountRefundResponse;
 import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.service.AccountQueryService.TransferAccounts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,9 +27,12 @@ public class AccountRefundService {
     private final AccountQueryService accountQueryService;
     private final FundingService fundingService;
     private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
 
     /**
      * 환불을 진행하는 로직입니다.
+     * <p>
+     * 결제와 같이 두 계좌를 계좌 ID 순서대로 락을 건 뒤 잔액을 옮깁니다.
      *
      * @param payerAccountId 환불 받을 사용자 계좌 ID (결제한 계좌)
      * @param transactionId  원 거래의 ID
@@ -37,24 +43,28 @@ public class AccountRefundService {
         // 1) 원 거래 조회
         Transaction oldTransaction = transactionService.getTransaction(transactionId);
 
-        // 2) 계좌 조회
-        VirtualAccount payerAccount = accountQueryService.getAccount(payerAccountId);
-        VirtualAccount projectAccount = accountQueryService.getReceiverAccountByTransactionId(transactionId);
+        // 2) 펀딩 취소 (이미 환불된 거래면 금액 이동 전에 중단)
+        Funding funding = fundingService.cancelFunding(oldTransaction.getFunding().getFundingId());
+
+        // 3) 계좌 조회 (프로젝트 계좌 -> 결제자 계좌, 계좌 ID 순서로 락)
+        int projectAccountId = accountQueryService.getReceiverAccountIdByTransactionId(transactionId);
+        TransferAccounts accounts = accountQueryService.lockForTransfer(projectAccountId, payerAccountId);
+        VirtualAccount projectAccount = accounts.from();
+        VirtualAccount payerAccount = accounts.to();
 
-        // 3) 환불 처리: 프로젝트 계좌에서 환불 금액 출금하여 결제자 계좌에 입금
+        // 4) 환불 처리: 프로젝트 계좌에서 환불 금액 출금하여 결제자 계좌에 입금
         BigDecimal beforeMoney = payerAccount.getBalance();
         BigDecimal refundAmount = oldTransaction.getAmount();
-        projectAccount.transferTo(refundAmount, payerAccount);
+        projectAccount.transferTo(Money.of(refundAmount), payerAccount);
 
-        // 4) 펀딩 취소 및 거래 내역 생성
-        Funding funding = fundingService.cancelFunding(oldTransaction.getFunding().getFundingId());
+        // 5) 거래 내역 생성
         Transaction newTransaction = transactionService.createTransaction(funding, projectAccount, payerAccount, refundAmount, REFUND);
 
-        // 5) 프로젝트의 현재 펀딩 금액 차감
+        // 6) 프로젝트의 현재 펀딩 금액 차감
         Project project = projectRepository.findProjectByTransactionId(transactionId);
-        project.setCurrentFunding(project.getCurrentFunding().subtract(refundAmount));
+        projectService.addCurrentFunding(project.getProjectId(), refundAmount.negate());
 
-        // 6) 응답 객체 반환
+        // 7) 응답 객체 반환
         return mapToAccountRefundResponse(payerAccount, newTransaction, transactionId, refundAmount, beforeMoney);
     }
 
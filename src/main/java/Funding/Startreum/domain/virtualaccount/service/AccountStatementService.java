@@ -0,0 +1,184 @@
+package Funding.Startreum.domain.virtualaccount.service;
+
+import Funding.Startreum.domain.transaction.dto.TransactionRow;
+import Funding.Startreum.domain.transaction.repository.TransactionRepository;
+import Funding.Startreum.domain.virtualaccount.dto.AccountTransactionCursor;
+import Funding.Startreum.domain.virtualaccount.dto.response.AccountTransactionPage;
+import Funding.Startreum.domain.virtualaccount.dto.response.AccountTransactionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static Funding.Startreum.domain.virtualaccount.dto.response.AccountTransactionResponse.mapToAccountTransactionResponse;
+
+/**
+ * 계좌 거래 내역 조회 및 내보내기.
+ * <p>
+ * - 목록은 출금/입금 방향별 인덱스로 각각 키셋 조회한 뒤 합쳐서 최신순 한 페이지를 만듭니다.
+ * - 내보내기는 오래된 순 키셋 배치로 나누어 읽어 바로 응답 스트림에 쓰므로, 기간이 길어도 메모리 사용량이 일정합니다.
+ *   (배치마다 짧은 조회이므로 느린 다운로드가 커넥션/트랜잭션을 오래 잡지 않으며, 드라이버 커서 설정에 의존하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountStatementService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String CSV_HEADER =
+            "transactionId,transactionDate,type,direction,amount,counterpartyAccountId,fundingId";
+
+    private static final Comparator<TransactionRow> LATEST_FIRST = Comparator
+            .comparing(TransactionRow::transactionDate)
+            .thenComparing(TransactionRow::transactionId)
+            .reversed();
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${statement.export.batch-size:500}")
+    private int exportBatchSize;
+
+    public enum ExportFormat {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException 지원하지 않는 형식
+         */
+        public static ExportFormat from(String format) {
+            for (ExportFormat value : values()) {
+                if (value.extension.equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. 허용되는 값: csv, ndjson");
+        }
+    }
+
+    /**
+     * 계좌 거래 내역 한 페이지 (최신순)
+     *
+     * @param accountId 계좌 ID
+     * @param after     이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size      페이지 크기 (최대 100)
+     */
+    @Transactional(readOnly = true)
+    public AccountTransactionPage getTransactions(int accountId, String after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<TransactionRow> sent;
+        List<TransactionRow> received;
+        if (after == null || after.isBlank()) {
+            sent = transactionRepository.findSentFirstPage(accountId, limit);
+            received = transactionRepository.findReceivedFirstPage(accountId, limit);
+        } else {
+            AccountTransactionCursor cursor = AccountTransactionCursor.decode(after);
+            sent = transactionRepository.findSentPageAfter(accountId, cursor.transactionDate(), cursor.transactionId(), limit);
+            received = transactionRepository.findReceivedPageAfter(accountId, cursor.transactionDate(), cursor.transactionId(), limit);
+        }
+
+        // 두 결과를 합쳐 최신순 정렬 (충전은 양쪽에 모두 있으므로 중복 제거)
+        Map<Integer, TransactionRow> merged = new LinkedHashMap<>();
+        Stream.concat(sent.stream(), received.stream())
+                .sorted(LATEST_FIRST)
+                .forEach(row -> merged.putIfAbsent(row.transactionId(), row));
+        List<TransactionRow> rows = merged.values().stream().limit(pageSize + 1L).toList();
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? AccountTransactionCursor.of(rows.get(rows.size() - 1)).encode() : null;
+
+        return new AccountTransactionPage(
+                rows.stream().map(row -> mapToAccountTransactionResponse(row, accountId)).toList(),
+                nextCursor,
+                hasNext);
+    }
+
+    /**
+     * 기간 내 거래 내역을 오래된 순으로 응답 스트림에 씁니다.
+     *
+     * @param from 시작일 (포함, null이면 처음부터)
+     * @param to   종료일 (포함, null이면 현재까지)
+     * @param out  응답 스트림 (닫지 않음)
+     * @return 내보낸 거래 수
+     */
+    public long export(int accountId, ExportFormat format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        LocalDateTime fromTime = from == null ? EARLIEST : from.atStartOfDay();
+        LocalDateTime toTime = to == null ? LocalDateTime.now().plusSeconds(1) : to.plusDays(1).atStartOfDay();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        PageRequest batch = PageRequest.of(0, exportBatchSize);
+        List<TransactionRow> rows = transactionRepository.findExportFirstBatch(accountId, fromTime, toTime, batch);
+        while (!rows.isEmpty()) {
+            for (TransactionRow row : rows) {
+                AccountTransactionResponse entry = mapToAccountTransactionResponse(row, accountId);
+                writer.write(format == ExportFormat.CSV ? toCsv(entry) : objectMapper.writeValueAsString(entry));
+                writer.write('\n');
+                count++;
+            }
+            writer.flush();
+
+            if (rows.size() < exportBatchSize) {
+                break;
+            }
+            TransactionRow last = rows.get(rows.size() - 1);
+            rows = transactionRepository.findExportBatchAfter(accountId, toTime, last.transactionDate(), last.transactionId(), batch);
+        }
+        writer.flush();
+        return count;
+    }
+
+    // 값에 쉼표/따옴표가 들어가는 문자열 컬럼이 없으므로 그대로 이어 붙임
+    private String toCsv(AccountTransactionResponse entry) {
+        return entry.transactionId() + "," +
+                entry.transactionDate() + "," +
+                entry.type() + "," +
+                entry.direction() + "," +
+                entry.amount().toPlainString() + "," +
+                (entry.counterpartyAccountId() == null ? "" : entry.counterpartyAccountId()) + "," +
+                (entry.fundingId() == null ? "" : entry.fundingId());
+    }
+}
@@ -0,0 +1,277 @@
+package Funding.Startreum.domain.virtualaccount.service;
+
+import Funding.Startreum.common.util.ApiResponse;
+import Funding.Startreum.common.util.HashUtil;
+import Funding.Startreum.domain.virtualaccount.entity.IdempotencyRecord;
+import Funding.Startreum.domain.virtualaccount.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리.
+ * <p>
+ * - 키가 없으면 기존처럼 바로 처리합니다.
+ * - 처음 보는 키면 처리 중 기록을 먼저 저장(별도 트랜잭션)한 뒤 요청을 처리하고,
+ *   응답은 금액 이동과 같은 트랜잭션에서 기록에 저장합니다. 따라서 금액은 이동했는데 응답이 없는 상태가 생기지 않습니다.
+ * - 이미 완료된 키면 저장된 응답을 그대로 돌려주며 계좌는 조회하지 않습니다. (최근 응답은 메모리 LRU에서 바로 응답)
+ * - 같은 키로 다른 요청을 보내면 422, 같은 키의 요청이 아직 처리 중이면 409를 돌려줍니다.
+ * - 처리 중 기록이 오래 남아 있으면(서버 중단 등) 다음 요청이 넘겨받아 처리합니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 메모리에 보관하는 완료된 응답
+    private record CachedResponse(String requestHash, int status, String body, LocalDateTime expiresAt) {
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final int purgeChunkSize;
+    private final Map<String, CachedResponse> responses;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.in-progress-timeout-seconds:30}") long inProgressTimeoutSeconds,
+                              @Value("${idempotency.cache.max-size:10000}") int cacheMaxSize,
+                              @Value("${idempotency.purge.chunk-size:1000}") int purgeChunkSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inProgressTimeout = Duration.ofSeconds(inProgressTimeoutSeconds);
+        this.purgeChunkSize = purgeChunkSize;
+
+        // ✅ 접근 순서 기준 LRU (가장 오래 사용하지 않은 응답부터 제거)
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheMaxSize;
+            }
+        };
+    }
+
+    /**
+     * 멱등 키 기준으로 요청을 한 번만 처리합니다.
+     *
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 그대로 처리)
+     * @param username       요청한 사용자 이름 (사용자마다 키 공간이 분리됨)
+     * @param scope          요청 경로 (예: "POST /api/account/1")
+     * @param request        요청 본문 (없으면 null)
+     * @param action         실제 처리 (금액 이동)
+     */
+    public ResponseEntity<?> execute(String idempotencyKey, String username, String scope, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HEADER + " 헤더는 1~" + MAX_KEY_LENGTH + "자여야 합니다."));
+        }
+
+        String recordKey = HashUtil.sha256(username + "|" + idempotencyKey);
+        String requestHash = HashUtil.sha256(scope + "|" + toJson(request));
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1) 메모리에 있는 완료 응답
+        CachedResponse cached = getCached(recordKey, now);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        // 2) 처리 권한 확보 (처음 보는 키면 처리 중 기록 저장)
+        String claimToken = UUID.randomUUID().toString();
+        Optional<ResponseEntity<?>> rejected = claim(recordKey, requestHash, claimToken, now);
+        if (rejected.isPresent()) {
+            return rejected.get();
+        }
+
+        // 3) 처리 후 같은 트랜잭션에서 응답 저장
+        ResponseEntity<?> response;
+        CachedResponse[] completed = new CachedResponse[1];
+        try {
+            response = transactionTemplate.execute(status -> {
+                ResponseEntity<?> result = action.get();
+                if (!result.getStatusCode().is2xxSuccessful()) {
+                    idempotencyRecordRepository.release(recordKey, claimToken);
+                    return result;
+                }
+
+                String body = toJson(result.getBody());
+                LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+                if (idempotencyRecordRepository.complete(recordKey, claimToken, result.getStatusCode().value(), body,
+                        expiresAt, IdempotencyRecord.Status.COMPLETED) == 0) {
+                    // 처리 시간이 길어 다른 요청이 넘겨받음 → 이 요청의 금액 이동은 롤백
+                    throw new ClaimLostException();
+                }
+                completed[0] = new CachedResponse(requestHash, result.getStatusCode().value(), body, expiresAt);
+                return result;
+            });
+        } catch (ClaimLostException e) {
+            count("claim_lost");
+            return conflict();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 기록을 지워 같은 키로 다시 시도할 수 있게 함
+            newTransactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.release(recordKey, claimToken));
+            throw e;
+        }
+        // 커밋된 응답만 메모리에 보관
+        if (completed[0] != null) {
+            putCached(recordKey, completed[0]);
+        }
+        count("executed");
+        return response;
+    }
+
+    // ✅ 만료된 기록 정리 (기본 10분마다, expires_at 인덱스로 묶음 단위 삭제)
+    @Scheduled(fixedDelayString = "${idempotency.purge.interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deletedCount = 0;
+        while (true) {
+            List<String> recordKeys = idempotencyRecordRepository.findExpiredKeys(now, PageRequest.of(0, purgeChunkSize));
+            if (recordKeys.isEmpty()) {
+                break;
+            }
+            deletedCount += idempotencyRecordRepository.deleteByRecordKeyIn(recordKeys);
+            if (recordKeys.size() < purgeChunkSize) {
+                break;
+            }
+        }
+        if (deletedCount > 0) {
+            log.info("만료된 멱등 키 기록 {}건 삭제", deletedCount);
+        }
+    }
+
+    /**
+     * 처리 중 기록을 저장합니다. 이미 기록이 있으면 저장된 응답 또는 거절 응답을 반환합니다.
+     */
+    private Optional<ResponseEntity<?>> claim(String recordKey, String requestHash, String claimToken, LocalDateTime now) {
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.saveAndFlush(
+                    new IdempotencyRecord(recordKey, requestHash, claimToken, now, now.plus(ttl))));
+            return Optional.empty();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키가 이미 저장됨 → 아래에서 기존 기록 확인
+        }
+
+        IdempotencyRecord existing = newTransactionTemplate.execute(status ->
+                idempotencyRecordRepository.findById(recordKey).orElse(null));
+        if (existing == null) {
+            // 그 사이 정리되었으면 다시 시도하도록 안내
+            return Optional.of(conflict());
+        }
+
+        boolean expired = !existing.getExpiresAt().isAfter(now);
+        if (existing.getStatus() == IdempotencyRecord.Status.COMPLETED && !expired) {
+            CachedResponse completed = new CachedResponse(existing.getRequestHash(), existing.getResponseStatus(),
+                    existing.getResponseBody(), existing.getExpiresAt());
+            putCached(recordKey, completed);
+            return Optional.of(replay(completed, requestHash));
+        }
+
+        if (!expired && !existing.getRequestHash().equals(requestHash)) {
+            return Optional.of(mismatch());
+        }
+
+        // 처리 중인 채로 오래 남았거나(서버 중단 등) 만료되었지만 아직 정리되지 않은 기록이면 넘겨받음
+        Integer updated = newTransactionTemplate.execute(status -> idempotencyRecordRepository.takeOver(
+                recordKey, requestHash, claimToken, now, now.minus(inProgressTimeout), now.plus(ttl),
+                IdempotencyRecord.Status.IN_PROGRESS));
+        if (updated != null && updated > 0) {
+            count("taken_over");
+            return Optional.empty();
+        }
+        count("in_progress");
+        return Optional.of(conflict());
+    }
+
+    private ResponseEntity<?> replay(CachedResponse cached, String requestHash) {
+        if (!cached.requestHash().equals(requestHash)) {
+            return mismatch();
+        }
+        count("replayed");
+        return ResponseEntity.status(cached.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true")
+                .body(cached.body());
+    }
+
+    private ResponseEntity<?> conflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("같은 " + HEADER + "의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private ResponseEntity<?> mismatch() {
+        count("mismatch");
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.error("같은 " + HEADER + "로 다른 요청을 보낼 수 없습니다."));
+    }
+
+    private synchronized CachedResponse getCached(String recordKey, LocalDateTime now) {
+        CachedResponse cached = responses.get(recordKey);
+        if (cached != null && !cached.expiresAt().isAfter(now)) {
+            responses.remove(recordKey);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void putCached(String recordKey, CachedResponse response) {
+        responses.put(recordKey, response);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("idempotency.requests", "result", result).increment();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 처리용 JSON 변환에 실패했습니다.", e);
+        }
+    }
+
+    // 다른 요청이 기록을 넘겨받아 이 요청의 처리를 롤백해야 함
+    private static class ClaimLostException extends RuntimeException {
+    }
+}
@@ -0,0 +1,16 @@
+package Funding.Startreum.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HashUtilTest {
+
+    @Test
+    @DisplayName("SHA-256 해시를 16진수 소문자로 반환한다")
+    void sha256() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", HashUtil.sha256("abc"));
+        assertEquals(64, HashUtil.sha256("토큰").length());
+    }
+}
@@ -0,0 +1,39 @@
+package Funding.Startreum.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @Test
+    @DisplayName("검증된 토큰은 만료 전까지 캐시된 Claims를 반환한다")
+    void parseClaimsUsesCache() {
+        String token = jwtUtil.generateAccessToken("tester", "tester@test.com", "SPONSOR");
+
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertSame(first, second);
+        assertEquals("tester", first.getSubject());
+        assertEquals("tester@test.com", jwtUtil.getEmailFromToken(token));
+        assertEquals("ROLE_SPONSOR", jwtUtil.getRoleFromToken(token));
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시와 무관하게 거부된다")
+    void rejectTamperedToken() {
+        String token = jwtUtil.generateAccessToken("tester", "tester@test.com", "SPONSOR");
+        jwtUtil.parseClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(tampered));
+        assertFalse(jwtUtil.validateToken(tampered));
+    }
+}
@@ -0,0 +1,62 @@
+package Funding.Startreum.common.util;
+
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.exception.NotEnoughBalanceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("덧셈/뺄셈이 long 범위를 넘으면 예외가 발생한다")
+    void overflowIsDetected() {
+        assertEquals(Money.of(150), Money.of(100).add(Money.of(50)));
+        assertEquals(Money.of(-50), Money.of(100).subtract(Money.of(150)));
+        assertThrows(ArithmeticException.class, () -> Money.of(Long.MAX_VALUE).add(Money.of(1)));
+        assertThrows(ArithmeticException.class, () -> Money.of(Long.MIN_VALUE).subtract(Money.of(1)));
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환은 소수점 이하 값이 없을 때만 허용된다")
+    void fromBigDecimal() {
+        assertEquals(Money.ZERO, Money.of(new BigDecimal("0.00")));
+        assertEquals(Money.of(1_000), Money.of(new BigDecimal("1000.00")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("10.5")));
+        assertEquals(BigDecimal.valueOf(1_000), Money.of(1_000).toBigDecimal());
+    }
+
+    @Test
+    @DisplayName("JSON에서는 숫자 하나로 주고받는다")
+    void jsonRoundTrip() throws Exception {
+        assertEquals("1500", objectMapper.writeValueAsString(Money.of(1_500)));
+        assertEquals(Money.of(1_500), objectMapper.readValue("1500", Money.class));
+    }
+
+    @Test
+    @DisplayName("이체는 잔액이 부족하거나 범위를 넘으면 두 계좌 모두 변경하지 않는다")
+    void transferIsAllOrNothing() {
+        VirtualAccount from = account(100);
+        VirtualAccount to = account(Long.MAX_VALUE);
+
+        assertThrows(NotEnoughBalanceException.class, () -> from.transferTo(Money.of(101), to));
+        assertThrows(ArithmeticException.class, () -> from.transferTo(Money.of(1), to));
+        assertEquals(Money.of(100), from.getBalanceMoney());
+        assertEquals(Money.of(Long.MAX_VALUE), to.getBalanceMoney());
+
+        from.transferTo(Money.of(40), from);
+        assertEquals(Money.of(100), from.getBalanceMoney());
+    }
+
+    private VirtualAccount account(long balance) {
+        VirtualAccount account = new VirtualAccount();
+        account.setBalance(BigDecimal.valueOf(balance));
+        return account;
+    }
+}
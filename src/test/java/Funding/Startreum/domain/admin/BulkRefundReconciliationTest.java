@@ -0,0 +1,128 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.ledger.dto.ReconciliationReport;
+import Funding.Startreum.domain.ledger.service.LedgerReconciliationService;
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.dto.request.AccountPaymentRequest;
+import Funding.Startreum.domain.virtualaccount.dto.request.AccountRequest;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import Funding.Startreum.domain.virtualaccount.service.AccountChargeService;
+import Funding.Startreum.domain.virtualaccount.service.AccountPaymentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일괄 환불 후 원장 대사에서 불일치가 없는지 H2(test 프로필) 위에서 확인합니다.
+ * (모든 잔액이 충전/결제/환불을 거쳐 원장과 함께 바뀌도록 별도 DB 사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-refund-ledger;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "refund.chunk-size=2"
+})
+class BulkRefundReconciliationTest {
+
+    private static final int SPONSOR_COUNT = 5;
+    private static final BigDecimal INITIAL_BALANCE = BigDecimal.valueOf(10_000);
+    private static final BigDecimal PAYMENT_AMOUNT = BigDecimal.valueOf(1_000);
+
+    @Autowired
+    private BulkRefundService bulkRefundService;
+    @Autowired
+    private LedgerReconciliationService ledgerReconciliationService;
+    @Autowired
+    private AccountChargeService accountChargeService;
+    @Autowired
+    private AccountPaymentService accountPaymentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("일괄 환불은 원장 차변/대변을 함께 기록하여 대사 불일치가 없다")
+    void bulkRefundKeepsLedgerInSync() {
+        User beneficiary = saveUser("reconcile-beneficiary", User.Role.BENEFICIARY);
+        saveAccount(beneficiary);
+        Project project = saveProject(beneficiary);
+
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            User sponsor = saveUser("reconcile-sponsor" + i, User.Role.SPONSOR);
+            VirtualAccount account = saveAccount(sponsor);
+            accountChargeService.chargeByAccountId(account.getAccountId(), new AccountRequest(INITIAL_BALANCE));
+            accountPaymentService.paymentByUsername(
+                    new AccountPaymentRequest(project.getProjectId(), PAYMENT_AMOUNT), sponsor.getName());
+        }
+
+        RefundProgressDto progress = bulkRefundService.refundAll(project.getProjectId());
+        assertEquals(0, progress.remainingCount());
+
+        // 환불 트랜잭션마다 차변/대변 한 쌍
+        Long refundEntries = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ledger_entry e JOIN transaction t ON t.transaction_id = e.transaction_id " +
+                        "WHERE t.type = 'REFUND'", Long.class);
+        assertEquals(SPONSOR_COUNT * 2L, refundEntries);
+
+        ReconciliationReport report = ledgerReconciliationService.reconcile();
+
+        assertTrue(report.checkedAccounts() >= SPONSOR_COUNT + 1);
+        assertEquals(0, report.driftCount(), () -> "원장 불일치: " + report.drifts());
+    }
+
+    private Project saveProject(User creator) {
+        Project project = new Project();
+        project.setCreator(creator);
+        project.setTitle("Failed Project");
+        project.setFundingGoal(BigDecimal.valueOf(100_000_000));
+        project.setCurrentFunding(BigDecimal.ZERO);
+        project.setStartDate(LocalDateTime.now());
+        project.setEndDate(LocalDateTime.now().plusDays(30));
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(Project.ApprovalStatus.APPROVE);
+        project.setIsDeleted(false);
+        project.setCreatedAt(LocalDateTime.now());
+        return projectRepository.save(project);
+    }
+
+    private User saveUser(String name, User.Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+
+    private VirtualAccount saveAccount(User user) {
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(BigDecimal.ZERO);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return virtualAccountRepository.save(account);
+    }
+}
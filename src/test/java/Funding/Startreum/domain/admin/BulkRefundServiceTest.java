@@ -0,0 +1,182 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.dto.request.AccountPaymentRequest;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import Funding.Startreum.domain.virtualaccount.service.AccountPaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 청크 단위 일괄 환불을 H2(test 프로필) 위에서 검증합니다. (청크 크기 2, 후원 5건 → 청크 3개)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-refund;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "refund.chunk-size=2"
+})
+class BulkRefundServiceTest {
+
+    private static final int SPONSOR_COUNT = 5;
+    private static final BigDecimal INITIAL_BALANCE = BigDecimal.valueOf(10_000);
+    private static final BigDecimal PAYMENT_AMOUNT = BigDecimal.valueOf(1_000);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private BulkRefundService bulkRefundService;
+    @Autowired
+    private AccountPaymentService accountPaymentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private RefundCheckpointRepository refundCheckpointRepository;
+    @Autowired
+    private FundingFindRepository fundingFindRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+    private VirtualAccount beneficiaryAccount;
+    private final List<VirtualAccount> sponsorAccounts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "bulk" + SEQUENCE.incrementAndGet() + "-";
+        User beneficiary = saveUser(prefix + "beneficiary", User.Role.BENEFICIARY);
+        beneficiaryAccount = saveAccount(beneficiary, BigDecimal.ZERO);
+
+        project = new Project();
+        project.setCreator(beneficiary);
+        project.setTitle("Failed Project");
+        project.setFundingGoal(BigDecimal.valueOf(100_000_000));
+        project.setCurrentFunding(BigDecimal.ZERO);
+        project.setStartDate(LocalDateTime.now());
+        project.setEndDate(LocalDateTime.now().plusDays(30));
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(Project.ApprovalStatus.APPROVE);
+        project.setIsDeleted(false);
+        project.setCreatedAt(LocalDateTime.now());
+        projectRepository.save(project);
+
+        sponsorAccounts.clear();
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            User sponsor = saveUser(prefix + "sponsor" + i, User.Role.SPONSOR);
+            sponsorAccounts.add(saveAccount(sponsor, INITIAL_BALANCE));
+            accountPaymentService.paymentByUsername(
+                    new AccountPaymentRequest(project.getProjectId(), PAYMENT_AMOUNT), sponsor.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("후원 내역을 청크 단위로 모두 환불하고 체크포인트를 완료 상태로 남긴다")
+    void refundsAllFundingsInChunks() {
+        RefundProgressDto progress = bulkRefundService.refundAll(project.getProjectId());
+
+        assertEquals(0, progress.remainingCount());
+        RefundCheckpoint checkpoint = refundCheckpointRepository.findById(project.getProjectId()).orElseThrow();
+        assertEquals(RefundCheckpoint.Status.COMPLETED, checkpoint.getStatus());
+        assertEquals(SPONSOR_COUNT, checkpoint.getRefundedCount());
+        assertEquals(0, PAYMENT_AMOUNT.multiply(BigDecimal.valueOf(SPONSOR_COUNT)).compareTo(checkpoint.getRefundedAmount()));
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(beneficiaryAccount)));
+        sponsorAccounts.forEach(account -> assertEquals(0, INITIAL_BALANCE.compareTo(balanceOf(account))));
+        assertEquals(SPONSOR_COUNT, refundTransactionCount());
+    }
+
+    @Test
+    @DisplayName("수혜자 잔액이 부족하면 해당 청크만 롤백되고, 잔액을 채운 뒤 다시 실행하면 이어서 환불한다")
+    void rollsBackFailedChunkAndResumes() {
+        // 첫 청크(2건, 2000원)만 환불할 수 있는 잔액
+        setBalance(beneficiaryAccount, BigDecimal.valueOf(2_500));
+
+        assertThrows(IllegalStateException.class, () -> bulkRefundService.refundAll(project.getProjectId()));
+
+        RefundCheckpoint checkpoint = refundCheckpointRepository.findById(project.getProjectId()).orElseThrow();
+        assertEquals(2, checkpoint.getRefundedCount());
+        assertEquals(RefundCheckpoint.Status.RUNNING, checkpoint.getStatus());
+        assertEquals(SPONSOR_COUNT - 2, fundingFindRepository.countActiveFundingsByProjectId(project.getProjectId()));
+        assertEquals(2, refundTransactionCount());
+        assertEquals(0, BigDecimal.valueOf(500).compareTo(balanceOf(beneficiaryAccount)), "실패한 청크의 잔액 변경은 롤백되어야 합니다.");
+
+        setBalance(beneficiaryAccount, BigDecimal.valueOf(3_500));
+        RefundProgressDto progress = bulkRefundService.refundAll(project.getProjectId());
+
+        assertEquals(0, progress.remainingCount());
+        assertEquals(SPONSOR_COUNT, refundCheckpointRepository.findById(project.getProjectId()).orElseThrow().getRefundedCount());
+        assertEquals(SPONSOR_COUNT, refundTransactionCount());
+        sponsorAccounts.forEach(account -> assertEquals(0, INITIAL_BALANCE.compareTo(balanceOf(account))));
+    }
+
+    @Test
+    @DisplayName("이미 환불된 프로젝트를 다시 실행해도 중복 환불하지 않는다")
+    void rerunDoesNotRefundTwice() {
+        bulkRefundService.refundAll(project.getProjectId());
+        bulkRefundService.refundAll(project.getProjectId());
+
+        assertEquals(SPONSOR_COUNT, refundTransactionCount());
+        sponsorAccounts.forEach(account -> assertEquals(0, INITIAL_BALANCE.compareTo(balanceOf(account))));
+    }
+
+    private long refundTransactionCount() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transaction t JOIN funding f ON f.funding_id = t.funding_id " +
+                        "WHERE t.type = 'REFUND' AND f.project_id = ?", Long.class, project.getProjectId());
+        return count == null ? 0 : count;
+    }
+
+    private BigDecimal balanceOf(VirtualAccount account) {
+        return virtualAccountRepository.findById(account.getAccountId()).orElseThrow().getBalance();
+    }
+
+    private void setBalance(VirtualAccount account, BigDecimal balance) {
+        VirtualAccount reloaded = virtualAccountRepository.findById(account.getAccountId()).orElseThrow();
+        reloaded.setBalance(balance);
+        virtualAccountRepository.save(reloaded);
+    }
+
+    private User saveUser(String name, User.Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+
+    private VirtualAccount saveAccount(User user, BigDecimal balance) {
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(balance);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return virtualAccountRepository.save(account);
+    }
+}
@@ -0,0 +1,113 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자동 마감 쿼리의 승인 조건 검증 (H2, test 프로필)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-close;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "project.closer.cron=-" // 스케줄 실행 비활성화
+})
+class ProjectAdminRepositoryTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private ProjectAdminRepository projectAdminRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User creator;
+
+    @BeforeEach
+    void setUp() {
+        String name = "closer" + SEQUENCE.incrementAndGet();
+        creator = new User();
+        creator.setName(name);
+        creator.setEmail(name + "@test.com");
+        creator.setPassword("password");
+        creator.setRole(User.Role.BENEFICIARY);
+        creator.setCreatedAt(LocalDateTime.now());
+        creator.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(creator);
+    }
+
+    @Test
+    @DisplayName("승인되지 않았거나 삭제된 프로젝트는 종료일이 지나도 마감 대상이 아니다")
+    void findExpiredOngoingSkipsUnapprovedAndDeleted() {
+        LocalDateTime now = LocalDateTime.now();
+        Project approved = save(Project.ApprovalStatus.APPROVE, false, now.minusDays(1));
+        Project awaiting = save(Project.ApprovalStatus.AWAITING_APPROVAL, false, now.minusDays(1));
+        Project rejected = save(Project.ApprovalStatus.REJECTED, false, now.minusDays(1));
+        Project deleted = save(Project.ApprovalStatus.APPROVE, true, now.minusDays(1));
+
+        List<Integer> ids = projectAdminRepository.findExpiredOngoing(now, EPOCH, 0, PageRequest.of(0, 1_000)).stream()
+                .map(ExpiredProject::projectId)
+                .toList();
+
+        assertTrue(ids.contains(approved.getProjectId()));
+        assertFalse(ids.contains(awaiting.getProjectId()));
+        assertFalse(ids.contains(rejected.getProjectId()));
+        assertFalse(ids.contains(deleted.getProjectId()));
+    }
+
+    @Test
+    @DisplayName("승인되지 않은 프로젝트와 이미 마감된 프로젝트는 마감 UPDATE가 0건이다")
+    void closeIfOngoingRequiresApprovedOngoingProject() {
+        LocalDateTime now = LocalDateTime.now();
+        Project approved = save(Project.ApprovalStatus.APPROVE, false, now.minusDays(1));
+        Project awaiting = save(Project.ApprovalStatus.AWAITING_APPROVAL, false, now.minusDays(1));
+
+        assertEquals(0, close(awaiting, now));
+        assertEquals(1, close(approved, now));
+        assertEquals(0, close(approved, now), "이미 마감된 프로젝트는 다시 마감하지 않아야 합니다.");
+    }
+
+    private int close(Project project, LocalDateTime now) {
+        Integer updated = new TransactionTemplate(transactionManager).execute(status ->
+                projectAdminRepository.closeIfOngoing(project.getProjectId(), Project.Status.FAILED, now));
+        return updated == null ? 0 : updated;
+    }
+
+    private Project save(Project.ApprovalStatus approvalStatus, boolean deleted, LocalDateTime endDate) {
+        Project project = new Project();
+        project.setCreator(creator);
+        project.setTitle("Expired Project");
+        project.setFundingGoal(BigDecimal.valueOf(1_000));
+        project.setCurrentFunding(BigDecimal.ZERO);
+        project.setStartDate(endDate.minusDays(30));
+        project.setEndDate(endDate);
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(approvalStatus);
+        project.setIsDeleted(deleted);
+        project.setCreatedAt(LocalDateTime.now());
+        return projectAdminRepository.save(project);
+    }
+}
@@ -0,0 +1,108 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCloseServiceTest {
+
+    private static final LocalDateTime END = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private ProjectAdminRepository projectAdminRepository;
+    @Mock
+    private SettlementJobService settlementJobService;
+    @Mock
+    private ProjectFundingCounter projectFundingCounter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectCloseService projectCloseService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectCloseService = new ProjectCloseService(projectAdminRepository, settlementJobService, projectFundingCounter,
+                eventPublisher, transactionManager, meterRegistry, 2, 100);
+        lenient().when(projectFundingCounter.pending(anyInt())).thenReturn(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("마지막 행의 (endDate, projectId)부터 다음 페이지를 조회한다")
+    void pagesByKeyset() {
+        ExpiredProject first = expired(1, END, 100);
+        ExpiredProject second = expired(2, END, 0);
+        ExpiredProject third = expired(3, END.plusHours(1), 100);
+
+        when(projectAdminRepository.findExpiredOngoing(any(), eq(EPOCH), eq(0), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(projectAdminRepository.findExpiredOngoing(any(), eq(END), eq(2), any(Pageable.class)))
+                .thenReturn(List.of(third));
+        when(projectAdminRepository.closeIfOngoing(anyInt(), any(), any())).thenReturn(1);
+
+        projectCloseService.closeExpiredProjects();
+
+        verify(projectAdminRepository).closeIfOngoing(eq(1), eq(Project.Status.SUCCESS), any());
+        verify(projectAdminRepository).closeIfOngoing(eq(2), eq(Project.Status.FAILED), any());
+        verify(projectAdminRepository).closeIfOngoing(eq(3), eq(Project.Status.SUCCESS), any());
+        verify(settlementJobService).enqueue(2, Project.Status.FAILED);
+        // 마지막 페이지가 페이지 크기보다 작으면 더 조회하지 않음
+        verify(projectAdminRepository, times(2)).findExpiredOngoing(any(), any(), any(), any(Pageable.class));
+        assertEquals(2.0, meterRegistry.counter("project.closer.closed", "result", "success").count());
+        assertEquals(1.0, meterRegistry.counter("project.closer.closed", "result", "failed").count());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 상태를 바꿔 0건이 갱신되면 정산 작업을 등록하지 않는다")
+    void skipsProjectClosedConcurrently() {
+        when(projectAdminRepository.findExpiredOngoing(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(expired(1, END, 0)));
+        when(projectAdminRepository.closeIfOngoing(eq(1), any(), any())).thenReturn(0);
+
+        projectCloseService.closeExpiredProjects();
+
+        verifyNoInteractions(settlementJobService, eventPublisher);
+        assertEquals(0.0, meterRegistry.counter("project.closer.closed", "result", "failed").count());
+    }
+
+    @Test
+    @DisplayName("한 프로젝트 마감에 실패해도 나머지 프로젝트는 계속 처리한다")
+    void continuesAfterFailure() {
+        when(projectAdminRepository.findExpiredOngoing(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(expired(1, END, 0)));
+        when(projectAdminRepository.closeIfOngoing(eq(1), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        projectCloseService.closeExpiredProjects();
+
+        verifyNoInteractions(settlementJobService);
+    }
+
+    // 목표 금액 100, 현재 펀딩 금액 currentFunding
+    private ExpiredProject expired(int projectId, LocalDateTime endDate, long currentFunding) {
+        return new ExpiredProject(projectId, BigDecimal.valueOf(100), BigDecimal.valueOf(currentFunding), endDate);
+    }
+}
@@ -0,0 +1,84 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:settlement-job;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class SettlementJobServiceTest {
+
+    private static final AtomicInteger PROJECT_IDS = new AtomicInteger(1_000);
+
+    @MockitoBean
+    private SettlementWorker settlementWorker;
+
+    @Autowired
+    private SettlementJobService settlementJobService;
+    @Autowired
+    private SettlementJobRepository settlementJobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("같은 대상 상태의 작업이 끝나지 않았으면 기존 작업을 반환한다")
+    void deduplicatesSameTargetStatus() {
+        int projectId = PROJECT_IDS.incrementAndGet();
+
+        SettlementJob first = enqueue(projectId, Project.Status.SUCCESS);
+        SettlementJob second = enqueue(projectId, Project.Status.SUCCESS);
+
+        assertEquals(first.getJobId(), second.getJobId());
+        verify(settlementWorker, times(2)).submit(first.getJobId()); // 커밋 후 워커에 전달
+    }
+
+    @Test
+    @DisplayName("SUCCESS 작업이 끝나기 전에 FAILED로 바뀌면 환불 작업을 따로 등록한다")
+    void failedJobIsNotDroppedBehindSuccessJob() {
+        int projectId = PROJECT_IDS.incrementAndGet();
+
+        SettlementJob success = enqueue(projectId, Project.Status.SUCCESS);
+        SettlementJob failed = enqueue(projectId, Project.Status.FAILED);
+
+        assertNotEquals(success.getJobId(), failed.getJobId());
+        SettlementJob saved = settlementJobRepository.findById(failed.getJobId()).orElseThrow();
+        assertEquals(Project.Status.FAILED, saved.getTargetStatus());
+        assertEquals(SettlementJob.Status.PENDING, saved.getStatus());
+    }
+
+    @Test
+    @DisplayName("이전 작업이 끝났으면 같은 대상 상태라도 새 작업을 등록한다")
+    void enqueuesAgainAfterCompletion() {
+        int projectId = PROJECT_IDS.incrementAndGet();
+
+        SettlementJob first = enqueue(projectId, Project.Status.FAILED);
+        SettlementJob completed = settlementJobRepository.findById(first.getJobId()).orElseThrow();
+        completed.setStatus(SettlementJob.Status.COMPLETED);
+        settlementJobRepository.save(completed);
+
+        assertNotEquals(first.getJobId(), enqueue(projectId, Project.Status.FAILED).getJobId());
+    }
+
+    private SettlementJob enqueue(int projectId, Project.Status targetStatus) {
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> settlementJobService.enqueue(projectId, targetStatus));
+    }
+}
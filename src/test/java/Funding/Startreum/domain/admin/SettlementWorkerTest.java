@@ -0,0 +1,157 @@
+package Funding.Startreum.domain.admin;
+
+import Funding.Startreum.domain.project.entity.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 정산 워커의 선점, 오래된 작업 재선점, 선점 토큰(heartbeat) 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:settlement-worker;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "settlement.worker.poll-interval-ms=3600000", // 주기적 조회가 테스트 작업을 가져가지 않도록
+        "settlement.worker.stale-after-seconds=600"
+})
+class SettlementWorkerTest {
+
+    private static final AtomicInteger PROJECT_IDS = new AtomicInteger(2_000);
+
+    @MockitoBean
+    private BulkRefundService bulkRefundService;
+
+    @Autowired
+    private SettlementWorker settlementWorker;
+    @Autowired
+    private SettlementJobRepository settlementJobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("대기 중인 작업을 선점해 끝까지 실행한다")
+    void claimsPendingJob() {
+        SettlementJob job = save(new SettlementJob(PROJECT_IDS.incrementAndGet(), Project.Status.SUCCESS));
+
+        settlementWorker.run(job.getJobId());
+
+        SettlementJob done = reload(job);
+        assertEquals(SettlementJob.Status.COMPLETED, done.getStatus());
+        assertEquals(SettlementJob.Step.DONE, done.getStep());
+        assertEquals(1, done.getAttempts());
+    }
+
+    @Test
+    @DisplayName("heartbeat가 최근인 실행 중 작업은 다른 워커가 선점하지 않는다")
+    void doesNotClaimLiveJob() {
+        SettlementJob job = running(LocalDateTime.now(), 1);
+
+        settlementWorker.run(job.getJobId());
+
+        SettlementJob unchanged = reload(job);
+        assertEquals(SettlementJob.Status.RUNNING, unchanged.getStatus());
+        assertEquals(1, unchanged.getAttempts());
+    }
+
+    @Test
+    @DisplayName("heartbeat가 오래된 실행 중 작업은 다시 선점해 남은 단계부터 실행한다")
+    void reclaimsStaleJob() {
+        SettlementJob job = running(LocalDateTime.now().minusHours(1), 1);
+
+        settlementWorker.run(job.getJobId());
+
+        SettlementJob done = reload(job);
+        assertEquals(SettlementJob.Status.COMPLETED, done.getStatus());
+        assertEquals(2, done.getAttempts());
+    }
+
+    @Test
+    @DisplayName("환불 단계는 청크마다 heartbeat를 갱신한다")
+    void renewsHeartbeatDuringRefund() {
+        SettlementJob job = save(new SettlementJob(PROJECT_IDS.incrementAndGet(), Project.Status.FAILED));
+        LocalDateTime[] heartbeats = new LocalDateTime[2];
+        when(bulkRefundService.refundAll(eq(job.getProjectId()), any())).thenAnswer(invocation -> {
+            heartbeats[0] = reload(job).getHeartbeatAt();
+            Thread.sleep(20);
+            invocation.<Runnable>getArgument(1).run(); // 청크 하나 커밋
+            heartbeats[1] = reload(job).getHeartbeatAt();
+            return null;
+        });
+
+        settlementWorker.run(job.getJobId());
+
+        assertTrue(heartbeats[1].isAfter(heartbeats[0]));
+        assertEquals(SettlementJob.Status.COMPLETED, reload(job).getStatus());
+    }
+
+    @Test
+    @DisplayName("다른 워커가 다시 선점하면 기존 워커는 상태를 기록하지 않고 중단한다")
+    void stopsWhenLeaseIsLost() {
+        SettlementJob job = save(new SettlementJob(PROJECT_IDS.incrementAndGet(), Project.Status.FAILED));
+        when(bulkRefundService.refundAll(eq(job.getProjectId()), any())).thenAnswer(invocation -> {
+            // 다른 워커가 오래된 작업으로 보고 다시 선점한 상황
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    settlementJobRepository.claim(job.getJobId(), LocalDateTime.now(), LocalDateTime.now().plusSeconds(1)));
+            invocation.<Runnable>getArgument(1).run();
+            fail("선점을 잃은 워커는 다음 청크로 진행하지 않아야 합니다.");
+            return null;
+        });
+
+        settlementWorker.run(job.getJobId());
+
+        SettlementJob current = reload(job);
+        assertEquals(SettlementJob.Status.RUNNING, current.getStatus()); // 새 워커의 선점 유지
+        assertEquals(SettlementJob.Step.REFUND, current.getStep());
+        assertEquals(2, current.getAttempts());
+        assertNull(current.getLastError());
+    }
+
+    @Test
+    @DisplayName("선점 토큰(attempts)이 다르면 heartbeat를 갱신하지 않는다")
+    void renewHeartbeatRequiresCurrentAttempt() {
+        SettlementJob job = running(LocalDateTime.now().minusMinutes(1), 3);
+
+        int stale = new TransactionTemplate(transactionManager).execute(status ->
+                settlementJobRepository.renewHeartbeat(job.getJobId(), 2, LocalDateTime.now()));
+        int current = new TransactionTemplate(transactionManager).execute(status ->
+                settlementJobRepository.renewHeartbeat(job.getJobId(), 3, LocalDateTime.now()));
+
+        assertEquals(0, stale);
+        assertEquals(1, current);
+        verify(bulkRefundService, never()).refundAll(anyInt(), any());
+    }
+
+    private SettlementJob running(LocalDateTime heartbeatAt, int attempts) {
+        SettlementJob job = new SettlementJob(PROJECT_IDS.incrementAndGet(), Project.Status.SUCCESS);
+        job.setStatus(SettlementJob.Status.RUNNING);
+        job.setHeartbeatAt(heartbeatAt);
+        job.setAttempts(attempts);
+        return save(job);
+    }
+
+    private SettlementJob save(SettlementJob job) {
+        return settlementJobRepository.save(job);
+    }
+
+    private SettlementJob reload(SettlementJob job) {
+        return settlementJobRepository.findById(job.getJobId()).orElseThrow();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,7 +52,7 @@ class FundingAttendTest {
     void testSuccessfulFundingAttendResponse() {
         LocalDateTime now = LocalDateTime.now();
         FudingAttendResponse.FudingAttend fudingAttend = new FudingAttendResponse.FudingAttend(
-                1, 2, "Test Project", 100.0, 3, now);
+                1, 2, "Test Project", BigDecimal.valueOf(100), 3, now);
         FudingAttendResponse.Data data = new FudingAttendResponse.Data(fudingAttend);
 
         FudingAttendResponse response = FudingAttendResponse.success(data);
@@ -65,7 +66,7 @@ class FundingAttendTest {
         assertEquals(1, response.data().FudingAttend().fundingId());
         assertEquals(2, response.data().FudingAttend().projectId());
         assertEquals("Test Project", response.data().FudingAttend().projectTitle());
-        assertEquals(100.0, response.data().FudingAttend().amount());
+        assertEquals(BigDecimal.valueOf(100), response.data().FudingAttend().amount());
         assertEquals(3, response.data().FudingAttend().rewardId());
         assertEquals(now, response.data().FudingAttend().fundedAt());
     }
@@ -17,6 +17,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -60,7 +61,7 @@ public class SponsorControllerTest {
                 1,
                 "testProject",
                 1,
-                10000.0,
+                BigDecimal.valueOf(10_000),
                 LocalDateTime.now()
         );
         var pagination = new SponListResponse.Pagination(1, 1, 5);
@@ -76,7 +77,7 @@ public class SponsorControllerTest {
         result.andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.data.fundings[0].projectTitle").value("testProject"))
-                .andExpect(jsonPath("$.data.fundings[0].amount").value(10000.0))
+                .andExpect(jsonPath("$.data.fundings[0].amount").value(10000))
                 .andExpect(jsonPath("$.data.pagination.total").value(1));
     }
 }
@@ -0,0 +1,136 @@
+package Funding.Startreum.domain.ledger.service;
+
+import Funding.Startreum.domain.ledger.dto.LedgerDrift;
+import Funding.Startreum.domain.ledger.dto.ReconciliationReport;
+import Funding.Startreum.domain.ledger.entity.LedgerEntry;
+import Funding.Startreum.domain.ledger.repository.LedgerEntryRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.dto.request.AccountRequest;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import Funding.Startreum.domain.virtualaccount.service.AccountChargeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 원장 기록, 스냅샷 + 이후 항목 잔액 계산, 대사 작업을 H2(test 프로필) 위에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ledger;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "ledger.reconciliation.batch-size=2" // 여러 묶음으로 나누어 대사
+})
+class LedgerReconciliationServiceTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+    @Autowired
+    private LedgerSnapshotService ledgerSnapshotService;
+    @Autowired
+    private LedgerReconciliationService ledgerReconciliationService;
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+    @Autowired
+    private AccountChargeService accountChargeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+
+    @Test
+    @DisplayName("충전은 외부 계좌 차변/계좌 대변으로 기록되고, 스냅샷 이후에도 잔액이 계좌와 일치한다")
+    void snapshotPlusTailMatchesAccountBalance() {
+        VirtualAccount first = saveAccount(BigDecimal.ZERO);
+        VirtualAccount second = saveAccount(BigDecimal.ZERO);
+
+        accountChargeService.chargeByAccountId(first.getAccountId(), new AccountRequest(BigDecimal.valueOf(1_000)));
+        accountChargeService.chargeByAccountId(second.getAccountId(), new AccountRequest(BigDecimal.valueOf(300)));
+
+        assertEquals(0, BigDecimal.valueOf(1_000).compareTo(ledgerService.balanceOf(first.getAccountId())));
+
+        // 현재까지의 항목으로 스냅샷 작성 후 추가 충전
+        Long lastEntryId = ledgerEntryRepository.findAll().stream()
+                .map(LedgerEntry::getEntryId).max(Comparator.naturalOrder()).orElseThrow();
+        assertTrue(ledgerSnapshotService.takeSnapshots(lastEntryId, LocalDateTime.now()) > 0);
+        accountChargeService.chargeByAccountId(first.getAccountId(), new AccountRequest(BigDecimal.valueOf(500)));
+
+        assertEquals(0, BigDecimal.valueOf(1_500).compareTo(ledgerService.balanceOf(first.getAccountId())));
+        assertEquals(0, BigDecimal.valueOf(300).compareTo(ledgerService.balanceOf(second.getAccountId())));
+
+        ReconciliationReport report = ledgerReconciliationService.reconcile();
+        assertTrue(report.checkedAccounts() >= 2);
+        assertTrue(driftAccountIds(report).stream()
+                .noneMatch(id -> id.equals(first.getAccountId()) || id.equals(second.getAccountId())));
+    }
+
+    @Test
+    @DisplayName("원장 없이 바뀐 잔액은 대사에서 불일치로 보고된다")
+    void reportsDrift() {
+        VirtualAccount account = saveAccount(BigDecimal.ZERO);
+        accountChargeService.chargeByAccountId(account.getAccountId(), new AccountRequest(BigDecimal.valueOf(1_000)));
+
+        // 원장을 거치지 않은 잔액 변경
+        VirtualAccount corrupted = virtualAccountRepository.findById(account.getAccountId()).orElseThrow();
+        corrupted.setBalance(BigDecimal.valueOf(1_200));
+        virtualAccountRepository.save(corrupted);
+
+        ReconciliationReport report = ledgerReconciliationService.reconcile();
+
+        LedgerDrift drift = report.drifts().stream()
+                .filter(d -> d.accountId().equals(account.getAccountId()))
+                .findFirst().orElseThrow();
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(drift.difference()));
+    }
+
+    @Test
+    @DisplayName("원장 도입 이전 잔액은 기초 잔액으로 이관된다")
+    void backfillsOpeningBalance() {
+        VirtualAccount account = saveAccount(BigDecimal.valueOf(7_000));
+        assertEquals(0, BigDecimal.ZERO.compareTo(ledgerService.balanceOf(account.getAccountId())));
+
+        ledgerSnapshotService.backfillOpeningBalances();
+        ledgerSnapshotService.backfillOpeningBalances(); // 두 번 실행해도 한 번만 기록
+
+        assertEquals(0, BigDecimal.valueOf(7_000).compareTo(ledgerService.balanceOf(account.getAccountId())));
+    }
+
+    private List<Integer> driftAccountIds(ReconciliationReport report) {
+        return report.drifts().stream().map(LedgerDrift::accountId).toList();
+    }
+
+    private VirtualAccount saveAccount(BigDecimal balance) {
+        String name = "ledger-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(User.Role.SPONSOR);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(balance);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return virtualAccountRepository.save(account);
+    }
+}
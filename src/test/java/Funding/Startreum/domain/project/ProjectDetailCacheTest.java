@@ -0,0 +1,123 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.ProjectChangedEvent;
+import Funding.Startreum.domain.project.entity.ProjectFundingFlushEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectDetailCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProjectDetailCache(2, 60_000, meterRegistry);
+        loads.set(0);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환되고 적중/실패 지표가 기록된다")
+    void hitAndMiss() {
+        cache.get(1, () -> load(1, "1000"));
+        cache.get(1, () -> load(1, "1000"));
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.counter("project.detail.cache", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("project.detail.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거된다")
+    void evictsLeastRecentlyUsed() {
+        cache.get(1, () -> load(1, "0"));
+        cache.get(2, () -> load(2, "0"));
+        cache.get(1, () -> load(1, "0")); // 1 사용
+        cache.get(3, () -> load(3, "0")); // 2 제거
+
+        assertEquals(2, cache.size());
+        cache.get(2, () -> load(2, "0"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("프로젝트 변경 이벤트는 항목을 제거한다")
+    void evictOnProjectChanged() {
+        cache.get(1, () -> load(1, "1000"));
+        cache.onProjectChanged(new ProjectChangedEvent(1));
+        cache.get(1, () -> load(1, "1000"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("반영 이전에 조회된 항목은 펀딩 금액만 갱신된다")
+    void patchFundingOnFlush() {
+        cache.get(1, () -> load(1, "1000"));
+
+        flush(1, "500");
+
+        ProjectDetailDto detail = cache.get(1, () -> load(1, "9999"));
+        assertEquals(1, loads.get());
+        assertEquals(0, new BigDecimal("1500").compareTo(detail.currentFunding()));
+    }
+
+    @Test
+    @DisplayName("반영 도중 조회된 값은 증감분 포함 여부를 알 수 없으므로 제거된다")
+    void dropEntryLoadedDuringFlush() {
+        cache.onFundingFlush(new ProjectFundingFlushEvent(1, new BigDecimal("500"), ProjectFundingFlushEvent.Phase.BEFORE_UPDATE));
+        cache.get(1, () -> load(1, "1500")); // 이미 커밋된 값을 읽음
+        cache.onFundingFlush(new ProjectFundingFlushEvent(1, new BigDecimal("500"), ProjectFundingFlushEvent.Phase.COMMITTED));
+
+        ProjectDetailDto detail = cache.get(1, () -> load(1, "1500"));
+        assertEquals(2, loads.get());
+        assertEquals(0, new BigDecimal("1500").compareTo(detail.currentFunding()));
+    }
+
+    @Test
+    @DisplayName("반영이 실패하거나 0건이면 반영 직전 버전을 정리하고 캐시된 값은 유지한다")
+    void clearFlushVersionOnAbort() {
+        cache.get(1, () -> load(1, "1000"));
+
+        cache.onFundingFlush(new ProjectFundingFlushEvent(1, new BigDecimal("500"), ProjectFundingFlushEvent.Phase.BEFORE_UPDATE));
+        assertEquals(1, cache.pendingFlushes());
+        cache.onFundingFlush(new ProjectFundingFlushEvent(1, new BigDecimal("500"), ProjectFundingFlushEvent.Phase.ABORTED));
+
+        assertEquals(0, cache.pendingFlushes());
+        ProjectDetailDto detail = cache.get(1, () -> load(1, "9999"));
+        assertEquals(1, loads.get());
+        assertEquals(0, new BigDecimal("1000").compareTo(detail.currentFunding()));
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회한 값을 저장하지 않는다")
+    void discardLoadRacingWithInvalidation() {
+        cache.get(1, () -> {
+            cache.evict(1);
+            return load(1, "1000");
+        });
+        cache.get(1, () -> load(1, "1000"));
+
+        assertEquals(2, loads.get());
+    }
+
+    private void flush(int projectId, String delta) {
+        cache.onFundingFlush(new ProjectFundingFlushEvent(projectId, new BigDecimal(delta), ProjectFundingFlushEvent.Phase.BEFORE_UPDATE));
+        cache.onFundingFlush(new ProjectFundingFlushEvent(projectId, new BigDecimal(delta), ProjectFundingFlushEvent.Phase.COMMITTED));
+    }
+
+    private ProjectDetailDto load(int projectId, String currentFunding) {
+        loads.incrementAndGet();
+        return new ProjectDetailDto(projectId, "title", null, "description", new BigDecimal("10000"),
+                new BigDecimal(currentFunding), "진행중", "2025-01-01", "2025-02-01", "creator", "simple");
+    }
+}
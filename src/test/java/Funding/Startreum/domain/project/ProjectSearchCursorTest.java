@@ -0,0 +1,74 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectSearchCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 토큰은 같은 정렬 기준으로 복원된다")
+    void encodeAndDecode() {
+        ProjectSearchRow row = row(42, LocalDateTime.of(2025, 3, 1, 12, 30, 15), LocalDateTime.of(2025, 4, 1, 0, 0),
+                new BigDecimal("150000.00"));
+
+        ProjectSearchCursor newest = ProjectSearchCursor.decode(
+                ProjectSearchCursor.of(ProjectSearchSort.NEWEST, row).encode(), ProjectSearchSort.NEWEST);
+        assertEquals(row.createdAt(), newest.sortKey());
+        assertEquals(42, newest.projectId());
+
+        ProjectSearchCursor funded = ProjectSearchCursor.decode(
+                ProjectSearchCursor.of(ProjectSearchSort.MOST_FUNDED, row).encode(), ProjectSearchSort.MOST_FUNDED);
+        assertEquals(0, new BigDecimal("150000").compareTo((BigDecimal) funded.sortKey()));
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다르거나 손상된 토큰은 거부한다")
+    void rejectInvalidToken() {
+        ProjectSearchRow row = row(1, LocalDateTime.now(), LocalDateTime.now(), null);
+        String token = ProjectSearchCursor.of(ProjectSearchSort.ENDING_SOON, row).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> ProjectSearchCursor.decode(token, ProjectSearchSort.NEWEST));
+        assertThrows(IllegalArgumentException.class, () -> ProjectSearchCursor.decode("not-a-cursor", ProjectSearchSort.NEWEST));
+    }
+
+    @Test
+    @DisplayName("null 정렬 키는 빈 값으로 인코딩되고 다시 null로 복원된다")
+    void encodeNullSortKey() {
+        ProjectSearchRow row = row(7, null, null, null);
+
+        ProjectSearchCursor newest = ProjectSearchCursor.decode(
+                ProjectSearchCursor.of(ProjectSearchSort.NEWEST, row).encode(), ProjectSearchSort.NEWEST);
+        assertNull(newest.sortKey());
+        assertEquals(7, newest.projectId());
+
+        ProjectSearchCursor endingSoon = ProjectSearchCursor.decode(
+                ProjectSearchCursor.of(ProjectSearchSort.ENDING_SOON, row).encode(), ProjectSearchSort.ENDING_SOON);
+        assertNull(endingSoon.sortKey());
+
+        // 펀딩 금액은 0으로 취급
+        ProjectSearchCursor funded = ProjectSearchCursor.of(ProjectSearchSort.MOST_FUNDED, row);
+        assertEquals(BigDecimal.ZERO, funded.sortKey());
+    }
+
+    @Test
+    @DisplayName("null 정렬 키는 가장 작은 값으로 정렬된다")
+    void nullSortKeyOrder() {
+        ProjectSearchCursor nullKey = new ProjectSearchCursor(ProjectSearchSort.NEWEST, null, 5);
+        ProjectSearchCursor dated = new ProjectSearchCursor(ProjectSearchSort.NEWEST, LocalDateTime.of(2025, 1, 1, 0, 0), 1);
+
+        // 내림차순(최신 등록순)에서는 맨 뒤, 오름차순(마감 임박순)에서는 맨 앞
+        assertTrue(ProjectSearchCursor.order(ProjectSearchSort.NEWEST).compare(dated, nullKey) < 0);
+        assertTrue(ProjectSearchCursor.order(ProjectSearchSort.ENDING_SOON).compare(nullKey, dated) < 0);
+    }
+
+    private ProjectSearchRow row(int projectId, LocalDateTime createdAt, LocalDateTime endDate, BigDecimal currentFunding) {
+        return new ProjectSearchRow(projectId, "title", null, null, null, BigDecimal.TEN, currentFunding,
+                createdAt, endDate, Project.Status.ONGOING, createdAt);
+    }
+}
@@ -0,0 +1,162 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.entity.ProjectChangedEvent;
+import Funding.Startreum.domain.project.entity.ProjectFundingFlushEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private ProjectSearchRepository projectSearchRepository;
+
+    @InjectMocks
+    private ProjectSearchIndex projectSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(projectSearchRepository.findIndexSources(eq(0), any())).thenReturn(List.of(
+                source(1, "스마트 워치 프로젝트", "건강을 위한 스마트 워치", Project.Status.ONGOING),
+                source(2, "친환경 텀블러", "스마트폰과 트워킹 워치", Project.Status.ONGOING),
+                source(3, "캠핑 의자", "스마트워치 거치대가 달린 의자", Project.Status.SUCCESS)
+        ));
+        projectSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("색인 구축 전에는 empty를 반환한다")
+    void searchBeforeRebuild() {
+        ProjectSearchIndex emptyIndex = new ProjectSearchIndex(projectSearchRepository);
+        assertTrue(emptyIndex.search("워치", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("LIKE 검색과 같이 공백을 넘는 구문은 일치하지 않는다")
+    void phraseDoesNotCrossWhitespace() {
+        ProjectSearchIndex.SearchResult result = projectSearchIndex.search("스마트워치", null, 0, 10).orElseThrow();
+
+        // 1번은 "스마트 워치"(공백 포함), 2번은 '스마트', '워치' n-gram만 가지므로 제외
+        assertEquals(List.of(3), result.projectIds());
+        assertEquals(1, result.totalHits());
+    }
+
+    @Test
+    @DisplayName("공백이 포함된 검색어는 원문에 같은 단어 경계가 있어야 일치한다")
+    void phraseWithWhitespace() {
+        assertEquals(List.of(1), projectSearchIndex.search("스마트 워치", null, 0, 10).orElseThrow().projectIds());
+        assertEquals(List.of(1), projectSearchIndex.search("워치  프로젝트", null, 0, 10).orElseThrow().projectIds());
+    }
+
+    @Test
+    @DisplayName("제목 일치가 설명 일치보다 먼저 정렬된다")
+    void titleMatchRanksFirst() {
+        ProjectSearchIndex.SearchResult result = projectSearchIndex.search("스마트", null, 0, 10).orElseThrow();
+
+        assertEquals(3, result.totalHits());
+        assertEquals(1, result.projectIds().get(0));
+    }
+
+    @Test
+    @DisplayName("상태 필터와 페이지를 적용한다")
+    void statusFilterAndPaging() {
+        assertEquals(List.of(3), projectSearchIndex.search("의자", Project.Status.SUCCESS, 0, 10).orElseThrow().projectIds());
+        assertEquals(List.of(), projectSearchIndex.search("의자", Project.Status.ONGOING, 0, 10).orElseThrow().projectIds());
+
+        ProjectSearchIndex.SearchResult secondPage = projectSearchIndex.search("워치", null, 1, 2).orElseThrow();
+        assertEquals(1, secondPage.projectIds().size());
+        assertEquals(3, secondPage.totalHits());
+    }
+
+    @Test
+    @DisplayName("프로젝트 변경 이벤트로 색인이 갱신되고, 승인 취소 시 제거된다")
+    void reindexOnChange() {
+        when(projectSearchRepository.findIndexSource(2))
+                .thenReturn(Optional.of(source(2, "친환경 텀블러 시즌2", "보온 보냉", Project.Status.ONGOING)));
+        projectSearchIndex.onProjectChanged(new ProjectChangedEvent(2));
+
+        assertEquals(List.of(2), projectSearchIndex.search("시즌2", null, 0, 10).orElseThrow().projectIds());
+        assertFalse(projectSearchIndex.search("트워킹", null, 0, 10).orElseThrow().projectIds().contains(2));
+
+        when(projectSearchRepository.findIndexSource(2)).thenReturn(Optional.empty());
+        projectSearchIndex.onProjectChanged(new ProjectChangedEvent(2));
+
+        assertEquals(0, projectSearchIndex.search("텀블러", null, 0, 10).orElseThrow().totalHits());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 색인 안에서 키셋 순서로 한 페이지만 반환한다")
+    void pageByKeyset() {
+        // "워치"는 1, 2, 3번 모두 일치, 최신 등록순은 3 -> 2 -> 1
+        List<ProjectSearchCursor> first = projectSearchIndex.page("워치", null, ProjectSearchSort.NEWEST, null, 2).orElseThrow();
+        assertEquals(List.of(3, 2), first.stream().map(ProjectSearchCursor::projectId).toList());
+
+        List<ProjectSearchCursor> second = projectSearchIndex.page("워치", null, ProjectSearchSort.NEWEST, first.get(1), 2).orElseThrow();
+        assertEquals(List.of(1), second.stream().map(ProjectSearchCursor::projectId).toList());
+
+        // 마감 임박순은 종료일 오름차순 (3 -> 2 -> 1), 상태 필터 적용
+        List<ProjectSearchCursor> ongoing = projectSearchIndex.page("워치", Project.Status.ONGOING, ProjectSearchSort.ENDING_SOON, null, 10).orElseThrow();
+        assertEquals(List.of(2, 1), ongoing.stream().map(ProjectSearchCursor::projectId).toList());
+    }
+
+    @Test
+    @DisplayName("정렬 키가 null인 프로젝트도 빠지거나 중복되지 않고 페이지를 넘긴다")
+    void pageWithNullSortKeys() {
+        when(projectSearchRepository.findIndexSource(2)).thenReturn(Optional.of(new ProjectIndexSource(
+                2, "친환경 텀블러", "스마트폰과 트워킹 워치", Project.Status.ONGOING, Project.ApprovalStatus.APPROVE,
+                null, null, null)));
+        projectSearchIndex.onProjectChanged(new ProjectChangedEvent(2));
+
+        for (ProjectSearchSort sort : ProjectSearchSort.values()) {
+            List<Integer> seen = new ArrayList<>();
+            ProjectSearchCursor after = null;
+            List<ProjectSearchCursor> page;
+            do {
+                page = projectSearchIndex.page("워치", null, sort, after, 1).orElseThrow();
+                page.forEach(position -> seen.add(position.projectId()));
+                after = page.isEmpty() ? null : ProjectSearchCursor.decode(page.get(0).encode(), sort);
+            } while (!page.isEmpty());
+
+            assertEquals(3, seen.size(), sort.param());
+            assertEquals(3, seen.stream().distinct().count(), sort.param());
+        }
+        // null 생성일은 가장 작은 값이므로 최신 등록순의 마지막
+        assertEquals(2, projectSearchIndex.page("워치", null, ProjectSearchSort.NEWEST, null, 3).orElseThrow().get(2).projectId());
+    }
+
+    @Test
+    @DisplayName("펀딩 증감분 반영이 커밋되면 DB 값으로 펀딩 금액순 정렬 키를 갱신한다")
+    void refreshFundingOnFlush() {
+        when(projectSearchRepository.findCurrentFunding(1)).thenReturn(Optional.of(BigDecimal.valueOf(10_000)));
+
+        projectSearchIndex.onFundingFlush(new ProjectFundingFlushEvent(1, BigDecimal.valueOf(9_000), ProjectFundingFlushEvent.Phase.BEFORE_UPDATE));
+        assertEquals(3, projectSearchIndex.page("워치", null, ProjectSearchSort.MOST_FUNDED, null, 1).orElseThrow().get(0).projectId());
+
+        projectSearchIndex.onFundingFlush(new ProjectFundingFlushEvent(1, BigDecimal.valueOf(9_000), ProjectFundingFlushEvent.Phase.COMMITTED));
+        assertEquals(1, projectSearchIndex.page("워치", null, ProjectSearchSort.MOST_FUNDED, null, 1).orElseThrow().get(0).projectId());
+    }
+
+    private ProjectIndexSource source(int projectId, String title, String description, Project.Status status) {
+        return new ProjectIndexSource(projectId, title, description, status, Project.ApprovalStatus.APPROVE,
+                BASE.plusDays(projectId), BASE.plusDays(30 - projectId), BigDecimal.valueOf(projectId * 1_000L));
+    }
+}
@@ -0,0 +1,122 @@
+package Funding.Startreum.domain.project;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 커서(키셋) 조회 SQL의 null 정렬 키 처리 검증 (H2, test 프로필)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-search-query;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class ProjectSearchQueryRepositoryTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private ProjectSearchQueryRepository projectSearchQueryRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private String keyword;
+    private final List<Integer> nullKeyIds = new ArrayList<>();
+    private final List<Integer> datedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        keyword = "keyset" + SEQUENCE.incrementAndGet();
+
+        User creator = new User();
+        creator.setName(keyword + "creator");
+        creator.setEmail(keyword + "@test.com");
+        creator.setPassword("password");
+        creator.setRole(User.Role.BENEFICIARY);
+        creator.setCreatedAt(LocalDateTime.now());
+        creator.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(creator);
+
+        nullKeyIds.clear();
+        datedIds.clear();
+        for (int i = 0; i < 3; i++) {
+            datedIds.add(save(creator, BASE.plusDays(i), BigDecimal.valueOf(1_000L * i)).getProjectId());
+            nullKeyIds.add(save(creator, null, null).getProjectId());
+        }
+    }
+
+    @Test
+    @DisplayName("정렬 키가 null인 프로젝트를 포함해도 모든 정렬에서 빠짐없이 한 번씩 조회된다")
+    void pagesThroughNullSortKeys() {
+        for (ProjectSearchSort sort : ProjectSearchSort.values()) {
+            List<Integer> seen = pageThrough(sort);
+
+            assertEquals(6, seen.size(), sort.param());
+            assertEquals(6, seen.stream().distinct().count(), sort.param());
+        }
+    }
+
+    @Test
+    @DisplayName("null 정렬 키는 가장 작은 값으로 취급한다 (오름차순이면 맨 앞, 내림차순이면 맨 뒤)")
+    void nullSortKeysAreSmallest() {
+        List<Integer> endingSoon = pageThrough(ProjectSearchSort.ENDING_SOON);
+        assertEquals(List.copyOf(nullKeyIds), endingSoon.subList(0, 3));
+        assertEquals(List.copyOf(datedIds), endingSoon.subList(3, 6));
+
+        List<Integer> newest = pageThrough(ProjectSearchSort.NEWEST);
+        assertEquals(List.of(datedIds.get(2), datedIds.get(1), datedIds.get(0)), newest.subList(0, 3));
+        assertEquals(List.of(nullKeyIds.get(2), nullKeyIds.get(1), nullKeyIds.get(0)), newest.subList(3, 6));
+    }
+
+    // 한 건씩 커서를 인코딩/디코딩하며 끝까지 조회
+    private List<Integer> pageThrough(ProjectSearchSort sort) {
+        List<Integer> seen = new ArrayList<>();
+        ProjectSearchCursor after = null;
+        List<ProjectSearchRow> page;
+        do {
+            page = projectSearchQueryRepository.findPage(sort, after, null, keyword, 1, false);
+            page.forEach(row -> seen.add(row.projectId()));
+            if (!page.isEmpty()) {
+                after = ProjectSearchCursor.decode(ProjectSearchCursor.of(sort, page.get(0)).encode(), sort);
+            }
+        } while (!page.isEmpty() && seen.size() <= 6);
+        return seen;
+    }
+
+    private Project save(User creator, LocalDateTime date, BigDecimal currentFunding) {
+        Project project = new Project();
+        project.setCreator(creator);
+        project.setTitle(keyword + " project");
+        project.setFundingGoal(BigDecimal.valueOf(10_000));
+        project.setCurrentFunding(currentFunding);
+        project.setStartDate(date);
+        project.setEndDate(date);
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(Project.ApprovalStatus.APPROVE);
+        project.setIsDeleted(false);
+        project.setCreatedAt(date);
+        return projectRepository.save(project);
+    }
+}
@@ -0,0 +1,103 @@
+package Funding.Startreum.domain.project.service;
+
+import Funding.Startreum.domain.project.entity.ProjectFundingFlushEvent;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProjectFundingCounterTest {
+
+    private static final Integer PROJECT_ID = 1;
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final FakeTransactionManager transactionManager = new FakeTransactionManager();
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ProjectFundingCounter counter =
+            new ProjectFundingCounter(projectRepository, transactionManager, eventPublisher);
+
+    @Test
+    @DisplayName("반영 UPDATE가 커밋되기 전까지는 증감분을 차감하지 않는다")
+    void subtractsOnlyAfterCommit() {
+        counter.add(PROJECT_ID, BigDecimal.valueOf(1_000));
+
+        AtomicReference<BigDecimal> pendingDuringUpdate = new AtomicReference<>();
+        when(projectRepository.addCurrentFunding(eq(PROJECT_ID), any())).thenAnswer(invocation -> {
+            pendingDuringUpdate.set(counter.pending(PROJECT_ID));
+            return 1;
+        });
+
+        counter.flush();
+
+        assertEquals(BigDecimal.valueOf(1_000), pendingDuringUpdate.get());
+        assertEquals(BigDecimal.ZERO, counter.pending(PROJECT_ID));
+    }
+
+    @Test
+    @DisplayName("커밋에 실패하면 증감분이 그대로 남아 다음 주기에 다시 반영된다")
+    void keepsDeltaWhenCommitFails() {
+        counter.add(PROJECT_ID, BigDecimal.valueOf(500));
+        when(projectRepository.addCurrentFunding(eq(PROJECT_ID), any())).thenReturn(1);
+
+        transactionManager.failCommit = true;
+        counter.flush();
+        assertEquals(BigDecimal.valueOf(500), counter.pending(PROJECT_ID));
+
+        transactionManager.failCommit = false;
+        counter.flush();
+        assertEquals(BigDecimal.ZERO, counter.pending(PROJECT_ID));
+        verify(projectRepository, times(2)).addCurrentFunding(PROJECT_ID, BigDecimal.valueOf(500));
+    }
+
+    @Test
+    @DisplayName("반영이 실패하거나 갱신된 행이 없으면 COMMITTED 대신 ABORTED 이벤트를 발행한다")
+    void publishesAbortedWhenFlushDoesNotCommit() {
+        counter.add(PROJECT_ID, BigDecimal.valueOf(500));
+        counter.add(2, BigDecimal.valueOf(300));
+        when(projectRepository.addCurrentFunding(eq(PROJECT_ID), any())).thenThrow(new IllegalStateException("db down"));
+        when(projectRepository.addCurrentFunding(eq(2), any())).thenReturn(0);
+
+        counter.flush();
+
+        verify(eventPublisher).publishEvent(new ProjectFundingFlushEvent(PROJECT_ID, BigDecimal.valueOf(500), ProjectFundingFlushEvent.Phase.ABORTED));
+        verify(eventPublisher).publishEvent(new ProjectFundingFlushEvent(2, BigDecimal.valueOf(300), ProjectFundingFlushEvent.Phase.ABORTED));
+        verify(eventPublisher, never()).publishEvent(new ProjectFundingFlushEvent(PROJECT_ID, BigDecimal.valueOf(500), ProjectFundingFlushEvent.Phase.COMMITTED));
+    }
+
+    // 트랜잭션 동기화(afterCommit)를 실제로 실행하는 테스트용 트랜잭션 매니저
+    private static class FakeTransactionManager extends AbstractPlatformTransactionManager {
+        private boolean failCommit;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failCommit) {
+                throw new TransactionSystemException("commit failed");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package Funding.Startreum.domain.sponsor;
+
+import Funding.Startreum.domain.funding.entity.Funding;
+import Funding.Startreum.domain.funding.repository.FundingRepository;
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.reward.entity.Reward;
+import Funding.Startreum.domain.reward.repository.RewardRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 후원 목록 조회의 SQL 실행 횟수가 페이지 크기와 무관하게 일정한지 확인합니다. (H2, test 프로필)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sponsor-query-count;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "Funding.Startreum.domain.sponsor.SponsorServiceQueryCountTest$QueryCounter",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class SponsorServiceQueryCountTest {
+
+    private static final int FUNDING_COUNT = 60;
+    private static final String SPONSOR_EMAIL = "count-sponsor@test.com";
+
+    @Autowired
+    private SponsorService sponsorService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private RewardRepository rewardRepository;
+    @Autowired
+    private FundingRepository fundingRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail(SPONSOR_EMAIL).isPresent()) {
+            return;
+        }
+
+        User beneficiary = saveUser("count-beneficiary", "count-beneficiary@test.com", User.Role.BENEFICIARY);
+        User sponsor = saveUser("count-sponsor", SPONSOR_EMAIL, User.Role.SPONSOR);
+
+        Project project = new Project();
+        project.setCreator(beneficiary);
+        project.setTitle("Query Count Project");
+        project.setFundingGoal(BigDecimal.valueOf(1_000_000));
+        project.setCurrentFunding(BigDecimal.ZERO);
+        project.setStartDate(LocalDateTime.now());
+        project.setEndDate(LocalDateTime.now().plusDays(30));
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(Project.ApprovalStatus.APPROVE);
+        project.setIsDeleted(false);
+        project.setCreatedAt(LocalDateTime.now());
+        projectRepository.save(project);
+
+        Reward reward = new Reward();
+        reward.setProject(project);
+        reward.setDescription("reward");
+        reward.setAmount(BigDecimal.valueOf(1_000));
+        reward.setCreatedAt(LocalDateTime.now());
+        rewardRepository.save(reward);
+
+        for (int i = 0; i < FUNDING_COUNT; i++) {
+            Funding funding = new Funding();
+            funding.setSponsor(sponsor);
+            funding.setProject(project);
+            funding.setReward(i % 3 == 0 ? null : reward); // 리워드 없는 후원 포함
+            funding.setAmount(BigDecimal.valueOf(1_000 + i));
+            funding.setFundedAt(LocalDateTime.now().minusMinutes(i));
+            fundingRepository.save(funding);
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 커져도 조회 쿼리 수는 일정하다 (Page: 2회, Slice: 1회)")
+    void queryCountIsConstant() {
+        for (int size : List.of(5, 20, 50)) {
+            assertEquals(2, countStatements(() -> sponsorService.getFundingList(SPONSOR_EMAIL, PageRequest.of(0, size))),
+                    "Page 조회 쿼리 수 (size=" + size + ")");
+            assertEquals(1, countStatements(() -> sponsorService.getFundingList(SPONSOR_EMAIL, PageRequest.of(0, size), false)),
+                    "Slice 조회 쿼리 수 (size=" + size + ")");
+        }
+    }
+
+    @Test
+    @DisplayName("리워드가 없는 후원도 rewardId null로 조회되고, Slice 모드에서는 total이 없다")
+    void nullRewardAndSlice() {
+        SponListResponse response = sponsorService.getFundingList(SPONSOR_EMAIL, PageRequest.of(0, 3), false);
+
+        assertEquals("success", response.status());
+        assertNull(response.data().fundings().get(0).rewardId());
+        assertNull(response.data().pagination().total());
+        assertEquals(Boolean.TRUE, response.data().pagination().hasNext());
+    }
+
+    private int countStatements(Runnable action) {
+        QueryCounter.reset();
+        action.run();
+        return QueryCounter.count();
+    }
+
+    /**
+     * 현재 스레드에서 실행된 SQL 수를 셉니다. (스케줄러 등 다른 스레드의 쿼리는 제외)
+     */
+    public static class QueryCounter implements StatementInspector {
+
+        private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+        static void reset() {
+            COUNT.get()[0] = 0;
+        }
+
+        static int count() {
+            return COUNT.get()[0];
+        }
+
+        @Override
+        public String inspect(String sql) {
+            COUNT.get()[0]++;
+            return sql;
+        }
+    }
+
+    private User saveUser(String name, String email, User.Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
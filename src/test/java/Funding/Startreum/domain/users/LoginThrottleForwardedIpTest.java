@@ -0,0 +1,57 @@
+package Funding.Startreum.domain.users;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 로드밸런서(신뢰하는 프록시) 뒤에서 로그인 시도 제한이 실제 클라이언트 IP별로 동작하는지 검증 (실제 Tomcat)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:login-forwarded-ip;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "login.rate-limit.ip.capacity=2",
+        "login.rate-limit.ip.refill-per-minute=1"
+})
+class LoginThrottleForwardedIpTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("루프백(신뢰하는 프록시)에서 온 요청은 X-Forwarded-For의 클라이언트 IP별로 제한한다")
+    void throttlesPerForwardedClientIp() {
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.1", "user1"));
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.1", "user2"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.1", "user3"));
+
+        // 같은 로드밸런서를 거쳐도 다른 클라이언트는 제한되지 않음
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.2", "user4"));
+    }
+
+    private HttpStatusCode login(String clientIp, String name) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add("X-Forwarded-For", clientIp);
+        return restTemplate.postForEntity("/api/users/login",
+                new HttpEntity<>(Map.of("name", name, "password", "wrong-password"), headers), String.class)
+                .getStatusCode();
+    }
+}
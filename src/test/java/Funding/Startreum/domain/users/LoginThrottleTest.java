@@ -0,0 +1,35 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoginThrottleTest {
+
+    @Test
+    @DisplayName("계정 버킷이 비면 같은 계정은 대소문자와 관계없이 거절하고, 다른 계정은 허용한다")
+    void accountLimit() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, 100, 1, 2, 1, 4, 16);
+
+        assertEquals(LoginThrottle.Decision.ALLOWED, throttle.tryAcquire("1.1.1.1", "alice"));
+        assertEquals(LoginThrottle.Decision.ALLOWED, throttle.tryAcquire("2.2.2.2", "Alice"));
+        assertEquals(LoginThrottle.Decision.ACCOUNT_LIMITED, throttle.tryAcquire("3.3.3.3", "ALICE"));
+        assertEquals(LoginThrottle.Decision.ALLOWED, throttle.tryAcquire("3.3.3.3", "bob"));
+
+        assertEquals(1.0, meterRegistry.counter("login.rejected", "reason", "account_rate_limit").count());
+    }
+
+    @Test
+    @DisplayName("IP 버킷이 비면 계정과 관계없이 거절한다")
+    void ipLimit() {
+        LoginThrottle throttle = new LoginThrottle(new SimpleMeterRegistry(), 2, 1, 100, 1, 4, 16);
+
+        assertEquals(LoginThrottle.Decision.ALLOWED, throttle.tryAcquire("1.1.1.1", "a"));
+        assertEquals(LoginThrottle.Decision.ALLOWED, throttle.tryAcquire("1.1.1.1", "b"));
+        assertEquals(LoginThrottle.Decision.IP_LIMITED, throttle.tryAcquire("1.1.1.1", "c"));
+        assertEquals(LoginThrottle.Decision.ALLOWED, throttle.tryAcquire("9.9.9.9", "c"));
+    }
+}
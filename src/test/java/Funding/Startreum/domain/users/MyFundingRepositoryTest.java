@@ -0,0 +1,195 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.domain.funding.entity.Funding;
+import Funding.Startreum.domain.funding.repository.FundingRepository;
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.transaction.entity.Transaction;
+import Funding.Startreum.domain.transaction.repository.TransactionRepository;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REFUND;
+import static Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REMITTANCE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 후원 내역 첫 페이지(윈도 함수 요약)와 커서 다음 페이지 쿼리를 H2(test 프로필) 위에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:my-funding-repository;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class MyFundingRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private MyFundingRepository myFundingRepository;
+    @Autowired
+    private FundingRepository fundingRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+
+    private User sponsor;
+    private VirtualAccount sponsorAccount;
+    private VirtualAccount beneficiaryAccount;
+    private Project project;
+
+    private Funding none;
+    private Funding remitted;
+    private Funding refunded;
+    private Funding remittedSameTime;
+    private Funding refundedLatest;
+
+    @BeforeEach
+    void setUp() {
+        sponsor = saveUser(User.Role.SPONSOR);
+        sponsorAccount = saveAccount(sponsor);
+        User beneficiary = saveUser(User.Role.BENEFICIARY);
+        beneficiaryAccount = saveAccount(beneficiary);
+        project = saveProject(beneficiary);
+
+        // 최신순: refundedLatest, remittedSameTime, refunded, remitted, none
+        none = saveFunding(sponsor, 1_000, BASE, false);
+        remitted = saveFunding(sponsor, 2_000, BASE.plusHours(1), false, REMITTANCE);
+        refunded = saveFunding(sponsor, 3_000, BASE.plusHours(2), false, REMITTANCE, REFUND);
+        remittedSameTime = saveFunding(sponsor, 4_000, BASE.plusHours(2), false, REMITTANCE);
+        refundedLatest = saveFunding(sponsor, 5_000, BASE.plusHours(3), false, REMITTANCE, REFUND);
+
+        // 삭제된 후원과 다른 후원자의 후원은 제외
+        saveFunding(sponsor, 9_000, BASE.plusHours(4), true, REMITTANCE);
+        saveFunding(saveUser(User.Role.SPONSOR), 9_000, BASE.plusHours(5), false, REMITTANCE);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 거래가 여러 건인 후원도 한 행으로 합치고, 모든 행에 전체 후원 기준 요약을 싣는다")
+    void firstPageCarriesSummary() {
+        List<MyFundingFirstPageRow> rows = myFundingRepository.findFirstPage(sponsor.getUserId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(refundedLatest.getFundingId(), remittedSameTime.getFundingId()),
+                rows.stream().map(row -> row.funding().getFundingId()).toList());
+        assertEquals("환불", rows.get(0).funding().getTransactionStatus());
+        assertEquals("송금 완료", rows.get(1).funding().getTransactionStatus());
+
+        MyFundingSummary summary = rows.get(0).toSummary();
+        assertEquals(summary, rows.get(1).toSummary());
+        assertEquals(5, summary.totalCount());
+        assertEquals(0, BigDecimal.valueOf(15_000).compareTo(summary.totalAmount()));
+
+        assertEquals(3, summary.byStatus().size());
+        assertStatus(summary.byStatus().get(0), "거래 없음", 1, 1_000);
+        assertStatus(summary.byStatus().get(1), "송금 완료", 2, 6_000);
+        assertStatus(summary.byStatus().get(2), "환불", 2, 8_000);
+    }
+
+    @Test
+    @DisplayName("커서 다음 페이지는 같은 후원 일시의 후원을 ID로 이어서 중복/누락 없이 조회한다")
+    void pageAfterContinuesFromCursor() {
+        List<MyFundingFirstPageRow> first = myFundingRepository.findFirstPage(sponsor.getUserId(), PageRequest.of(0, 2));
+        MyFundingResponseDTO last = first.get(first.size() - 1).funding();
+
+        List<MyFundingResponseDTO> second = myFundingRepository.findPageAfter(
+                sponsor.getUserId(), last.getFundedAt(), last.getFundingId(), PageRequest.of(0, 2));
+        assertEquals(List.of(refunded.getFundingId(), remitted.getFundingId()),
+                second.stream().map(MyFundingResponseDTO::getFundingId).toList());
+        assertEquals("환불", second.get(0).getTransactionStatus());
+
+        MyFundingResponseDTO cursor = second.get(second.size() - 1);
+        List<MyFundingResponseDTO> third = myFundingRepository.findPageAfter(
+                sponsor.getUserId(), cursor.getFundedAt(), cursor.getFundingId(), PageRequest.of(0, 2));
+        assertEquals(List.of(none.getFundingId()), third.stream().map(MyFundingResponseDTO::getFundingId).toList());
+        assertEquals("거래 없음", third.get(0).getTransactionStatus());
+
+        assertTrue(myFundingRepository.findPageAfter(
+                sponsor.getUserId(), BASE, none.getFundingId(), PageRequest.of(0, 2)).isEmpty());
+    }
+
+    private void assertStatus(MyFundingSummary.StatusTotal total, String status, long count, long amount) {
+        assertEquals(status, total.transactionStatus());
+        assertEquals(count, total.count());
+        assertEquals(0, BigDecimal.valueOf(amount).compareTo(total.amount()));
+    }
+
+    private Funding saveFunding(User owner, long amount, LocalDateTime fundedAt, boolean deleted,
+                                Transaction.TransactionType... types) {
+        Funding funding = new Funding();
+        funding.setSponsor(owner);
+        funding.setProject(project);
+        funding.setAmount(BigDecimal.valueOf(amount));
+        funding.setFundedAt(fundedAt);
+        funding.setDeleted(deleted);
+        fundingRepository.save(funding);
+
+        for (Transaction.TransactionType type : types) {
+            Transaction transaction = new Transaction();
+            transaction.setFunding(funding);
+            transaction.setSenderAccount(type == REFUND ? beneficiaryAccount : sponsorAccount);
+            transaction.setReceiverAccount(type == REFUND ? sponsorAccount : beneficiaryAccount);
+            transaction.setAmount(BigDecimal.valueOf(amount));
+            transaction.setType(type);
+            transaction.setTransactionDate(fundedAt);
+            transactionRepository.save(transaction);
+        }
+        return funding;
+    }
+
+    private Project saveProject(User creator) {
+        Project saved = new Project();
+        saved.setCreator(creator);
+        saved.setTitle("My Funding Project");
+        saved.setFundingGoal(BigDecimal.valueOf(100_000));
+        saved.setCurrentFunding(BigDecimal.ZERO);
+        saved.setStartDate(BASE);
+        saved.setEndDate(BASE.plusDays(30));
+        saved.setStatus(Project.Status.ONGOING);
+        saved.setIsApproved(Project.ApprovalStatus.APPROVE);
+        saved.setIsDeleted(false);
+        saved.setCreatedAt(BASE);
+        return projectRepository.save(saved);
+    }
+
+    private User saveUser(User.Role role) {
+        String name = "my-funding-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+
+    private VirtualAccount saveAccount(User user) {
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(BigDecimal.ZERO);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return virtualAccountRepository.save(account);
+    }
+}
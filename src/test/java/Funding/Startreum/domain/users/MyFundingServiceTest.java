@@ -0,0 +1,88 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.domain.project.entity.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MyFundingServiceTest {
+
+    @Mock
+    private MyFundingRepository myFundingRepository;
+
+    @InjectMocks
+    private MyFundingService myFundingService;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("첫 페이지는 요약을 포함하고, 다음 커서로 이어서 조회한다")
+    void firstPageThenCursor() {
+        when(myFundingRepository.findFirstPage(eq(1), any())).thenReturn(List.of(
+                firstPageRow(30, base, 1), firstPageRow(20, base.minusDays(1), 2), firstPageRow(10, base.minusDays(2), 1)));
+
+        MyFundingPage first = myFundingService.getMyFundings(1, null, 2);
+
+        assertEquals(List.of(30, 20), first.data().stream().map(MyFundingResponseDTO::getFundingId).toList());
+        assertEquals("환불", first.data().get(1).getTransactionStatus());
+        assertTrue(first.hasNext());
+        assertEquals(3, first.summary().totalCount());
+        assertEquals(new BigDecimal("3000"), first.summary().totalAmount());
+        assertEquals(List.of("송금 완료", "환불"),
+                first.summary().byStatus().stream().map(MyFundingSummary.StatusTotal::transactionStatus).toList());
+
+        when(myFundingRepository.findPageAfter(eq(1), eq(base.minusDays(1)), eq(20), any()))
+                .thenReturn(List.of(row(10, base.minusDays(2), 1)));
+
+        MyFundingPage second = myFundingService.getMyFundings(1, first.nextCursor(), 2);
+
+        assertEquals(List.of(10), second.data().stream().map(MyFundingResponseDTO::getFundingId).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.summary());
+        verify(myFundingRepository, times(1)).findFirstPage(eq(1), any());
+    }
+
+    @Test
+    @DisplayName("후원 내역이 없으면 빈 요약을 반환한다")
+    void emptySummary() {
+        when(myFundingRepository.findFirstPage(eq(1), any())).thenReturn(List.of());
+
+        MyFundingPage page = myFundingService.getMyFundings(1, null, 20);
+
+        assertTrue(page.data().isEmpty());
+        assertFalse(page.hasNext());
+        assertEquals(0, page.summary().totalCount());
+        assertEquals(BigDecimal.ZERO, page.summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> myFundingService.getMyFundings(1, "not-a-cursor", 10));
+    }
+
+    // 전체 후원: 송금 완료 2건(2000), 환불 1건(1000)
+    private MyFundingFirstPageRow firstPageRow(int fundingId, LocalDateTime fundedAt, int state) {
+        return new MyFundingFirstPageRow(fundingId, "프로젝트" + fundingId, Project.Status.ONGOING,
+                new BigDecimal("1000"), fundedAt, state,
+                0L, null, 2L, new BigDecimal("2000"), 1L, new BigDecimal("1000"));
+    }
+
+    private MyFundingResponseDTO row(int fundingId, LocalDateTime fundedAt, int state) {
+        return new MyFundingResponseDTO(fundingId, "프로젝트" + fundingId, Project.Status.ONGOING,
+                new BigDecimal("1000"), fundedAt, state);
+    }
+}
@@ -0,0 +1,160 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.domain.funding.entity.Funding;
+import Funding.Startreum.domain.funding.repository.FundingRepository;
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수혜자 프로젝트 목록 키셋 쿼리(생성일 없는 프로젝트 포함)와 후원자 수/달성률 계산을 H2(test 프로필) 위에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:my-project-repository;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class MyProjectRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private MyProjectRepository myProjectRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private FundingRepository fundingRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User creator;
+    private Project funded;
+    private Project overFunded;
+    private Project noGoal;
+    private Project undatedFirst;
+    private Project undatedSecond;
+
+    @BeforeEach
+    void setUp() {
+        creator = saveUser(User.Role.BENEFICIARY);
+
+        // 최신순: overFunded, funded (같은 생성일), noGoal, undatedSecond, undatedFirst (생성일 없음)
+        funded = saveProject(creator, BASE, "10000", "2500");
+        overFunded = saveProject(creator, BASE, "10000", "15000");
+        noGoal = saveProject(creator, BASE.minusDays(1), "0", "500");
+        undatedFirst = saveProject(creator, null, "10000", "0");
+        undatedSecond = saveProject(creator, null, "10000", "0");
+        saveProject(saveUser(User.Role.BENEFICIARY), BASE.plusDays(1), "10000", "0"); // 다른 수혜자의 프로젝트는 제외
+
+        // 같은 후원자의 중복 후원은 한 명, 삭제된 후원은 제외
+        User sponsor = saveUser(User.Role.SPONSOR);
+        saveFunding(sponsor, funded, false);
+        saveFunding(sponsor, funded, false);
+        saveFunding(saveUser(User.Role.SPONSOR), funded, false);
+        saveFunding(saveUser(User.Role.SPONSOR), funded, true);
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 생성일이 없는 프로젝트까지 최신순으로 한 번씩만 나온다")
+    void pagesThroughNullCreatedAt() {
+        List<MyProjectDTO> first = myProjectRepository.findFirstPage(creator.getUserId(), PageRequest.of(0, 2));
+        assertEquals(List.of(overFunded.getProjectId(), funded.getProjectId()), ids(first));
+
+        MyProjectDTO last = first.get(1);
+        List<MyProjectDTO> second = myProjectRepository.findPageAfter(
+                creator.getUserId(), last.getCreatedAt(), last.getProjectId(), PageRequest.of(0, 2));
+        assertEquals(List.of(noGoal.getProjectId(), undatedSecond.getProjectId()), ids(second));
+
+        // 생성일이 없는 커서는 생성일이 없는 프로젝트 중 다음 항목만
+        MyProjectDTO undated = second.get(1);
+        assertNull(undated.getCreatedAt());
+        List<MyProjectDTO> third = myProjectRepository.findPageAfter(
+                creator.getUserId(), null, undated.getProjectId(), PageRequest.of(0, 2));
+        assertEquals(List.of(undatedFirst.getProjectId()), ids(third));
+
+        assertTrue(myProjectRepository.findPageAfter(
+                creator.getUserId(), null, undatedFirst.getProjectId(), PageRequest.of(0, 2)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("후원자 수는 삭제되지 않은 후원의 중복 없는 후원자 수, 달성률은 목표 대비 %로 계산한다")
+    void computesSponsorCountAndFundingRate() {
+        List<MyProjectDTO> all = myProjectRepository.findFirstPage(creator.getUserId(), PageRequest.of(0, 10));
+        assertEquals(5, all.size());
+
+        MyProjectDTO fundedRow = find(all, funded);
+        assertEquals(2, fundedRow.getSponsorCount());
+        assertEquals(new BigDecimal("25.0"), fundedRow.getFundingRate());
+
+        MyProjectDTO overFundedRow = find(all, overFunded);
+        assertEquals(0, overFundedRow.getSponsorCount());
+        assertEquals(new BigDecimal("150.0"), overFundedRow.getFundingRate());
+
+        // 목표 금액이 0이면 달성률 0
+        assertEquals(BigDecimal.ZERO, find(all, noGoal).getFundingRate());
+    }
+
+    private List<Integer> ids(List<MyProjectDTO> rows) {
+        return rows.stream().map(MyProjectDTO::getProjectId).toList();
+    }
+
+    private MyProjectDTO find(List<MyProjectDTO> rows, Project project) {
+        return rows.stream()
+                .filter(row -> row.getProjectId().equals(project.getProjectId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void saveFunding(User sponsor, Project project, boolean deleted) {
+        Funding funding = new Funding();
+        funding.setSponsor(sponsor);
+        funding.setProject(project);
+        funding.setAmount(BigDecimal.valueOf(1_000));
+        funding.setFundedAt(BASE);
+        funding.setDeleted(deleted);
+        fundingRepository.save(funding);
+    }
+
+    private Project saveProject(User owner, LocalDateTime createdAt, String goal, String current) {
+        Project project = new Project();
+        project.setCreator(owner);
+        project.setTitle("My Project");
+        project.setFundingGoal(new BigDecimal(goal));
+        project.setCurrentFunding(new BigDecimal(current));
+        project.setStartDate(BASE);
+        project.setEndDate(BASE.plusDays(30));
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(Project.ApprovalStatus.APPROVE);
+        project.setIsDeleted(false);
+        project.setCreatedAt(createdAt);
+        return projectRepository.save(project);
+    }
+
+    private User saveUser(User.Role role) {
+        String name = "my-project-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
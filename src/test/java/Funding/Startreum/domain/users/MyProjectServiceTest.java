@@ -0,0 +1,126 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MyProjectServiceTest {
+
+    @Mock
+    private MyProjectRepository myProjectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectFundingCounter projectFundingCounter;
+
+    @InjectMocks
+    private MyProjectService myProjectService;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("토큰의 사용자 ID로 바로 조회하고 페이지 크기는 최대 100으로 제한한다")
+    void usesTokenUserIdAndCapsPageSize() {
+        when(myProjectRepository.findFirstPage(eq(7), any())).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            assertEquals(101, pageable.getPageSize());
+            return List.of(row(1, "1000", "250", 3L, "25"));
+        });
+        when(projectFundingCounter.pending(anyInt())).thenReturn(BigDecimal.ZERO);
+
+        MyProjectPage page = myProjectService.getProjectsByUser("creator", 7, null, 500);
+
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+        assertEquals(3L, page.data().get(0).getSponsorCount());
+        assertEquals(new BigDecimal("25.0"), page.data().get(0).getFundingRate());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("다음 커서로 마지막 항목 이후를 이어서 조회한다")
+    void pagesByCursor() {
+        when(myProjectRepository.findFirstPage(eq(7), any())).thenReturn(List.of(
+                row(3, BASE, "1000", "0", 0L, "0"), row(2, BASE.minusDays(1), "1000", "0", 0L, "0"),
+                row(1, BASE.minusDays(2), "1000", "0", 0L, "0")));
+        when(projectFundingCounter.pending(anyInt())).thenReturn(BigDecimal.ZERO);
+
+        MyProjectPage first = myProjectService.getProjectsByUser("creator", 7, null, 2);
+
+        assertEquals(List.of(3, 2), first.data().stream().map(MyProjectDTO::getProjectId).toList());
+        assertTrue(first.hasNext());
+
+        when(myProjectRepository.findPageAfter(eq(7), eq(BASE.minusDays(1)), eq(2), any()))
+                .thenReturn(List.of(row(1, BASE.minusDays(2), "1000", "0", 0L, "0")));
+
+        MyProjectPage second = myProjectService.getProjectsByUser("creator", 7, first.nextCursor(), 2);
+
+        assertEquals(List.of(1), second.data().stream().map(MyProjectDTO::getProjectId).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("생성일이 없는 항목의 커서도 왕복된다")
+    void nullCreatedAtCursor() {
+        MyProjectCursor cursor = MyProjectCursor.decode(new MyProjectCursor(null, 5).encode());
+
+        assertNull(cursor.createdAt());
+        assertEquals(5, cursor.projectId());
+        assertThrows(IllegalArgumentException.class, () -> myProjectService.getProjectsByUser("creator", 7, "not-a-cursor", 20));
+    }
+
+    @Test
+    @DisplayName("토큰에 사용자 ID가 없으면 이름으로 사용자를 찾는다")
+    void resolvesUserIdByName() {
+        User user = new User();
+        user.setUserId(3);
+        when(userRepository.findByName("creator")).thenReturn(java.util.Optional.of(user));
+        when(myProjectRepository.findFirstPage(eq(3), any())).thenReturn(List.of());
+
+        MyProjectPage page = myProjectService.getProjectsByUser("creator", null, null, 20);
+
+        assertTrue(page.data().isEmpty());
+        verify(myProjectRepository).findFirstPage(eq(3), any());
+    }
+
+    @Test
+    @DisplayName("반영 대기 중인 펀딩 증감분을 현재 금액과 달성률에 더한다")
+    void appliesPendingFunding() {
+        when(myProjectRepository.findFirstPage(eq(7), any())).thenReturn(List.of(row(1, "1000", "250", 3L, "25")));
+        when(projectFundingCounter.pending(1)).thenReturn(new BigDecimal("105"));
+
+        MyProjectDTO project = myProjectService.getProjectsByUser("creator", 7, null, 20).data().get(0);
+
+        assertEquals(new BigDecimal("355"), project.getCurrentFunding());
+        assertEquals(new BigDecimal("35.5"), project.getFundingRate());
+    }
+
+    private MyProjectDTO row(int projectId, String goal, String current, Long sponsors, String rate) {
+        return row(projectId, BASE, goal, current, sponsors, rate);
+    }
+
+    private MyProjectDTO row(int projectId, LocalDateTime createdAt, String goal, String current, Long sponsors, String rate) {
+        return new MyProjectDTO(projectId, "프로젝트 " + projectId, new BigDecimal(goal), createdAt,
+                Project.Status.ONGOING, Project.ApprovalStatus.APPROVE, new BigDecimal(current), sponsors,
+                new BigDecimal(rate));
+    }
+}
@@ -0,0 +1,39 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenCleanupServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    @DisplayName("만료 토큰이 남지 않을 때까지 묶음 단위로 삭제하고 삭제 건수를 기록한다")
+    void purgeInChunks() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RefreshTokenCleanupService service = new RefreshTokenCleanupService(refreshTokenRepository, meterRegistry, 2, 0);
+        Date now = new Date();
+
+        when(refreshTokenRepository.findExpiredIds(eq(now), any()))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        when(refreshTokenRepository.deleteByIdIn(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        assertEquals(5, service.purgeExpired(now));
+        verify(refreshTokenRepository, times(3)).deleteByIdIn(any());
+        assertEquals(5.0, meterRegistry.counter("refresh_token.purge.deleted").count());
+    }
+}
@@ -0,0 +1,144 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.common.util.HashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    private final Date expiry = new Date(System.currentTimeMillis() + 60_000);
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, transactionManager, 1000, 3);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 해시로만 저장되고, 회전 후 이전 토큰을 다시 쓰면 토큰 묶음을 폐기한다")
+    void rotateAndDetectReuse() {
+        refreshTokenStore.issue("token-1", "alice", expiry);
+        when(refreshTokenRepository.markRotated(eq(HashUtil.sha256("token-1")), any())).thenReturn(1);
+
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED,
+                refreshTokenStore.rotate("token-1", "alice", "token-2", expiry));
+
+        // 발급/회전한 토큰은 바로 저장됨 (원문 대신 해시 저장)
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).deleteByUsername("alice");
+        verify(refreshTokenRepository, times(2)).save(saved.capture());
+        assertEquals(HashUtil.sha256("token-1"), saved.getAllValues().get(0).getTokenHash());
+        assertNotEquals("token-1", saved.getAllValues().get(0).getTokenHash());
+        assertEquals(HashUtil.sha256("token-2"), saved.getAllValues().get(1).getTokenHash());
+
+        assertEquals(RefreshTokenStore.RotationResult.REUSED,
+                refreshTokenStore.rotate("token-1", "alice", "token-3", expiry));
+        // 재사용 감지 후에는 새로 받은 토큰도 사용할 수 없음
+        assertEquals(RefreshTokenStore.RotationResult.UNKNOWN,
+                refreshTokenStore.rotate("token-2", "alice", "token-4", expiry));
+
+        refreshTokenStore.flush();
+        verify(refreshTokenRepository).deleteByFamilyId(saved.getAllValues().get(0).getFamilyId());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 회전한 토큰은 재사용으로 처리한다")
+    void concurrentRotationOnAnotherNode() {
+        RefreshToken stored = new RefreshToken(HashUtil.sha256("token-1"), "alice", expiry, "family-1");
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markRotated(eq(stored.getTokenHash()), any())).thenReturn(0);
+
+        assertEquals(RefreshTokenStore.RotationResult.REUSED,
+                refreshTokenStore.rotate("token-1", "alice", "token-2", expiry));
+    }
+
+    @Test
+    @DisplayName("저장되지 않았거나 만료된 토큰은 회전하지 않는다")
+    void unknownAndExpired() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+        assertEquals(RefreshTokenStore.RotationResult.UNKNOWN,
+                refreshTokenStore.rotate("missing", "alice", "token-2", expiry));
+
+        refreshTokenStore.issue("token-1", "alice", new Date(System.currentTimeMillis() - 1000));
+        assertEquals(RefreshTokenStore.RotationResult.EXPIRED,
+                refreshTokenStore.rotate("token-1", "alice", "token-2", expiry));
+        verify(refreshTokenRepository, never()).markRotated(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("폐기 반영이 계속 실패해도 작업을 버리지 않고 한 건씩 반영한 뒤 남은 작업을 다시 시도한다")
+    void keepsRevocationWhenFlushKeepsFailing() {
+        refreshTokenStore.revokeUser("alice");
+        refreshTokenStore.revokeUser("bob");
+        doThrow(new IllegalStateException("db down"))
+                .doThrow(new IllegalStateException("db down"))
+                .doThrow(new IllegalStateException("db down"))
+                .doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(refreshTokenRepository).deleteByUsername("bob");
+
+        refreshTokenStore.flush(); // 1회 실패 -> 대기열로
+        refreshTokenStore.flush(); // 2회 실패 -> 대기열로
+        refreshTokenStore.flush(); // 3회 실패 -> 한 건씩: alice는 반영, bob은 실패하여 대기열로
+        verify(refreshTokenRepository, times(4)).deleteByUsername("alice");
+
+        refreshTokenStore.flush(); // 남은 bob만 반영
+        verify(refreshTokenRepository, times(5)).deleteByUsername("bob");
+        verify(refreshTokenRepository, times(4)).deleteByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("발급은 대기열을 거치지 않고 바로 저장되며, 저장에 실패하면 발급도 실패하고 기존 토큰 폐기는 다시 대기한다")
+    void issuePersistsSynchronously() {
+        refreshTokenStore.issue("token-1", "alice", expiry);
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenThrow(new IllegalStateException("db down"));
+        assertThrows(IllegalStateException.class, () -> refreshTokenStore.issue("token-2", "alice", expiry));
+        verify(refreshTokenRepository, times(2)).deleteByUsername("alice");
+
+        refreshTokenStore.flush();
+        verify(refreshTokenRepository, times(3)).deleteByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("메모리 항목이 maxEntries에 도달하면 새로 발급한 토큰은 DB에서 조회한다")
+    void boundsEntriesOnIssue() {
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, transactionManager, 1, 3);
+        refreshTokenStore.issue("token-1", "alice", expiry);
+        refreshTokenStore.issue("token-2", "bob", expiry);
+
+        RefreshToken stored = new RefreshToken(HashUtil.sha256("token-2"), "bob", expiry, "family-2");
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markRotated(eq(stored.getTokenHash()), any())).thenReturn(1);
+
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED,
+                refreshTokenStore.rotate("token-2", "bob", "token-3", expiry));
+        verify(refreshTokenRepository).findByTokenHash(stored.getTokenHash());
+    }
+}
@@ -0,0 +1,142 @@
+package Funding.Startreum.domain.users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SystemPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SystemPrincipalCache systemPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        systemPrincipalCache = new SystemPrincipalCache(userRepository, entityManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 조회 없이 캐시된 ID로 프록시를 만든다")
+    void cachesUserId() {
+        User proxy = new User();
+        when(userRepository.findByName("Admin")).thenReturn(Optional.of(user(1)));
+        when(entityManager.getReference(User.class, 1)).thenReturn(proxy);
+
+        assertSame(proxy, systemPrincipalCache.getAdminReference().orElseThrow());
+        assertSame(proxy, systemPrincipalCache.getReference("ADMIN").orElseThrow());
+
+        verify(userRepository, times(1)).findByName(anyString());
+        verify(entityManager, times(2)).getReference(User.class, 1);
+        assertEquals(1.0, meterRegistry.counter("system.principal.cache", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("system.principal.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계정도 캐싱하여 반복 조회하지 않는다")
+    void cachesMissingUser() {
+        when(userRepository.findByName("ghost")).thenReturn(Optional.empty());
+
+        assertTrue(systemPrincipalCache.getReference("ghost").isEmpty());
+        assertTrue(systemPrincipalCache.getReference("ghost").isEmpty());
+
+        verify(userRepository, times(1)).findByName("ghost");
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트를 받으면 캐시를 비우고 다시 조회한다")
+    void invalidatesOnUserChanged() {
+        when(userRepository.findByName("Admin"))
+                .thenReturn(Optional.of(user(1)))
+                .thenReturn(Optional.of(user(2)));
+
+        systemPrincipalCache.getAdminReference();
+        systemPrincipalCache.onUserChanged(new UserChangedEvent(1));
+        systemPrincipalCache.getAdminReference();
+
+        verify(userRepository, times(2)).findByName("Admin");
+        verify(entityManager).getReference(User.class, 1);
+        verify(entityManager).getReference(User.class, 2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 사용자 변경이 커밋되면 그 조회 결과는 다음 조회에서 다시 읽는다")
+    void reloadsWhenChangedDuringLoad() {
+        when(userRepository.findByName("Admin"))
+                .thenAnswer(invocation -> {
+                    systemPrincipalCache.onUserChanged(new UserChangedEvent(1)); // 이전 ID를 읽은 뒤 변경 커밋
+                    return Optional.of(user(1));
+                })
+                .thenReturn(Optional.of(user(2)));
+
+        systemPrincipalCache.getAdminReference();
+        systemPrincipalCache.getAdminReference();
+        systemPrincipalCache.getAdminReference();
+
+        verify(userRepository, times(2)).findByName("Admin");
+        verify(entityManager, times(2)).getReference(User.class, 2);
+        assertEquals(1.0, meterRegistry.counter("system.principal.cache", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 처음 조회해도 DB 조회는 한 번만 실행된다")
+    void concurrentFirstLoadQueriesOnce() throws Exception {
+        when(userRepository.findByName("Admin")).thenAnswer(invocation -> {
+            Thread.sleep(50); // 다른 스레드가 같은 키를 조회할 시간을 줌
+            return Optional.of(user(1));
+        });
+        when(entityManager.getReference(User.class, 1)).thenReturn(new User());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Optional<User>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return systemPrincipalCache.getAdminReference();
+                }));
+            }
+            startSignal.countDown();
+            for (Future<Optional<User>> future : futures) {
+                assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userRepository, times(1)).findByName("Admin");
+    }
+
+    private User user(int userId) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setName("Admin");
+        return user;
+    }
+}
@@ -0,0 +1,72 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.common.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Test
+    @DisplayName("무효화 시각 이전에 발급된 토큰만 거부한다")
+    void revokeRejectsOlderTokens() {
+        LocalDateTime revokedAt = LocalDateTime.now().withNano(0);
+        tokenRevocationRegistry.revoke("Alice", revokedAt);
+
+        assertTrue(tokenRevocationRegistry.isRevoked("alice", toDate(revokedAt.minusSeconds(1))));
+        assertFalse(tokenRevocationRegistry.isRevoked("alice", toDate(revokedAt)));
+        assertFalse(tokenRevocationRegistry.isRevoked("bob", toDate(revokedAt.minusSeconds(1))));
+    }
+
+    @Test
+    @DisplayName("DB 갱신 시 목록을 읽어 오고, 이 서버에서 무효화한 항목은 유지한다")
+    void refreshMergesLocalRevocations() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        when(jwtUtil.getAccessTokenExpiration()).thenReturn(3_600_000L);
+        when(userRepository.findTokenRevocationsSince(any()))
+                .thenReturn(List.of(new TokenRevocation("bob", now)));
+
+        tokenRevocationRegistry.revoke("alice", now);
+        tokenRevocationRegistry.refresh();
+
+        assertTrue(tokenRevocationRegistry.isRevoked("bob", toDate(now.minusSeconds(5))));
+        assertTrue(tokenRevocationRegistry.isRevoked("alice", toDate(now.minusSeconds(5))));
+    }
+
+    @Test
+    @DisplayName("삭제된 사용자의 기존 토큰은 이 서버에서 즉시 거부한다")
+    void deletedUserIsRevoked() {
+        Date issuedAt = toDate(LocalDateTime.now().minusMinutes(1));
+
+        tokenRevocationRegistry.onUserDeleted(new UserDeletedEvent(1, "Alice"));
+
+        assertTrue(tokenRevocationRegistry.isRevoked("alice", issuedAt));
+    }
+
+    private Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
@@ -31,7 +32,10 @@ public class UserControllerTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private LoginThrottle loginThrottle;
 
     @InjectMocks
     private UserController userController;
@@ -75,11 +79,13 @@ public class UserControllerTest {
         when(userService.authenticateUser("newUser", "password123")).thenReturn(mockUserResponse);
 
         // jwtUtil.generateAccessToken()와 generateRefreshToken() 설정
-        when(jwtUtil.generateAccessToken(anyString(), anyString(), anyString())).thenReturn("mockAccessToken");
+        when(jwtUtil.generateAccessToken(any(), anyString(), anyString(), anyString())).thenReturn("mockAccessToken");
         when(jwtUtil.generateRefreshToken(anyString())).thenReturn("mockRefreshToken");
 
-        // refreshTokenRepository.deleteByUsername()는 void 반환 -> doNothing() 사용
-        doNothing().when(refreshTokenRepository).deleteByUsername(anyString());
+        // refreshTokenStore.issue()는 void 반환 -> doNothing() 사용
+        doNothing().when(refreshTokenStore).issue(anyString(), anyString(), any());
+
+        when(loginThrottle.tryAcquire(anyString(), anyString())).thenReturn(LoginThrottle.Decision.ALLOWED);
 
         // 실제 테스트 실행
         mockMvc.perform(post("/api/users/login")
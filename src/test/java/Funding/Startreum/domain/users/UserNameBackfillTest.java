@@ -0,0 +1,117 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조회용 이름 이관 전후의 이름 조회와 대소문자 충돌 처리 검증 (H2, test 프로필)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-name-backfill;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "users.name-backfill.batch-size=2"
+})
+@RecordApplicationEvents
+class UserNameBackfillTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private UserNameBackfill userNameBackfill;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "legacy" + SEQUENCE.incrementAndGet();
+    }
+
+    @Test
+    @DisplayName("이관 전 조회용 이름이 없는 사용자도 대소문자 구분 없이 조회되고, 이관 후에는 조회용 이름으로 조회된다")
+    void legacyUserIsFoundBeforeBackfill() {
+        Integer userId = insertLegacyUser(prefix + "_User");
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(userRepository.findById(userId).orElseThrow());
+        account.setBalance(BigDecimal.ZERO);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        virtualAccountRepository.save(account);
+
+        assertEquals(userId, userRepository.findByName(prefix.toUpperCase() + "_USER").orElseThrow().getUserId());
+        assertEquals(account.getAccountId(), virtualAccountRepository.findAccountIdByUsername(prefix + "_user").orElseThrow());
+        assertTrue(virtualAccountRepository.findByUser_Name(prefix + "_user").isPresent());
+        Integer secondId = insertLegacyUser(prefix + "_Second");
+        Integer thirdId = insertLegacyUser(prefix + "_Third");
+        applicationEvents.clear();
+
+        userNameBackfill.backfill();
+
+        // 청크 단위 벌크 UPDATE라 사용자별 변경 이벤트가 발행되지 않음
+        assertEquals(0, applicationEvents.stream(UserChangedEvent.class).count());
+        assertEquals(userId, userRepository.findByNameNormalized(prefix + "_user").orElseThrow().getUserId());
+        assertEquals(secondId, userRepository.findByNameNormalized(prefix + "_second").orElseThrow().getUserId());
+        assertEquals(thirdId, userRepository.findByNameNormalized(prefix + "_third").orElseThrow().getUserId());
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 이름은 충돌로 보고되고, 이름을 바꾸지 않는 수정은 실패하지 않는다")
+    void reportsConflictAndKeepsUpdatesWorking() {
+        User existing = new User();
+        existing.setName(prefix + "_dup");
+        existing.setEmail(prefix + "_existing@test.com");
+        existing.setPassword("password");
+        existing.setRole(User.Role.SPONSOR);
+        userRepository.save(existing);
+        Integer legacyId = insertLegacyUser(prefix + "_DUP");
+
+        userNameBackfill.backfill();
+
+        assertTrue(userNameBackfill.conflicts() >= 1);
+        User legacy = userRepository.findById(legacyId).orElseThrow();
+        assertNull(legacy.getNameNormalized());
+
+        legacy.setEmail(prefix + "_changed@test.com");
+        assertDoesNotThrow(() -> userRepository.save(legacy));
+        assertNull(userRepository.findById(legacyId).orElseThrow().getNameNormalized());
+
+        // 이름을 바꾸면 조회용 이름이 채워져 충돌이 해소됨
+        User renamed = userRepository.findById(legacyId).orElseThrow();
+        renamed.setName(prefix + "_dup2");
+        userRepository.save(renamed);
+        assertEquals(legacyId, userRepository.findByNameNormalized(prefix + "_dup2").orElseThrow().getUserId());
+    }
+
+    // 조회용 이름 컬럼이 생기기 전에 가입한 사용자
+    private Integer insertLegacyUser(String name) {
+        jdbcTemplate.update("INSERT INTO users (name, email, password, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                name, name + "@test.com", "password", User.Role.SPONSOR.name(), LocalDateTime.now(), LocalDateTime.now());
+        return jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE name = ?", Integer.class, name);
+    }
+}
@@ -0,0 +1,72 @@
+package Funding.Startreum.domain.users;
+
+import Funding.Startreum.common.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private PasswordVerifier passwordVerifier;
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, passwordEncoder, jwtUtil, passwordVerifier, tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("이메일을 변경해도 기존 토큰을 무효화하지 않는다")
+    void updateEmailKeepsTokens() {
+        User user = new User();
+        user.setName("tester");
+        user.setEmail("old@test.com");
+        when(userRepository.findByName("tester")).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail("new@test.com")).thenReturn(Optional.empty());
+
+        userService.updateUserEmail("tester", "new@test.com");
+
+        assertEquals("new@test.com", user.getEmail());
+        assertNull(user.getTokensRevokedAt());
+        verify(userRepository).save(user);
+        verifyNoInteractions(tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("토큰 무효화 시 무효화 시각을 저장하고 이 서버의 목록에 즉시 반영한다")
+    void revokeAccessTokens() {
+        User user = new User();
+        user.setName("tester");
+        when(userRepository.findByName("tester")).thenReturn(Optional.of(user));
+
+        userService.revokeAccessTokens("tester");
+
+        assertNotNull(user.getTokensRevokedAt());
+        verify(userRepository).save(user);
+        verify(tokenRevocationRegistry).revoke("tester", user.getTokensRevokedAt());
+    }
+}
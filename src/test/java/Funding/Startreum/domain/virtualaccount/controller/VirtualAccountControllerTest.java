@@ -1,6 +1,7 @@
 package Funding.Startreum.domain.virtualaccount.controller;
 
 import Funding.Startreum.common.util.JwtUtil;
+import Funding.Startreum.domain.funding.exception.FundingAlreadyCancelledException;
 import Funding.Startreum.domain.project.repository.ProjectRepository;
 import Funding.Startreum.domain.users.CustomUserDetailsService;
 import Funding.Startreum.domain.users.UserService;
@@ -15,6 +16,7 @@ import Funding.Startreum.domain.virtualaccount.service.AccountChargeService;
 import Funding.Startreum.domain.virtualaccount.service.AccountPaymentService;
 import Funding.Startreum.domain.virtualaccount.service.AccountQueryService;
 import Funding.Startreum.domain.virtualaccount.service.AccountRefundService;
+import Funding.Startreum.domain.virtualaccount.service.IdempotencyService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,14 +30,18 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static Funding.Startreum.util.TokenUtil.createUserToken;
 import static Funding.Startreum.util.utilMethod.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -72,6 +78,7 @@ class VirtualAccountControllerTest {
     private static final int NON_EXISTENT_ACCOUNT_ID = 500;
     private static final int PROJECT_ID = 1;
     private static final int TRANSACTION_ID = 200;
+    private static final int FUNDING_ID = 300;
     private static final String OWNER = "owner";
     private static final String ADMIN = "admin";
     private static final String OTHER = "other";
@@ -287,4 +294,96 @@ class VirtualAccountControllerTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Idempotency-Key 테스트")
+    class IdempotencyTests {
+
+        @Test
+        @DisplayName("[충전 200] 같은 키로 다시 요청하면 충전하지 않고 저장된 응답을 반환")
+        void replayChargeWithSameKey() throws Exception {
+            String idempotencyKey = UUID.randomUUID().toString();
+            BigDecimal amount = BigDecimal.valueOf(1500);
+            AccountPaymentResponse response = new AccountPaymentResponse(
+                    0, ACCOUNT_ID, BigDecimal.valueOf(5000), amount, BigDecimal.valueOf(6500), LocalDateTime.now()
+            );
+            given(accountChargeService.chargeByAccountId(eq(ACCOUNT_ID), any(AccountRequest.class)))
+                    .willReturn(response);
+
+            mockMvc.perform(post(BASE_URL + "/{accountId}", ACCOUNT_ID)
+                            .header(AUTHORIZATION_HEADER, BEARER_PREFIX + ownerToken)
+                            .header(IdempotencyService.HEADER, idempotencyKey)
+                            .content("{ \"amount\": 1500 }")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.afterMoney").value(6500));
+
+            mockMvc.perform(post(BASE_URL + "/{accountId}", ACCOUNT_ID)
+                            .header(AUTHORIZATION_HEADER, BEARER_PREFIX + ownerToken)
+                            .header(IdempotencyService.HEADER, idempotencyKey)
+                            .content("{ \"amount\": 1500 }")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"))
+                    .andExpect(jsonPath("$.message").value("계좌 충전에 성공했습니다."))
+                    .andExpect(jsonPath("$.data.afterMoney").value(6500));
+
+            verify(accountChargeService, times(1)).chargeByAccountId(eq(ACCOUNT_ID), any(AccountRequest.class));
+        }
+
+        @Test
+        @DisplayName("[충전 422] 같은 키로 다른 금액을 요청할 경우")
+        void rejectDifferentRequestWithSameKey() throws Exception {
+            String idempotencyKey = UUID.randomUUID().toString();
+            AccountPaymentResponse response = new AccountPaymentResponse(
+                    0, ACCOUNT_ID, BigDecimal.valueOf(5000), BigDecimal.valueOf(1500), BigDecimal.valueOf(6500), LocalDateTime.now()
+            );
+            given(accountChargeService.chargeByAccountId(eq(ACCOUNT_ID), any(AccountRequest.class)))
+                    .willReturn(response);
+
+            mockMvc.perform(post(BASE_URL + "/{accountId}", ACCOUNT_ID)
+                            .header(AUTHORIZATION_HEADER, BEARER_PREFIX + ownerToken)
+                            .header(IdempotencyService.HEADER, idempotencyKey)
+                            .content("{ \"amount\": 1500 }")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post(BASE_URL + "/{accountId}", ACCOUNT_ID)
+                            .header(AUTHORIZATION_HEADER, BEARER_PREFIX + ownerToken)
+                            .header(IdempotencyService.HEADER, idempotencyKey)
+                            .content("{ \"amount\": 2000 }")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.status").value("error"));
+        }
+
+        @Test
+        @DisplayName("[환불 409] 이미 환불된 거래를 다른 키로 다시 환불 요청할 경우")
+        void rejectRefundOfCancelledFundingWithDifferentKey() throws Exception {
+            BigDecimal refundAmount = BigDecimal.valueOf(1000);
+            AccountRefundResponse refundResponse = new AccountRefundResponse(
+                    TRANSACTION_ID, TRANSACTION_ID, ACCOUNT_ID, BigDecimal.ZERO, refundAmount, refundAmount, LocalDateTime.now()
+            );
+            given(accountRefundService.refund(eq(ACCOUNT_ID), eq(TRANSACTION_ID)))
+                    .willReturn(refundResponse)
+                    .willThrow(new FundingAlreadyCancelledException(FUNDING_ID));
+
+            mockMvc.perform(post(BASE_URL + "/{accountId}/transactions/{transactionId}/refund", ACCOUNT_ID, TRANSACTION_ID)
+                            .header(AUTHORIZATION_HEADER, BEARER_PREFIX + ownerToken)
+                            .header(IdempotencyService.HEADER, UUID.randomUUID().toString())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+            // 키가 다르면 재생되지 않고 환불 서비스까지 도달하며, 펀딩이 이미 취소되어 409
+            mockMvc.perform(post(BASE_URL + "/{accountId}/transactions/{transactionId}/refund", ACCOUNT_ID, TRANSACTION_ID)
+                            .header(AUTHORIZATION_HEADER, BEARER_PREFIX + ownerToken)
+                            .header(IdempotencyService.HEADER, UUID.randomUUID().toString())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isConflict())
+                    .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER))
+                    .andExpect(jsonPath("$.status").value("error"));
+
+            verify(accountRefundService, times(2)).refund(eq(ACCOUNT_ID), eq(TRANSACTION_ID));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package Funding.Startreum.domain.virtualaccount.security;
+
+import Funding.Startreum.domain.users.AuthenticatedUser;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.exception.AccountNotFoundException;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSecurityTest {
+
+    @Mock
+    private VirtualAccountRepository virtualAccountRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AccountSecurity accountSecurity;
+
+    @BeforeEach
+    void setUp() {
+        accountSecurity = new AccountSecurity(virtualAccountRepository, userRepository, 100);
+    }
+
+    @Test
+    @DisplayName("토큰의 사용자 ID로 비교하고, 계좌 소유자는 한 번만 조회한다")
+    void ownerCheckUsesTokenIdAndCache() {
+        when(virtualAccountRepository.findOwnerIdByAccountId(10)).thenReturn(Optional.of(1));
+
+        assertTrue(accountSecurity.isAccountOwner(principal(1, "owner"), 10));
+        assertTrue(accountSecurity.isAccountOwner(principal(1, "owner"), 10));
+        assertThrows(AccessDeniedException.class, () -> accountSecurity.isAccountOwner(principal(2, "other"), 10));
+
+        verify(virtualAccountRepository, times(1)).findOwnerIdByAccountId(10);
+        verify(userRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계좌는 AccountNotFoundException")
+    void accountNotFound() {
+        when(virtualAccountRepository.findOwnerIdByAccountId(99)).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, () -> accountSecurity.isAccountOwner(principal(1, "owner"), 99));
+    }
+
+    private AuthenticatedUser principal(Integer userId, String name) {
+        return new AuthenticatedUser(userId, name, "", AuthorityUtils.createAuthorityList("ROLE_SPONSOR"));
+    }
+}
@@ -0,0 +1,217 @@
+package Funding.Startreum.domain.virtualaccount.service;
+
+import Funding.Startreum.domain.project.entity.Project;
+import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.project.service.ProjectFundingCounter;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.dto.request.AccountPaymentRequest;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 하나의 프로젝트에 다수의 후원자가 동시에 결제/환불하는 상황을 H2(test 프로필) 위에서 재현합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payment-stress;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class AccountPaymentConcurrencyTest {
+
+    private static final int SPONSOR_COUNT = 20;
+    private static final int PAYMENTS_PER_SPONSOR = 15;
+    private static final int REFUNDS_PER_SPONSOR = 5;
+    private static final int THREAD_COUNT = 16;
+    private static final BigDecimal INITIAL_BALANCE = BigDecimal.valueOf(1_000_000);
+    private static final BigDecimal PAYMENT_AMOUNT = BigDecimal.valueOf(1_000);
+
+    @Autowired
+    private AccountPaymentService accountPaymentService;
+    @Autowired
+    private AccountRefundService accountRefundService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ProjectFundingCounter projectFundingCounter;
+
+    private Project project;
+    private VirtualAccount beneficiaryAccount;
+    private final List<VirtualAccount> sponsorAccounts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 같은 DB를 쓰므로 사용자 이름이 겹치지 않게 접두어를 붙임
+        String prefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+        User beneficiary = saveUser(prefix + "beneficiary", User.Role.BENEFICIARY);
+        beneficiaryAccount = saveAccount(beneficiary, BigDecimal.ZERO);
+
+        project = new Project();
+        project.setCreator(beneficiary);
+        project.setTitle("Hot Project");
+        project.setFundingGoal(BigDecimal.valueOf(100_000_000));
+        project.setCurrentFunding(BigDecimal.ZERO);
+        project.setStartDate(LocalDateTime.now());
+        project.setEndDate(LocalDateTime.now().plusDays(30));
+        project.setStatus(Project.Status.ONGOING);
+        project.setIsApproved(Project.ApprovalStatus.APPROVE);
+        project.setIsDeleted(false);
+        project.setCreatedAt(LocalDateTime.now());
+        projectRepository.save(project);
+
+        for (int i = 0; i < SPONSOR_COUNT; i++) {
+            User sponsor = saveUser(prefix + "sponsor" + i, User.Role.SPONSOR);
+            sponsorAccounts.add(saveAccount(sponsor, INITIAL_BALANCE));
+        }
+    }
+
+    @Test
+    @DisplayName("한 프로젝트에 수백 건의 결제가 동시에 몰려도 잔액과 펀딩 금액이 정확해야 한다")
+    void concurrentPaymentsToHotProject() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (VirtualAccount sponsorAccount : sponsorAccounts) {
+            String username = sponsorAccount.getUser().getName();
+            AccountPaymentRequest request = new AccountPaymentRequest(project.getProjectId(), PAYMENT_AMOUNT);
+
+            for (int i = 0; i < PAYMENTS_PER_SPONSOR; i++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return accountPaymentService.paymentByAccountId(sponsorAccount.getAccountId(), request, username);
+                }));
+            }
+        }
+
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int totalPayments = SPONSOR_COUNT * PAYMENTS_PER_SPONSOR;
+        BigDecimal totalAmount = PAYMENT_AMOUNT.multiply(BigDecimal.valueOf(totalPayments));
+        BigDecimal perSponsorAmount = PAYMENT_AMOUNT.multiply(BigDecimal.valueOf(PAYMENTS_PER_SPONSOR));
+
+        projectFundingCounter.flush();
+        Project reloadedProject = projectRepository.findById(project.getProjectId()).orElseThrow();
+        assertEquals(0, totalAmount.compareTo(reloadedProject.getCurrentFunding()), "프로젝트 currentFunding에 모든 결제가 반영되어야 합니다.");
+        assertEquals(0, BigDecimal.ZERO.compareTo(projectFundingCounter.pending(project.getProjectId())), "반영 후 대기 중인 증감분이 없어야 합니다.");
+
+        VirtualAccount reloadedBeneficiary = virtualAccountRepository.findById(beneficiaryAccount.getAccountId()).orElseThrow();
+        assertEquals(0, totalAmount.compareTo(reloadedBeneficiary.getBalance()), "수혜자 계좌에 모든 결제 금액이 입금되어야 합니다.");
+
+        for (VirtualAccount sponsorAccount : sponsorAccounts) {
+            VirtualAccount reloaded = virtualAccountRepository.findById(sponsorAccount.getAccountId()).orElseThrow();
+            assertEquals(0, INITIAL_BALANCE.subtract(perSponsorAmount).compareTo(reloaded.getBalance()), "후원자 계좌 잔액이 정확히 차감되어야 합니다.");
+        }
+
+        assertEquals(totalPayments, countActiveFundings(), "결제 건수만큼 펀딩 내역이 생성되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("한 프로젝트 계좌에서 여러 환불이 동시에 나가도 잔액과 펀딩 금액이 정확해야 한다")
+    void concurrentRefundsFromHotProject() throws Exception {
+        List<int[]> refunds = new ArrayList<>(); // {결제 계좌 ID, 원 거래 ID}
+        for (VirtualAccount sponsorAccount : sponsorAccounts) {
+            String username = sponsorAccount.getUser().getName();
+            AccountPaymentRequest request = new AccountPaymentRequest(project.getProjectId(), PAYMENT_AMOUNT);
+
+            for (int i = 0; i < REFUNDS_PER_SPONSOR; i++) {
+                int transactionId = accountPaymentService
+                        .paymentByAccountId(sponsorAccount.getAccountId(), request, username)
+                        .transactionId();
+                refunds.add(new int[]{sponsorAccount.getAccountId(), transactionId});
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int[] refund : refunds) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                return accountRefundService.refund(refund[0], refund[1]);
+            }));
+        }
+
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        projectFundingCounter.flush();
+        Project reloadedProject = projectRepository.findById(project.getProjectId()).orElseThrow();
+        assertEquals(0, BigDecimal.ZERO.compareTo(reloadedProject.getCurrentFunding()), "모든 환불이 프로젝트 currentFunding에서 차감되어야 합니다.");
+
+        VirtualAccount reloadedBeneficiary = virtualAccountRepository.findById(beneficiaryAccount.getAccountId()).orElseThrow();
+        assertEquals(0, BigDecimal.ZERO.compareTo(reloadedBeneficiary.getBalance()), "수혜자 계좌에서 모든 환불 금액이 출금되어야 합니다.");
+
+        for (VirtualAccount sponsorAccount : sponsorAccounts) {
+            VirtualAccount reloaded = virtualAccountRepository.findById(sponsorAccount.getAccountId()).orElseThrow();
+            assertEquals(0, INITIAL_BALANCE.compareTo(reloaded.getBalance()), "후원자 계좌 잔액이 결제 전으로 돌아와야 합니다.");
+        }
+
+        assertEquals(0, countActiveFundings(), "환불된 펀딩은 모두 취소되어야 합니다.");
+    }
+
+    private long countActiveFundings() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funding WHERE project_id = ? AND is_deleted = false",
+                Long.class, project.getProjectId());
+        return count == null ? 0 : count;
+    }
+
+    private User saveUser(String name, User.Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+
+    private VirtualAccount saveAccount(User user, BigDecimal balance) {
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(balance);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return virtualAccountRepository.save(account);
+    }
+}
@@ -22,6 +22,7 @@ import java.time.LocalDateTime;
 import static Funding.Startreum.domain.transaction.entity.Transaction.TransactionType.REMITTANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -63,13 +64,14 @@ class AccountPaymentServiceTest {
             VirtualAccount payerAccount = new VirtualAccount();
             payerAccount.setAccountId(accountId);
             payerAccount.setBalance(BigDecimal.valueOf(200));
-            when(accountQueryService.getAccount(accountId)).thenReturn(payerAccount);
 
             // 프로젝트 수혜자 계좌 설정 (초기 잔액 100)
             VirtualAccount projectAccount = new VirtualAccount();
             projectAccount.setAccountId(2);
             projectAccount.setBalance(BigDecimal.valueOf(100));
-            when(accountQueryService.getAccountByProjectId(projectId)).thenReturn(projectAccount);
+            when(accountQueryService.getAccountIdByProjectId(projectId)).thenReturn(2);
+            when(accountQueryService.lockForTransfer(accountId, 2))
+                    .thenReturn(new AccountQueryService.TransferAccounts(payerAccount, projectAccount));
 
             // 펀딩 생성 모의
             Funding funding = new Funding();
@@ -89,8 +91,10 @@ class AccountPaymentServiceTest {
             // 내부 로직: payerAccount.transferTo(paymentAmount, projectAccount)
             // 테스트를 위해 실제 transferTo가 호출되었다고 가정(예: 200-50=150)
             assertEquals(BigDecimal.valueOf(150), payerAccount.getBalance(), "결제 후 결제자 계좌 잔액이 갱신되어야 합니다.");
-            // 프로젝트 funding은 프로젝트 객체 내부에서 currentFunding이 paymentAmount만큼 증가되어야 함
-            assertEquals(paymentAmount, project.getCurrentFunding(), "프로젝트 currentFunding이 갱신되어야 합니다.");
+            // 프로젝트 currentFunding은 원자적 UPDATE로 paymentAmount만큼 증가되어야 함
+            verify(projectService).addCurrentFunding(projectId, paymentAmount);
+            // 프로젝트 수혜자 계좌에 결제 금액이 입금되어야 함 (100+50=150)
+            assertEquals(BigDecimal.valueOf(150), projectAccount.getBalance(), "결제 후 수혜자 계좌 잔액이 갱신되어야 합니다.");
 
             // 응답 검증
             assertEquals(transaction.getTransactionId(), response.transactionId());
@@ -122,13 +126,15 @@ class AccountPaymentServiceTest {
             VirtualAccount payerAccount = new VirtualAccount();
             payerAccount.setAccountId(3);
             payerAccount.setBalance(BigDecimal.valueOf(300));
-            when(accountQueryService.getAccount(username)).thenReturn(payerAccount);
+            when(accountQueryService.getAccountId(username)).thenReturn(3);
 
             // 프로젝트 수혜자 계좌 설정 (초기 잔액 50)
             VirtualAccount projectAccount = new VirtualAccount();
             projectAccount.setAccountId(4);
             projectAccount.setBalance(BigDecimal.valueOf(50));
-            when(accountQueryService.getAccountByProjectId(projectId)).thenReturn(projectAccount);
+            when(accountQueryService.getAccountIdByProjectId(projectId)).thenReturn(4);
+            when(accountQueryService.lockForTransfer(3, 4))
+                    .thenReturn(new AccountQueryService.TransferAccounts(payerAccount, projectAccount));
 
             // 펀딩 생성 모의
             Funding funding = new Funding();
@@ -148,7 +154,7 @@ class AccountPaymentServiceTest {
             // 내부 로직에 따라 payerAccount.transferTo(paymentAmount, projectAccount) 실행 후: 300-80 = 220
             assertEquals(BigDecimal.valueOf(220), payerAccount.getBalance(), "결제 후 결제자 계좌 잔액이 갱신되어야 합니다.");
             // 프로젝트 currentFunding 업데이트 확인
-            assertEquals(paymentAmount, project.getCurrentFunding(), "프로젝트 currentFunding이 갱신되어야 합니다.");
+            verify(projectService).addCurrentFunding(projectId, paymentAmount);
 
             assertEquals(transaction.getTransactionId(), response.transactionId());
             assertEquals(payerAccount.getAccountId(), response.accountId());
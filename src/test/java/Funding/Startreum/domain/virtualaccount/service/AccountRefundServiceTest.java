@@ -1,9 +1,11 @@
 package Funding.Startreum.domain.virtualaccount.service;
 
+import Funding.Startreum.common.util.Money;
 import Funding.Startreum.domain.funding.entity.Funding;
 import Funding.Startreum.domain.funding.service.FundingService;
 import Funding.Startreum.domain.project.entity.Project;
 import Funding.Startreum.domain.project.repository.ProjectRepository;
+import Funding.Startreum.domain.project.service.ProjectService;
 import Funding.Startreum.domain.transaction.entity.Transaction;
 import Funding.Startreum.domain.transaction.service.TransactionService;
 import Funding.Startreum.domain.virtualaccount.dto.response.AccountRefundResponse;
@@ -38,6 +40,9 @@ class AccountRefundServiceTest {
     @MockitoBean
     private ProjectRepository projectRepository;
 
+    @MockitoBean
+    private ProjectService projectService;
+
     @Autowired
     private AccountRefundService accountRefundService;
 
@@ -63,13 +68,14 @@ class AccountRefundServiceTest {
             VirtualAccount payerAccount = new VirtualAccount();
             payerAccount.setAccountId(payerAccountId);
             payerAccount.setBalance(BigDecimal.valueOf(100));
-            when(accountQueryService.getAccount(payerAccountId)).thenReturn(payerAccount);
 
             // 3) 수혜자 계좌 설정 (프로젝트 계좌, 초기 잔액 200)
             VirtualAccount projectAccount = spy(new VirtualAccount());
             projectAccount.setAccountId(2);
             projectAccount.setBalance(BigDecimal.valueOf(200));
-            when(accountQueryService.getReceiverAccountByTransactionId(originalTransactionId)).thenReturn(projectAccount);
+            when(accountQueryService.getReceiverAccountIdByTransactionId(originalTransactionId)).thenReturn(2);
+            when(accountQueryService.lockForTransfer(2, payerAccountId))
+                    .thenReturn(new AccountQueryService.TransferAccounts(projectAccount, payerAccount));
 
             // transferTo 메서드 호출 시 잔액 업데이트 모의
             doAnswer(invocation -> {
@@ -77,7 +83,7 @@ class AccountRefundServiceTest {
                 payerAccount.setBalance(payerAccount.getBalance().add(refundAmount));
                 projectAccount.setBalance(projectAccount.getBalance().subtract(refundAmount));
                 return null;
-            }).when(projectAccount).transferTo(eq(refundAmount), eq(payerAccount));
+            }).when(projectAccount).transferTo(eq(Money.of(refundAmount)), eq(payerAccount));
 
             // 4) 펀딩 취소 모의
             Funding canceledFunding = new Funding();
@@ -94,6 +100,7 @@ class AccountRefundServiceTest {
 
             // 6) 프로젝트 조회 및 currentFunding 업데이트 모의
             Project project = new Project();
+            project.setProjectId(300);
             project.setCurrentFunding(BigDecimal.valueOf(80));
             when(projectRepository.findProjectByTransactionId(originalTransactionId)).thenReturn(project);
 
@@ -105,7 +112,7 @@ class AccountRefundServiceTest {
             // transferTo에 의해 payerAccount 잔액은 증가(refundAmount 만큼)
             assertEquals(beforeBalance.add(refundAmount), payerAccount.getBalance(), "환불 후 결제자 계좌 잔액이 갱신되어야 합니다.");
             // 프로젝트의 currentFunding은 환불 금액만큼 차감되어야 함
-            assertEquals(BigDecimal.valueOf(80).subtract(refundAmount), project.getCurrentFunding(), "프로젝트 currentFunding이 갱신되어야 합니다.");
+            verify(projectService).addCurrentFunding(project.getProjectId(), refundAmount.negate());
 
             // 응답 검증
             assertEquals(newTransaction.getTransactionId(), response.refundTransactionId());
@@ -0,0 +1,156 @@
+package Funding.Startreum.domain.virtualaccount.service;
+
+import Funding.Startreum.domain.transaction.entity.Transaction;
+import Funding.Startreum.domain.transaction.repository.TransactionRepository;
+import Funding.Startreum.domain.users.User;
+import Funding.Startreum.domain.users.UserRepository;
+import Funding.Startreum.domain.virtualaccount.dto.response.AccountTransactionPage;
+import Funding.Startreum.domain.virtualaccount.dto.response.AccountTransactionResponse;
+import Funding.Startreum.domain.virtualaccount.entity.VirtualAccount;
+import Funding.Startreum.domain.virtualaccount.repository.VirtualAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계좌 거래 내역 키셋 조회와 배치 내보내기를 H2(test 프로필) 위에서 확인합니다.
+ * (내보내기 배치 크기를 줄여 같은 시각의 거래가 배치 경계에 걸리는 경우도 확인)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:account-statement;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "statement.export.batch-size=4"
+})
+class AccountStatementServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VirtualAccountRepository virtualAccountRepository;
+
+    private VirtualAccount account;
+    private VirtualAccount other;
+
+    @BeforeEach
+    void setUp() {
+        account = saveAccount();
+        other = saveAccount();
+
+        // 충전 5건, 출금 10건, 입금 10건 (같은 시각의 거래 포함)
+        for (int i = 0; i < 5; i++) {
+            saveTransaction(account, account, BASE.plusDays(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            saveTransaction(account, other, BASE.plusDays(i / 2).plusHours(1));
+            saveTransaction(other, account, BASE.plusDays(i / 2).plusHours(1));
+        }
+        saveTransaction(other, other, BASE.plusDays(1)); // 다른 계좌의 거래는 제외
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 모든 거래가 최신순으로 한 번씩만 나온다")
+    void pagesThroughAllTransactions() {
+        List<AccountTransactionResponse> all = new ArrayList<>();
+        String after = null;
+        do {
+            AccountTransactionPage page = accountStatementService.getTransactions(account.getAccountId(), after, 7);
+            assertTrue(page.data().size() <= 7);
+            all.addAll(page.data());
+            after = page.nextCursor();
+            assertEquals(after != null, page.hasNext());
+        } while (after != null);
+
+        assertEquals(25, all.size());
+        Set<Integer> ids = new HashSet<>();
+        all.forEach(entry -> assertTrue(ids.add(entry.transactionId()), "중복 거래: " + entry.transactionId()));
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).transactionDate().isAfter(all.get(i - 1).transactionDate()));
+        }
+        assertEquals(5, all.stream().filter(e -> e.direction() == AccountTransactionResponse.Direction.CHARGE).count());
+        assertEquals(10, all.stream().filter(e -> e.direction() == AccountTransactionResponse.Direction.OUT).count());
+        assertTrue(all.stream().filter(e -> e.direction() == AccountTransactionResponse.Direction.IN)
+                .allMatch(e -> other.getAccountId().equals(e.counterpartyAccountId())));
+    }
+
+    @Test
+    @DisplayName("CSV/NDJSON 내보내기는 기간 내 거래를 오래된 순으로 한 줄씩 쓴다")
+    void exportsCsvAndNdjson() throws Exception {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        long exported = accountStatementService.export(account.getAccountId(), AccountStatementService.ExportFormat.CSV,
+                null, null, csv);
+        String[] lines = csv.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(25, exported);
+        assertEquals(26, lines.length);
+        assertTrue(lines[0].startsWith("transactionId,"));
+        assertTrue(lines[1].contains(",CHARGE,"));
+        Set<String> exportedIds = new HashSet<>();
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(exportedIds.add(lines[i].substring(0, lines[i].indexOf(','))), "중복 거래: " + lines[i]);
+        }
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long firstDay = accountStatementService.export(account.getAccountId(), AccountStatementService.ExportFormat.NDJSON,
+                BASE.toLocalDate(), BASE.toLocalDate(), ndjson);
+        String[] jsonLines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(5, firstDay); // 첫날: 충전 1건 + 출금 2건 + 입금 2건
+        assertEquals(5, jsonLines.length);
+        assertTrue(jsonLines[0].startsWith("{\"transactionId\":"));
+    }
+
+    private void saveTransaction(VirtualAccount from, VirtualAccount to, LocalDateTime date) {
+        Transaction transaction = new Transaction();
+        transaction.setSenderAccount(from);
+        transaction.setReceiverAccount(to);
+        transaction.setAmount(BigDecimal.valueOf(1_000));
+        transaction.setType(Transaction.TransactionType.REMITTANCE);
+        transaction.setTransactionDate(date);
+        transactionRepository.save(transaction);
+    }
+
+    private VirtualAccount saveAccount() {
+        String name = "statement-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@test.com");
+        user.setPassword("password");
+        user.setRole(User.Role.SPONSOR);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+
+        VirtualAccount account = new VirtualAccount();
+        account.setUser(user);
+        account.setBalance(BigDecimal.ZERO);
+        account.setFundingBlock(false);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return virtualAccountRepository.save(account);
+    }
+}
@@ -0,0 +1,107 @@
+package Funding.Startreum.domain.virtualaccount.service;
+
+import Funding.Startreum.common.util.ApiResponse;
+import Funding.Startreum.domain.virtualaccount.entity.IdempotencyRecord;
+import Funding.Startreum.domain.virtualaccount.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 메모리 LRU를 거치지 않는 경우(다른 인스턴스, 재시작, LRU 제거)에도 같은 키의 요청이 한 번만 처리되는지 H2(test 프로필) 위에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "POST /api/account/1";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("다른 인스턴스(빈 LRU)로 같은 키를 다시 보내도 처리하지 않고 저장된 응답을 반환한다")
+    void replaysFromDatabaseOnAnotherInstance() {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<ResponseEntity<?>> action = () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.ok(ApiResponse.success("계좌 충전에 성공했습니다.", Map.of("afterMoney", 6500)));
+        };
+
+        ResponseEntity<?> first = idempotencyService.execute(key, "owner", SCOPE, Map.of("amount", 1500), action);
+        ResponseEntity<?> second = anotherInstance().execute(key, "owner", SCOPE, Map.of("amount", 1500), action);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 처리 중인 키는 409를 반환하고 처리하지 않는다")
+    void rejectsKeyInProgressOnAnotherInstance() {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        ResponseEntity<?> first = idempotencyService.execute(key, "owner", SCOPE, null, () -> {
+            // 첫 요청 처리 도중 다른 인스턴스로 재시도가 들어옴
+            ResponseEntity<?> retried = anotherInstance().execute(key, "owner", SCOPE, null, () -> {
+                executions.incrementAndGet();
+                return ResponseEntity.ok(ApiResponse.success());
+            });
+            assertEquals(HttpStatus.CONFLICT, retried.getStatusCode());
+            executions.incrementAndGet();
+            return ResponseEntity.ok(ApiResponse.success());
+        });
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("같은 키의 기록을 새로 저장하면 덮어쓰지 않고 제약 위반으로 실패한다")
+    void duplicateClaimDoesNotOverwrite() {
+        String recordKey = UUID.randomUUID().toString().replace("-", "");
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(recordKey, "hash", "claim-1", now, now.plusHours(1)));
+
+        assertThrows(DataIntegrityViolationException.class, () -> idempotencyRecordRepository.saveAndFlush(
+                new IdempotencyRecord(recordKey, "hash", "claim-2", now, now.plusHours(1))));
+        assertEquals("claim-1", idempotencyRecordRepository.findById(recordKey).orElseThrow().getClaimToken());
+    }
+
+    // 같은 DB를 쓰는 다른 인스턴스 (메모리 LRU가 비어 있음)
+    private IdempotencyService anotherInstance() {
+        return new IdempotencyService(idempotencyRecordRepository, objectMapper, new SimpleMeterRegistry(),
+                transactionManager, 24, 30, 10_000, 1_000);
+    }
+}